@@ -16,16 +16,21 @@ public enum ErrorCode {
 
     // Product
     PRODUCT_NOT_FOUND("P001", "Product not found"),
+    PRODUCT_NOT_ACTIVE("P002", "Product is not available for order"),
 
     // Inventory
     INSUFFICIENT_INVENTORY("I001", "Insufficient inventory"),
     INVENTORY_NOT_FOUND("I002", "Inventory not found"),
+    INVENTORY_CONFLICT("I003", "Inventory update conflict, please retry"),
 
     // Order
     ORDER_NOT_FOUND("O001", "Order not found"),
     INVALID_ORDER_STATUS("O002", "Invalid order status"),
     ORDER_ALREADY_PAID("O003", "Order is already paid"),
     ORDER_EXPIRED("O004", "Order has expired"),
+    ORDER_QUEUED("O005", "Waiting for admission"),
+    ORDER_INTAKE_FULL("O006", "Order intake queue is full, please retry"),
+    ORDER_INTAKE_NOT_FOUND("O007", "Order ticket not found"),
 
     // Payment
     PAYMENT_NOT_FOUND("PAY001", "Payment not found"),
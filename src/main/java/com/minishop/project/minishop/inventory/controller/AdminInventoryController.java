@@ -0,0 +1,117 @@
+package com.minishop.project.minishop.inventory.controller;
+
+import com.minishop.project.minishop.common.response.ApiResponse;
+import com.minishop.project.minishop.inventory.domain.BulkStockResult;
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.dto.AddStockRequest;
+import com.minishop.project.minishop.inventory.dto.BulkStockResponse;
+import com.minishop.project.minishop.inventory.dto.ConfigureFlashSaleRequest;
+import com.minishop.project.minishop.inventory.dto.ConfigureLowStockThresholdRequest;
+import com.minishop.project.minishop.inventory.dto.ConfigureStripesRequest;
+import com.minishop.project.minishop.inventory.dto.InventoryJournalResponse;
+import com.minishop.project.minishop.inventory.dto.InventoryLocationResponse;
+import com.minishop.project.minishop.inventory.dto.InventoryResponse;
+import com.minishop.project.minishop.inventory.dto.LockContentionResponse;
+import com.minishop.project.minishop.inventory.service.BulkStockFormat;
+import com.minishop.project.minishop.inventory.service.InventoryBulkService;
+import com.minishop.project.minishop.inventory.service.InventoryJournalService;
+import com.minishop.project.minishop.inventory.service.InventoryLockMetrics;
+import com.minishop.project.minishop.inventory.service.InventoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/inventories")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminInventoryController {
+
+    private final InventoryService inventoryService;
+    private final InventoryBulkService inventoryBulkService;
+    private final InventoryJournalService inventoryJournalService;
+    private final InventoryLockMetrics inventoryLockMetrics;
+
+    @PutMapping("/{productId}/stripes")
+    public ApiResponse<InventoryResponse> configureStripes(
+            @PathVariable Long productId,
+            @RequestBody ConfigureStripesRequest request) {
+        Inventory inventory = inventoryService.configureStripes(productId, request.getStripeCount());
+        return ApiResponse.success(InventoryResponse.from(inventory));
+    }
+
+    @PutMapping("/{productId}/flash-sale")
+    public ApiResponse<InventoryResponse> configureFlashSale(
+            @PathVariable Long productId,
+            @RequestBody ConfigureFlashSaleRequest request) {
+        boolean enabled = Boolean.TRUE.equals(request.getEnabled());
+        Inventory inventory = inventoryService.configureFlashSale(productId, enabled);
+        return ApiResponse.success(InventoryResponse.from(inventory));
+    }
+
+    /**
+     * 재고 부족 알림 기준 (0이면 해제), 가용 수량이 기준/품절을 넘나들 때 StockLevelChangedEvent 발행
+     */
+    @PutMapping("/{productId}/low-stock-threshold")
+    public ApiResponse<InventoryResponse> configureLowStockThreshold(
+            @PathVariable Long productId,
+            @RequestBody ConfigureLowStockThresholdRequest request) {
+        Inventory inventory = inventoryService.configureLowStockThreshold(productId, request.getThreshold());
+        return ApiResponse.success(InventoryResponse.from(inventory));
+    }
+
+    /**
+     * 창고 재고 추가 (inventory.locations.enabled=true), 첫 창고 추가 시 기존 재고는 그 창고로 이동
+     */
+    @PostMapping("/{productId}/locations/{locationId}/stock")
+    public ApiResponse<InventoryResponse> addStockAtLocation(
+            @PathVariable Long productId,
+            @PathVariable Long locationId,
+            @RequestBody AddStockRequest request) {
+        Inventory inventory = inventoryService.addStockAtLocation(productId, locationId, request.getQuantity());
+        return ApiResponse.success(InventoryResponse.from(inventory));
+    }
+
+    @GetMapping("/{productId}/locations")
+    public ApiResponse<List<InventoryLocationResponse>> getLocations(@PathVariable Long productId) {
+        List<InventoryLocationResponse> responses = inventoryService.getLocations(productId).stream()
+                .map(InventoryLocationResponse::from)
+                .toList();
+        return ApiResponse.success(responses);
+    }
+
+    /**
+     * 대량 재고 추가 (text/csv 또는 application/x-ndjson 스트리밍)
+     */
+    @PostMapping(value = "/stock/bulk", consumes = {"text/csv", "application/x-ndjson"})
+    public ApiResponse<BulkStockResponse> bulkAddStock(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        BulkStockResult result = inventoryBulkService.addStock(body, BulkStockFormat.fromContentType(contentType));
+        return ApiResponse.success(BulkStockResponse.from(result));
+    }
+
+    /**
+     * 변동 기록 재구성 값과 현재 재고/예약 내역 비교 (예약 누수 점검)
+     */
+    @GetMapping("/{productId}/journal")
+    public ApiResponse<InventoryJournalResponse> checkJournal(@PathVariable Long productId) {
+        return ApiResponse.success(InventoryJournalResponse.from(inventoryJournalService.check(productId)));
+    }
+
+    /**
+     * 잠금 대기 상위 상품 (Space-Saving 추정치, 상품별 대기/보유 백분위 포함)
+     */
+    @GetMapping("/lock-contention")
+    public ApiResponse<List<LockContentionResponse>> getLockContention(
+            @RequestParam(defaultValue = "10") int limit) {
+        List<LockContentionResponse> responses = inventoryLockMetrics.topContended(limit).stream()
+                .map(LockContentionResponse::from)
+                .toList();
+        return ApiResponse.success(responses);
+    }
+}
@@ -8,6 +8,9 @@ import com.minishop.project.minishop.inventory.service.InventoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/inventories")
 @RequiredArgsConstructor
@@ -23,9 +26,17 @@ public class InventoryController {
         return ApiResponse.success(InventoryResponse.from(inventory));
     }
 
+    /**
+     * 상품 목록용 일괄 가용 수량 (?productIds=1,2,3), 재고가 없는 상품은 응답에서 빠진다
+     */
+    @GetMapping("/availability")
+    public ApiResponse<Map<Long, Long>> getAvailability(@RequestParam List<Long> productIds) {
+        return ApiResponse.success(inventoryService.getAvailability(productIds));
+    }
+
     @GetMapping("/{productId}")
     public ApiResponse<InventoryResponse> getInventory(@PathVariable Long productId) {
-        Inventory inventory = inventoryService.getByProductId(productId);
+        Inventory inventory = inventoryService.getCachedByProductId(productId);
         return ApiResponse.success(InventoryResponse.from(inventory));
     }
 }
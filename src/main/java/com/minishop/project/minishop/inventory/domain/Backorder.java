@@ -0,0 +1,70 @@
+package com.minishop.project.minishop.inventory.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 재고 대기 주문 라인 (backorder)
+ *
+ * 재고가 부족할 때 대기를 선택한 주문의 상품별 수량을 기록한다.
+ * - 상품별 FIFO 순서는 id 순서 (product_id, status, id 인덱스로 대기열 범위 조회)
+ * - 재고가 들어오면 대기열 앞에서부터 채울 수 있는 만큼 한 트랜잭션으로 배정 후 ALLOCATED로 변경
+ */
+@Entity
+@Table(name = "inventory_backorders", indexes = {
+        @Index(name = "idx_inventory_backorders_queue", columnList = "product_id, status, id"),
+        @Index(name = "idx_inventory_backorders_order_id", columnList = "order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Backorder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Long quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BackorderStatus status;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    private Instant allocatedAt;
+
+    @Builder
+    public Backorder(Long id, Long orderId, Long productId, Long quantity, BackorderStatus status,
+                     Instant createdAt, Instant allocatedAt) {
+        this.id = id;
+        this.orderId = orderId;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.status = status != null ? status : BackorderStatus.WAITING;
+        this.createdAt = createdAt != null ? createdAt : Instant.now();
+        this.allocatedAt = allocatedAt;
+    }
+
+    public static Backorder create(Long orderId, Long productId, Long quantity) {
+        return Backorder.builder()
+                .orderId(orderId)
+                .productId(productId)
+                .quantity(quantity)
+                .status(BackorderStatus.WAITING)
+                .createdAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.minishop.project.minishop.inventory.domain;
+
+public enum BackorderStatus {
+    /// 재고 대기 중
+    WAITING,
+    /// 재고 배정 완료 (주문 예약 내역으로 전환됨)
+    ALLOCATED,
+    /// 주문 취소로 대기 해제
+    CANCELED
+}
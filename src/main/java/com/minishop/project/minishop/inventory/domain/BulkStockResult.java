@@ -0,0 +1,55 @@
+package com.minishop.project.minishop.inventory.domain;
+
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 재고 추가 결과
+ * 실패 행은 maxReportedErrors 개까지만 상세를 담고, 나머지는 failedRows로만 센다.
+ */
+@Getter
+public class BulkStockResult {
+
+    private final int maxReportedErrors;
+    private long totalRows;
+    private long appliedRows;
+    private long failedRows;
+    private final List<RowError> errors = new ArrayList<>();
+
+    public BulkStockResult(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public void received() {
+        totalRows++;
+    }
+
+    public void applied() {
+        appliedRows++;
+    }
+
+    public void rejected(long lineNumber, Long productId, ErrorCode errorCode, String message) {
+        failedRows++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new RowError(lineNumber, productId, errorCode.getCode(), message));
+        }
+    }
+
+    @Getter
+    public static class RowError {
+        private final long lineNumber;
+        private final Long productId;
+        private final String code;
+        private final String message;
+
+        private RowError(long lineNumber, Long productId, String code, String message) {
+            this.lineNumber = lineNumber;
+            this.productId = productId;
+            this.code = code;
+            this.message = message;
+        }
+    }
+}
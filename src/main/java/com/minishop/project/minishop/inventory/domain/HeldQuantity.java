@@ -0,0 +1,17 @@
+package com.minishop.project.minishop.inventory.domain;
+
+import lombok.Getter;
+
+/**
+ * 상품별 주문 예약 합계 (JPQL 집계 결과)
+ */
+@Getter
+public class HeldQuantity {
+    private final Long productId;
+    private final long quantity;
+
+    public HeldQuantity(Long productId, Long quantity) {
+        this.productId = productId;
+        this.quantity = quantity != null ? quantity : 0L;
+    }
+}
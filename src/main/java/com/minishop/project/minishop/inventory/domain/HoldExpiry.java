@@ -0,0 +1,19 @@
+package com.minishop.project.minishop.inventory.domain;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 주문별 예약 만료 시각 (JPQL 집계 결과)
+ */
+@Getter
+public class HoldExpiry {
+    private final Long orderId;
+    private final Instant expiresAt;
+
+    public HoldExpiry(Long orderId, Instant expiresAt) {
+        this.orderId = orderId;
+        this.expiresAt = expiresAt;
+    }
+}
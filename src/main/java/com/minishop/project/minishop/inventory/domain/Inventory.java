@@ -29,6 +29,27 @@ public class Inventory {
     @Column(nullable = false)
     private Long quantityReserved;
 
+    /// 분할(striped) 버킷 수, 0이면 단일 row로 관리
+    @Column(nullable = false)
+    private Integer stripeCount;
+
+    /// 창고(location) 수, 0이면 단일 row로 관리 (분할과 동시에 사용하지 않음)
+    @Column(nullable = false)
+    private Integer locationCount;
+
+    /// 플래시 세일 모드 (메모리 카운터로 선거절)
+    @Column(nullable = false)
+    private Boolean flashSale;
+
+    /// 재고 부족 알림 기준 (가용 수량이 이 값 이하면 LOW_STOCK), 0이면 알림 없음
+    @Column(nullable = false)
+    private Long lowStockThreshold;
+
+    /// 낙관적 락 버전 (엔티티 저장 시 자동 증가, 벌크/조건부 UPDATE는 쿼리에서 직접 증가)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -37,11 +58,16 @@ public class Inventory {
 
     @Builder
     public Inventory(Long id, Long productId, Long quantityAvailable, Long quantityReserved,
+                     Integer stripeCount, Integer locationCount, Boolean flashSale, Long lowStockThreshold,
                      Instant createdAt, Instant updatedAt) {
         this.id = id;
         this.productId = productId;
         this.quantityAvailable = quantityAvailable != null ? quantityAvailable : 0L;
         this.quantityReserved = quantityReserved != null ? quantityReserved : 0L;
+        this.stripeCount = stripeCount != null ? stripeCount : 0;
+        this.locationCount = locationCount != null ? locationCount : 0;
+        this.flashSale = flashSale != null ? flashSale : false;
+        this.lowStockThreshold = lowStockThreshold != null ? lowStockThreshold : 0L;
         this.createdAt = createdAt != null ? createdAt : Instant.now();
         this.updatedAt = updatedAt != null ? updatedAt : Instant.now();
     }
@@ -51,6 +77,10 @@ public class Inventory {
                 .productId(productId)
                 .quantityAvailable(initialQuantity)
                 .quantityReserved(0L)
+                .stripeCount(0)
+                .locationCount(0)
+                .flashSale(false)
+                .lowStockThreshold(0L)
                 .createdAt(Instant.now())
                 .updatedAt(Instant.now())
                 .build();
@@ -95,4 +125,86 @@ public class Inventory {
     public Long getTotalQuantity() {
         return quantityAvailable + quantityReserved;
     }
+
+    public boolean isStriped() {
+        return stripeCount > 0;
+    }
+
+    public boolean hasLocations() {
+        return locationCount > 0;
+    }
+
+    public boolean isFlashSale() {
+        return flashSale;
+    }
+
+    public void changeFlashSale(boolean flashSale) {
+        this.flashSale = flashSale;
+        this.updatedAt = Instant.now();
+    }
+
+    public void changeLowStockThreshold(Long lowStockThreshold) {
+        if (lowStockThreshold == null || lowStockThreshold < 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Low stock threshold must not be negative");
+        }
+        this.lowStockThreshold = lowStockThreshold;
+        this.updatedAt = Instant.now();
+    }
+
+    public StockLevel getStockLevel() {
+        return StockLevel.of(quantityAvailable, lowStockThreshold);
+    }
+
+    /// 분할 전환: 수량은 버킷으로 이동하고 본 row는 0으로 유지
+    public void stripe(int stripeCount) {
+        if (hasLocations()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Inventory stocked per location cannot be striped");
+        }
+        if (stripeCount < 2) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Stripe count must be at least 2");
+        }
+        this.stripeCount = stripeCount;
+        this.quantityAvailable = 0L;
+        this.quantityReserved = 0L;
+        this.updatedAt = Instant.now();
+    }
+
+    /// 창고 추가: 첫 창고면 수량은 창고 row로 이동하고 본 row는 0으로 유지
+    public void addLocation() {
+        if (isStriped()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Striped inventory cannot be stocked per location");
+        }
+        this.locationCount++;
+        this.quantityAvailable = 0L;
+        this.quantityReserved = 0L;
+        this.updatedAt = Instant.now();
+    }
+
+    /// 분할 해제: 버킷 합계를 본 row로 되돌림
+    public void unstripe(Long quantityAvailable, Long quantityReserved) {
+        this.stripeCount = 0;
+        this.quantityAvailable = quantityAvailable;
+        this.quantityReserved = quantityReserved;
+        this.updatedAt = Instant.now();
+    }
+
+    /// 외부 합계(분할 버킷, 메모리 엔진)를 반영한 조회 전용 사본 (영속 상태 아님)
+    public Inventory withTotals(Long quantityAvailable, Long quantityReserved) {
+        return Inventory.builder()
+                .id(id)
+                .productId(productId)
+                .quantityAvailable(quantityAvailable)
+                .quantityReserved(quantityReserved)
+                .stripeCount(stripeCount)
+                .locationCount(locationCount)
+                .flashSale(flashSale)
+                .lowStockThreshold(lowStockThreshold)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
 }
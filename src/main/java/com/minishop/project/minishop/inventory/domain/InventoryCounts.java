@@ -0,0 +1,28 @@
+package com.minishop.project.minishop.inventory.domain;
+
+import lombok.Getter;
+
+/**
+ * 재고 수량/버전 스냅샷 (JPQL 조회 결과, 낙관적 재시도용)
+ */
+@Getter
+public class InventoryCounts {
+    private final Long productId;
+    private final long quantityAvailable;
+    private final long quantityReserved;
+    private final int stripeCount;
+    private final long version;
+
+    public InventoryCounts(Long productId, Long quantityAvailable, Long quantityReserved,
+                           Integer stripeCount, Long version) {
+        this.productId = productId;
+        this.quantityAvailable = quantityAvailable;
+        this.quantityReserved = quantityReserved;
+        this.stripeCount = stripeCount;
+        this.version = version;
+    }
+
+    public boolean isStriped() {
+        return stripeCount > 0;
+    }
+}
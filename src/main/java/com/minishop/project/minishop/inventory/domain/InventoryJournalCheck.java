@@ -0,0 +1,37 @@
+package com.minishop.project.minishop.inventory.domain;
+
+import lombok.Getter;
+
+/**
+ * 변동 기록 재구성 값과 현재 재고 비교
+ *
+ * - journal*: 스냅샷 + 남은 변동 기록으로 재구성한 수량
+ * - current*: inventories(분할 시 버킷 합계) 현재 수량
+ * - heldReserved: 주문별 예약 내역(inventory_reservations) 합계
+ * currentReserved와 heldReserved가 다르면 주문에 묶이지 않은 예약(누수)이 있다.
+ */
+@Getter
+public class InventoryJournalCheck {
+    private final Long productId;
+    private final long journalAvailable;
+    private final long journalReserved;
+    private final long currentAvailable;
+    private final long currentReserved;
+    private final long heldReserved;
+
+    public InventoryJournalCheck(Long productId, long journalAvailable, long journalReserved,
+                                 long currentAvailable, long currentReserved, long heldReserved) {
+        this.productId = productId;
+        this.journalAvailable = journalAvailable;
+        this.journalReserved = journalReserved;
+        this.currentAvailable = currentAvailable;
+        this.currentReserved = currentReserved;
+        this.heldReserved = heldReserved;
+    }
+
+    public boolean isConsistent() {
+        return journalAvailable == currentAvailable
+                && journalReserved == currentReserved
+                && heldReserved == currentReserved;
+    }
+}
@@ -0,0 +1,96 @@
+package com.minishop.project.minishop.inventory.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 창고별 재고
+ *
+ * 같은 상품을 여러 창고에 보관할 때 (productId, locationId)마다 한 row를 둔다.
+ * 상품의 가용/예약 수량은 모든 창고의 합계이며, 예약은 창고 단위로 기록(InventoryReservation.locationId)된다.
+ */
+@Entity
+@Table(name = "inventory_locations", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"product_id", "location_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryLocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Long locationId;
+
+    @Column(nullable = false)
+    private Long quantityAvailable;
+
+    @Column(nullable = false)
+    private Long quantityReserved;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @Builder
+    public InventoryLocation(Long id, Long productId, Long locationId,
+                             Long quantityAvailable, Long quantityReserved, Instant updatedAt) {
+        this.id = id;
+        this.productId = productId;
+        this.locationId = locationId;
+        this.quantityAvailable = quantityAvailable != null ? quantityAvailable : 0L;
+        this.quantityReserved = quantityReserved != null ? quantityReserved : 0L;
+        this.updatedAt = updatedAt != null ? updatedAt : Instant.now();
+    }
+
+    public static InventoryLocation create(Long productId, Long locationId,
+                                           Long quantityAvailable, Long quantityReserved) {
+        return InventoryLocation.builder()
+                .productId(productId)
+                .locationId(locationId)
+                .quantityAvailable(quantityAvailable)
+                .quantityReserved(quantityReserved)
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    /// 가능한 만큼 예약하고 실제 예약한 수량 반환
+    public long reserveUpTo(long quantity) {
+        long taken = Math.min(quantity, quantityAvailable);
+        this.quantityAvailable -= taken;
+        this.quantityReserved += taken;
+        this.updatedAt = Instant.now();
+        return taken;
+    }
+
+    /// 가능한 만큼 예약 해제하고 실제 해제한 수량 반환
+    public long releaseUpTo(long quantity) {
+        long released = Math.min(quantity, quantityReserved);
+        this.quantityReserved -= released;
+        this.quantityAvailable += released;
+        this.updatedAt = Instant.now();
+        return released;
+    }
+
+    /// 가능한 만큼 예약 확정하고 실제 확정한 수량 반환
+    public long confirmUpTo(long quantity) {
+        long confirmed = Math.min(quantity, quantityReserved);
+        this.quantityReserved -= confirmed;
+        this.updatedAt = Instant.now();
+        return confirmed;
+    }
+
+    public void addStock(Long quantity) {
+        this.quantityAvailable += quantity;
+        this.updatedAt = Instant.now();
+    }
+}
@@ -0,0 +1,78 @@
+package com.minishop.project.minishop.inventory.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 재고 변동 기록 (append-only)
+ *
+ * 재고 변경마다 가용/예약 수량 증감을 한 줄씩 남긴다. 수정/삭제하지 않으며,
+ * 오래된 기록만 압축 작업이 InventorySnapshot으로 합친 뒤 삭제한다.
+ * 삽입은 InventoryJournal이 커밋 직전 JDBC 배치로 수행한다.
+ */
+@Entity
+@Table(name = "inventory_movements", indexes = {
+        @Index(name = "idx_inventory_movements_product_id", columnList = "product_id, id"),
+        @Index(name = "idx_inventory_movements_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryMovement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MovementType type;
+
+    @Column(nullable = false)
+    private Long availableDelta;
+
+    @Column(nullable = false)
+    private Long reservedDelta;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Builder
+    public InventoryMovement(Long id, Long productId, MovementType type,
+                             Long availableDelta, Long reservedDelta, Instant createdAt) {
+        this.id = id;
+        this.productId = productId;
+        this.type = type;
+        this.availableDelta = availableDelta != null ? availableDelta : 0L;
+        this.reservedDelta = reservedDelta != null ? reservedDelta : 0L;
+        this.createdAt = createdAt != null ? createdAt : Instant.now();
+    }
+
+    /// 변동 종류별 증감 규칙
+    public static InventoryMovement of(Long productId, MovementType type, long quantity) {
+        long availableDelta = switch (type) {
+            case ADD_STOCK, RELEASE -> quantity;
+            case RESERVE -> -quantity;
+            case CONFIRM -> 0L;
+        };
+        long reservedDelta = switch (type) {
+            case ADD_STOCK -> 0L;
+            case RESERVE -> quantity;
+            case RELEASE, CONFIRM -> -quantity;
+        };
+        return InventoryMovement.builder()
+                .productId(productId)
+                .type(type)
+                .availableDelta(availableDelta)
+                .reservedDelta(reservedDelta)
+                .createdAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.minishop.project.minishop.inventory.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 주문별 재고 예약 내역 (hold)
+ *
+ * Inventory.quantityReserved 합계가 어떤 주문에서 왔는지 기록한다.
+ * - 예약 시 주문/상품별로 생성 (창고별 재고 상품은 주문/상품/창고별)
+ * - 해제/확정 시 orderId 기준 일괄 삭제
+ * - expiresAt 인덱스로 만료 대상 주문을 범위 조회 (결제 완료 시 null로 변경)
+ */
+@Entity
+@Table(name = "inventory_reservations", indexes = {
+        @Index(name = "idx_inventory_reservations_order_id", columnList = "order_id"),
+        @Index(name = "idx_inventory_reservations_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    /// 예약한 창고, null이면 창고 구분 없는 재고
+    private Long locationId;
+
+    @Column(nullable = false)
+    private Long quantity;
+
+    private Instant expiresAt;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Builder
+    public InventoryReservation(Long id, Long orderId, Long productId, Long locationId, Long quantity,
+                                Instant expiresAt, Instant createdAt) {
+        this.id = id;
+        this.orderId = orderId;
+        this.productId = productId;
+        this.locationId = locationId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+        this.createdAt = createdAt != null ? createdAt : Instant.now();
+    }
+
+    public static InventoryReservation create(Long orderId, Long productId, Long locationId,
+                                              Long quantity, Instant expiresAt) {
+        return InventoryReservation.builder()
+                .orderId(orderId)
+                .productId(productId)
+                .locationId(locationId)
+                .quantity(quantity)
+                .expiresAt(expiresAt)
+                .createdAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.minishop.project.minishop.inventory.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 재고 변동 압축 스냅샷
+ *
+ * 압축된 변동 기록을 상품별 합계로 접은 값 (lastMovementId: 접은 기록 중 가장 큰 ID).
+ * IDENTITY ID는 커밋 순서와 다르므로 lastMovementId보다 작은 기록이 아직 남아 있을 수 있다.
+ * 현재 재고 재구성 = 스냅샷 + 남아 있는 변동 기록 합계
+ */
+@Entity
+@Table(name = "inventory_snapshots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventorySnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Long quantityAvailable;
+
+    @Column(nullable = false)
+    private Long quantityReserved;
+
+    @Column(nullable = false)
+    private Long lastMovementId;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @Builder
+    public InventorySnapshot(Long id, Long productId, Long quantityAvailable, Long quantityReserved,
+                             Long lastMovementId, Instant updatedAt) {
+        this.id = id;
+        this.productId = productId;
+        this.quantityAvailable = quantityAvailable != null ? quantityAvailable : 0L;
+        this.quantityReserved = quantityReserved != null ? quantityReserved : 0L;
+        this.lastMovementId = lastMovementId != null ? lastMovementId : 0L;
+        this.updatedAt = updatedAt != null ? updatedAt : Instant.now();
+    }
+
+    public static InventorySnapshot create(Long productId) {
+        return InventorySnapshot.builder()
+                .productId(productId)
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    public void fold(MovementTotals totals, long lastMovementId) {
+        this.quantityAvailable += totals.getAvailableDelta();
+        this.quantityReserved += totals.getReservedDelta();
+        this.lastMovementId = Math.max(this.lastMovementId, lastMovementId);
+        this.updatedAt = Instant.now();
+    }
+}
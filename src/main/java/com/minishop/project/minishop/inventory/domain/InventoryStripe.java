@@ -0,0 +1,103 @@
+package com.minishop.project.minishop.inventory.domain;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 인기 상품 재고 분할 버킷
+ *
+ * 하나의 상품 재고를 N개의 row로 나눠 row 락 경합을 분산한다.
+ * 상품의 가용/예약 수량은 모든 버킷의 합계이다.
+ */
+@Entity
+@Table(name = "inventory_stripes", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"product_id", "stripe_index"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryStripe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Integer stripeIndex;
+
+    @Column(nullable = false)
+    private Long quantityAvailable;
+
+    @Column(nullable = false)
+    private Long quantityReserved;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @Builder
+    public InventoryStripe(Long id, Long productId, Integer stripeIndex,
+                           Long quantityAvailable, Long quantityReserved, Instant updatedAt) {
+        this.id = id;
+        this.productId = productId;
+        this.stripeIndex = stripeIndex;
+        this.quantityAvailable = quantityAvailable != null ? quantityAvailable : 0L;
+        this.quantityReserved = quantityReserved != null ? quantityReserved : 0L;
+        this.updatedAt = updatedAt != null ? updatedAt : Instant.now();
+    }
+
+    public static InventoryStripe create(Long productId, int stripeIndex,
+                                         Long quantityAvailable, Long quantityReserved) {
+        return InventoryStripe.builder()
+                .productId(productId)
+                .stripeIndex(stripeIndex)
+                .quantityAvailable(quantityAvailable)
+                .quantityReserved(quantityReserved)
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    /// 가능한 만큼 예약하고 실제 예약한 수량 반환
+    public long reserveUpTo(long quantity) {
+        long taken = Math.min(quantity, quantityAvailable);
+        this.quantityAvailable -= taken;
+        this.quantityReserved += taken;
+        this.updatedAt = Instant.now();
+        return taken;
+    }
+
+    /// 가능한 만큼 예약 해제하고 실제 해제한 수량 반환
+    public long releaseUpTo(long quantity) {
+        long released = Math.min(quantity, quantityReserved);
+        this.quantityReserved -= released;
+        this.quantityAvailable += released;
+        this.updatedAt = Instant.now();
+        return released;
+    }
+
+    /// 가능한 만큼 예약 확정하고 실제 확정한 수량 반환
+    public long confirmUpTo(long quantity) {
+        long confirmed = Math.min(quantity, quantityReserved);
+        this.quantityReserved -= confirmed;
+        this.updatedAt = Instant.now();
+        return confirmed;
+    }
+
+    /// 재분배 시 가용 수량 재설정
+    public void rebalanceAvailable(Long quantityAvailable) {
+        if (quantityAvailable < 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Stripe quantity cannot be negative");
+        }
+        this.quantityAvailable = quantityAvailable;
+        this.updatedAt = Instant.now();
+    }
+}
@@ -0,0 +1,33 @@
+package com.minishop.project.minishop.inventory.domain;
+
+import lombok.Getter;
+
+/**
+ * 상품별 잠금 경합 요약 (Space-Saving 상위 N 항목)
+ *
+ * - estimatedWaitMicros: 누적 잠금 대기 시간 추정치 (실제 값은 estimatedWaitMicros - errorMicros 이상)
+ * - 백분위 값은 2의 거듭제곱 버킷 상한(마이크로초)
+ */
+@Getter
+public class LockContention {
+    private final Long productId;
+    private final long estimatedWaitMicros;
+    private final long errorMicros;
+    private final long samples;
+    private final long waitP50Micros;
+    private final long waitP99Micros;
+    private final long holdP50Micros;
+    private final long holdP99Micros;
+
+    public LockContention(Long productId, long estimatedWaitMicros, long errorMicros, long samples,
+                          long waitP50Micros, long waitP99Micros, long holdP50Micros, long holdP99Micros) {
+        this.productId = productId;
+        this.estimatedWaitMicros = estimatedWaitMicros;
+        this.errorMicros = errorMicros;
+        this.samples = samples;
+        this.waitP50Micros = waitP50Micros;
+        this.waitP99Micros = waitP99Micros;
+        this.holdP50Micros = holdP50Micros;
+        this.holdP99Micros = holdP99Micros;
+    }
+}
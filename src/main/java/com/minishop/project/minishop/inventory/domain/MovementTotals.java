@@ -0,0 +1,19 @@
+package com.minishop.project.minishop.inventory.domain;
+
+import lombok.Getter;
+
+/**
+ * 상품별 변동 합계 (JPQL 집계 결과)
+ */
+@Getter
+public class MovementTotals {
+    private final Long productId;
+    private final long availableDelta;
+    private final long reservedDelta;
+
+    public MovementTotals(Long productId, Long availableDelta, Long reservedDelta) {
+        this.productId = productId;
+        this.availableDelta = availableDelta != null ? availableDelta : 0L;
+        this.reservedDelta = reservedDelta != null ? reservedDelta : 0L;
+    }
+}
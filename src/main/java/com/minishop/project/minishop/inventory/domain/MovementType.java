@@ -0,0 +1,8 @@
+package com.minishop.project.minishop.inventory.domain;
+
+public enum MovementType {
+    ADD_STOCK,
+    RESERVE,
+    RELEASE,
+    CONFIRM
+}
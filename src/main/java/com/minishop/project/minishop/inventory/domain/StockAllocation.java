@@ -0,0 +1,28 @@
+package com.minishop.project.minishop.inventory.domain;
+
+import lombok.Getter;
+
+/**
+ * 예약 배정 결과 (상품/창고별 수량)
+ * locationId가 null이면 창고 구분 없는 단일 row(또는 분할 버킷)에서 예약된 수량이다.
+ */
+@Getter
+public class StockAllocation {
+    private final Long productId;
+    private final Long locationId;
+    private final long quantity;
+
+    private StockAllocation(Long productId, Long locationId, long quantity) {
+        this.productId = productId;
+        this.locationId = locationId;
+        this.quantity = quantity;
+    }
+
+    public static StockAllocation of(Long productId, long quantity) {
+        return new StockAllocation(productId, null, quantity);
+    }
+
+    public static StockAllocation at(Long productId, Long locationId, long quantity) {
+        return new StockAllocation(productId, locationId, quantity);
+    }
+}
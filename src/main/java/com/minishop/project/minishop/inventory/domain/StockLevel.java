@@ -0,0 +1,25 @@
+package com.minishop.project.minishop.inventory.domain;
+
+/**
+ * 가용 수량 구간 (재고 부족 알림 기준)
+ */
+public enum StockLevel {
+    IN_STOCK,
+    LOW_STOCK,
+    OUT_OF_STOCK;
+
+    /**
+     * @param lowStockThreshold 0이면 LOW_STOCK 구간 없음 (품절만 구분)
+     */
+    public static StockLevel of(long quantityAvailable, long lowStockThreshold) {
+        if (quantityAvailable <= 0) {
+            return OUT_OF_STOCK;
+        }
+        return quantityAvailable <= lowStockThreshold ? LOW_STOCK : IN_STOCK;
+    }
+
+    /// 더 나쁜 구간으로 이동했는지 (IN_STOCK → LOW_STOCK → OUT_OF_STOCK)
+    public boolean isWorseThan(StockLevel other) {
+        return ordinal() > other.ordinal();
+    }
+}
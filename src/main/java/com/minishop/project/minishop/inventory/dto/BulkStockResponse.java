@@ -0,0 +1,35 @@
+package com.minishop.project.minishop.inventory.dto;
+
+import com.minishop.project.minishop.inventory.domain.BulkStockResult;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BulkStockResponse {
+    private final long totalRows;
+    private final long appliedRows;
+    private final long failedRows;
+    private final List<BulkStockRowErrorResponse> errors;
+
+    private BulkStockResponse(long totalRows, long appliedRows, long failedRows,
+                              List<BulkStockRowErrorResponse> errors) {
+        this.totalRows = totalRows;
+        this.appliedRows = appliedRows;
+        this.failedRows = failedRows;
+        this.errors = errors;
+    }
+
+    public static BulkStockResponse from(BulkStockResult result) {
+        List<BulkStockRowErrorResponse> errorResponses = result.getErrors().stream()
+                .map(BulkStockRowErrorResponse::from)
+                .toList();
+
+        return new BulkStockResponse(
+                result.getTotalRows(),
+                result.getAppliedRows(),
+                result.getFailedRows(),
+                errorResponses
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.minishop.project.minishop.inventory.dto;
+
+import com.minishop.project.minishop.inventory.domain.BulkStockResult;
+import lombok.Getter;
+
+@Getter
+public class BulkStockRowErrorResponse {
+    private final long lineNumber;
+    private final Long productId;
+    private final String code;
+    private final String message;
+
+    private BulkStockRowErrorResponse(long lineNumber, Long productId, String code, String message) {
+        this.lineNumber = lineNumber;
+        this.productId = productId;
+        this.code = code;
+        this.message = message;
+    }
+
+    public static BulkStockRowErrorResponse from(BulkStockResult.RowError error) {
+        return new BulkStockRowErrorResponse(
+                error.getLineNumber(),
+                error.getProductId(),
+                error.getCode(),
+                error.getMessage()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.minishop.project.minishop.inventory.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ConfigureFlashSaleRequest {
+    private Boolean enabled;
+
+    public ConfigureFlashSaleRequest(Boolean enabled) {
+        this.enabled = enabled;
+    }
+}
@@ -0,0 +1,14 @@
+package com.minishop.project.minishop.inventory.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ConfigureLowStockThresholdRequest {
+    private Long threshold;
+
+    public ConfigureLowStockThresholdRequest(Long threshold) {
+        this.threshold = threshold;
+    }
+}
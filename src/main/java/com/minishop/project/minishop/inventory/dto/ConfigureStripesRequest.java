@@ -0,0 +1,14 @@
+package com.minishop.project.minishop.inventory.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ConfigureStripesRequest {
+    private Integer stripeCount;
+
+    public ConfigureStripesRequest(Integer stripeCount) {
+        this.stripeCount = stripeCount;
+    }
+}
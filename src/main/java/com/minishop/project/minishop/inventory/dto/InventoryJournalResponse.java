@@ -0,0 +1,39 @@
+package com.minishop.project.minishop.inventory.dto;
+
+import com.minishop.project.minishop.inventory.domain.InventoryJournalCheck;
+import lombok.Getter;
+
+@Getter
+public class InventoryJournalResponse {
+    private final Long productId;
+    private final long journalAvailable;
+    private final long journalReserved;
+    private final long currentAvailable;
+    private final long currentReserved;
+    private final long heldReserved;
+    private final boolean consistent;
+
+    private InventoryJournalResponse(Long productId, long journalAvailable, long journalReserved,
+                                     long currentAvailable, long currentReserved, long heldReserved,
+                                     boolean consistent) {
+        this.productId = productId;
+        this.journalAvailable = journalAvailable;
+        this.journalReserved = journalReserved;
+        this.currentAvailable = currentAvailable;
+        this.currentReserved = currentReserved;
+        this.heldReserved = heldReserved;
+        this.consistent = consistent;
+    }
+
+    public static InventoryJournalResponse from(InventoryJournalCheck check) {
+        return new InventoryJournalResponse(
+                check.getProductId(),
+                check.getJournalAvailable(),
+                check.getJournalReserved(),
+                check.getCurrentAvailable(),
+                check.getCurrentReserved(),
+                check.getHeldReserved(),
+                check.isConsistent()
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.minishop.project.minishop.inventory.dto;
+
+import com.minishop.project.minishop.inventory.domain.InventoryLocation;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+public class InventoryLocationResponse {
+    private final Long productId;
+    private final Long locationId;
+    private final Long quantityAvailable;
+    private final Long quantityReserved;
+    private final Instant updatedAt;
+
+    private InventoryLocationResponse(Long productId, Long locationId, Long quantityAvailable,
+                                      Long quantityReserved, Instant updatedAt) {
+        this.productId = productId;
+        this.locationId = locationId;
+        this.quantityAvailable = quantityAvailable;
+        this.quantityReserved = quantityReserved;
+        this.updatedAt = updatedAt;
+    }
+
+    public static InventoryLocationResponse from(InventoryLocation location) {
+        return new InventoryLocationResponse(
+                location.getProductId(),
+                location.getLocationId(),
+                location.getQuantityAvailable(),
+                location.getQuantityReserved(),
+                location.getUpdatedAt()
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.minishop.project.minishop.inventory.dto;
 
 import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.domain.StockLevel;
 import lombok.Getter;
 
 import java.time.Instant;
@@ -11,15 +12,26 @@ public class InventoryResponse {
     private final Long productId;
     private final Long quantityAvailable;
     private final Long quantityReserved;
+    private final Integer stripeCount;
+    private final Integer locationCount;
+    private final Boolean flashSale;
+    private final Long lowStockThreshold;
+    private final StockLevel stockLevel;
     private final Instant createdAt;
     private final Instant updatedAt;
 
     private InventoryResponse(Long id, Long productId, Long quantityAvailable,
-                             Long quantityReserved, Instant createdAt, Instant updatedAt) {
+                             Long quantityReserved, Integer stripeCount, Integer locationCount, Boolean flashSale,
+                             Long lowStockThreshold, StockLevel stockLevel, Instant createdAt, Instant updatedAt) {
         this.id = id;
         this.productId = productId;
         this.quantityAvailable = quantityAvailable;
         this.quantityReserved = quantityReserved;
+        this.stripeCount = stripeCount;
+        this.locationCount = locationCount;
+        this.flashSale = flashSale;
+        this.lowStockThreshold = lowStockThreshold;
+        this.stockLevel = stockLevel;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -30,6 +42,11 @@ public class InventoryResponse {
                 inventory.getProductId(),
                 inventory.getQuantityAvailable(),
                 inventory.getQuantityReserved(),
+                inventory.getStripeCount(),
+                inventory.getLocationCount(),
+                inventory.getFlashSale(),
+                inventory.getLowStockThreshold(),
+                inventory.getStockLevel(),
                 inventory.getCreatedAt(),
                 inventory.getUpdatedAt()
         );
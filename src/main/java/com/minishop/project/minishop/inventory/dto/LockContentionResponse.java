@@ -0,0 +1,42 @@
+package com.minishop.project.minishop.inventory.dto;
+
+import com.minishop.project.minishop.inventory.domain.LockContention;
+import lombok.Getter;
+
+@Getter
+public class LockContentionResponse {
+    private final Long productId;
+    private final long estimatedWaitMicros;
+    private final long errorMicros;
+    private final long samples;
+    private final long waitP50Micros;
+    private final long waitP99Micros;
+    private final long holdP50Micros;
+    private final long holdP99Micros;
+
+    private LockContentionResponse(Long productId, long estimatedWaitMicros, long errorMicros, long samples,
+                                   long waitP50Micros, long waitP99Micros,
+                                   long holdP50Micros, long holdP99Micros) {
+        this.productId = productId;
+        this.estimatedWaitMicros = estimatedWaitMicros;
+        this.errorMicros = errorMicros;
+        this.samples = samples;
+        this.waitP50Micros = waitP50Micros;
+        this.waitP99Micros = waitP99Micros;
+        this.holdP50Micros = holdP50Micros;
+        this.holdP99Micros = holdP99Micros;
+    }
+
+    public static LockContentionResponse from(LockContention contention) {
+        return new LockContentionResponse(
+                contention.getProductId(),
+                contention.getEstimatedWaitMicros(),
+                contention.getErrorMicros(),
+                contention.getSamples(),
+                contention.getWaitP50Micros(),
+                contention.getWaitP99Micros(),
+                contention.getHoldP50Micros(),
+                contention.getHoldP99Micros()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.minishop.project.minishop.inventory.event;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 대기 주문 배정 완료 이벤트
+ *
+ * 주문의 모든 대기 라인이 배정된 트랜잭션이 커밋된 뒤 배정 스레드에서 발행된다.
+ * 주문 쪽은 이 이벤트로 주문을 결제 대기 상태로 전환하고 예약 만료 시각을 설정한다.
+ */
+@Getter
+public class BackorderFilledEvent {
+    private final Long orderId;
+    private final Instant occurredAt;
+
+    private BackorderFilledEvent(Long orderId, Instant occurredAt) {
+        this.orderId = orderId;
+        this.occurredAt = occurredAt;
+    }
+
+    public static BackorderFilledEvent of(Long orderId) {
+        return new BackorderFilledEvent(orderId, Instant.now());
+    }
+}
@@ -0,0 +1,43 @@
+package com.minishop.project.minishop.inventory.event;
+
+import com.minishop.project.minishop.inventory.domain.StockLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 재고 구간 변경 이벤트
+ *
+ * 가용 수량이 재고 부족 기준/품절을 넘나든 경우에만 커밋 후 발행된다.
+ * - 예약: IN_STOCK → LOW_STOCK / OUT_OF_STOCK
+ * - 재고 추가/예약 해제: LOW_STOCK / OUT_OF_STOCK → 더 나은 구간 (회복)
+ */
+@Getter
+public class StockLevelChangedEvent {
+    private final Long productId;
+    private final StockLevel previousLevel;
+    private final StockLevel currentLevel;
+    private final Long quantityAvailable;
+    private final Long lowStockThreshold;
+    private final Instant occurredAt;
+
+    private StockLevelChangedEvent(Long productId, StockLevel previousLevel, StockLevel currentLevel,
+                                   Long quantityAvailable, Long lowStockThreshold, Instant occurredAt) {
+        this.productId = productId;
+        this.previousLevel = previousLevel;
+        this.currentLevel = currentLevel;
+        this.quantityAvailable = quantityAvailable;
+        this.lowStockThreshold = lowStockThreshold;
+        this.occurredAt = occurredAt;
+    }
+
+    public static StockLevelChangedEvent of(Long productId, StockLevel previousLevel, StockLevel currentLevel,
+                                            Long quantityAvailable, Long lowStockThreshold) {
+        return new StockLevelChangedEvent(productId, previousLevel, currentLevel,
+                quantityAvailable, lowStockThreshold, Instant.now());
+    }
+
+    public boolean isRecovery() {
+        return previousLevel.isWorseThan(currentLevel);
+    }
+}
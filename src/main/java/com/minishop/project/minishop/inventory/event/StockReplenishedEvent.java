@@ -0,0 +1,27 @@
+package com.minishop.project.minishop.inventory.event;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 재고 추가 이벤트
+ *
+ * 재고 추가(단건/창고별/대량)가 커밋된 뒤 상품별로 발행된다. 대기 주문 배정의 트리거로 사용한다.
+ */
+@Getter
+public class StockReplenishedEvent {
+    private final Long productId;
+    private final Long quantity;
+    private final Instant occurredAt;
+
+    private StockReplenishedEvent(Long productId, Long quantity, Instant occurredAt) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.occurredAt = occurredAt;
+    }
+
+    public static StockReplenishedEvent of(Long productId, Long quantity) {
+        return new StockReplenishedEvent(productId, quantity, Instant.now());
+    }
+}
@@ -0,0 +1,54 @@
+package com.minishop.project.minishop.inventory.repository;
+
+import com.minishop.project.minishop.inventory.domain.Backorder;
+import com.minishop.project.minishop.inventory.domain.BackorderStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BackorderRepository extends JpaRepository<Backorder, Long> {
+
+    /**
+     * 상품별 대기열 앞부분 (FIFO)
+     */
+    @Query("SELECT b FROM Backorder b WHERE b.productId = :productId AND b.status = :status ORDER BY b.id")
+    List<Backorder> findQueue(@Param("productId") Long productId,
+                              @Param("status") BackorderStatus status,
+                              Pageable pageable);
+
+    @Query("SELECT DISTINCT b.productId FROM Backorder b WHERE b.status = :status")
+    List<Long> findProductIdsByStatus(@Param("status") BackorderStatus status);
+
+    boolean existsByProductIdAndStatus(Long productId, BackorderStatus status);
+
+    @Query("SELECT DISTINCT b.orderId FROM Backorder b "
+            + "WHERE b.orderId IN :orderIds AND b.status = :status")
+    List<Long> findOrderIdsByStatus(@Param("orderIds") Collection<Long> orderIds,
+                                    @Param("status") BackorderStatus status);
+
+    /**
+     * 대기 라인 일괄 배정
+     * 대기 상태 조건으로 row 락을 잡으므로 동시에 취소된 라인은 갱신되지 않는다 (호출자가 건수로 확인).
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Backorder b SET b.status = com.minishop.project.minishop.inventory.domain.BackorderStatus.ALLOCATED, "
+            + "b.allocatedAt = :now "
+            + "WHERE b.id IN :ids AND b.status = com.minishop.project.minishop.inventory.domain.BackorderStatus.WAITING")
+    int markAllocated(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    /**
+     * 주문의 대기 라인 일괄 취소 (이미 배정된 라인은 주문 예약 내역으로 해제)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Backorder b SET b.status = com.minishop.project.minishop.inventory.domain.BackorderStatus.CANCELED "
+            + "WHERE b.orderId = :orderId AND b.status = com.minishop.project.minishop.inventory.domain.BackorderStatus.WAITING")
+    int cancelWaitingByOrderId(@Param("orderId") Long orderId);
+}
@@ -0,0 +1,62 @@
+package com.minishop.project.minishop.inventory.repository;
+
+import com.minishop.project.minishop.inventory.domain.InventoryLocation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface InventoryLocationRepository extends JpaRepository<InventoryLocation, Long> {
+
+    /**
+     * 창고 전체 잠금 (locationId 순서 고정으로 데드락 방지)
+     */
+    @Query("SELECT l FROM InventoryLocation l WHERE l.productId = :productId ORDER BY l.locationId")
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<InventoryLocation> findByProductIdWithLock(@Param("productId") Long productId);
+
+    @Query("SELECT l FROM InventoryLocation l WHERE l.productId = :productId AND l.locationId = :locationId")
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<InventoryLocation> findByProductIdAndLocationIdWithLock(@Param("productId") Long productId,
+                                                                     @Param("locationId") Long locationId);
+
+    List<InventoryLocation> findByProductIdOrderByLocationId(Long productId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE InventoryLocation l SET l.quantityAvailable = l.quantityAvailable - :quantity, " +
+           "l.quantityReserved = l.quantityReserved + :quantity, l.updatedAt = :now " +
+           "WHERE l.productId = :productId AND l.locationId = :locationId " +
+           "AND l.quantityAvailable >= :quantity")
+    int reserveIfAvailable(@Param("productId") Long productId,
+                           @Param("locationId") Long locationId,
+                           @Param("quantity") Long quantity,
+                           @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE InventoryLocation l SET l.quantityReserved = l.quantityReserved - :quantity, " +
+           "l.quantityAvailable = l.quantityAvailable + :quantity, l.updatedAt = :now " +
+           "WHERE l.productId = :productId AND l.locationId = :locationId " +
+           "AND l.quantityReserved >= :quantity")
+    int releaseIfReserved(@Param("productId") Long productId,
+                          @Param("locationId") Long locationId,
+                          @Param("quantity") Long quantity,
+                          @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE InventoryLocation l SET l.quantityReserved = l.quantityReserved - :quantity, " +
+           "l.updatedAt = :now " +
+           "WHERE l.productId = :productId AND l.locationId = :locationId " +
+           "AND l.quantityReserved >= :quantity")
+    int confirmIfReserved(@Param("productId") Long productId,
+                          @Param("locationId") Long locationId,
+                          @Param("quantity") Long quantity,
+                          @Param("now") Instant now);
+}
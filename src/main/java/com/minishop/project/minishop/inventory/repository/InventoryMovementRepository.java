@@ -0,0 +1,41 @@
+package com.minishop.project.minishop.inventory.repository;
+
+import com.minishop.project.minishop.inventory.domain.InventoryMovement;
+import com.minishop.project.minishop.inventory.domain.MovementTotals;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface InventoryMovementRepository extends JpaRepository<InventoryMovement, Long> {
+
+    long countByProductId(Long productId);
+
+    /**
+     * 압축 대상: cutoff 이전에 기록된 변동 (PK 순서로 afterId 다음부터)
+     */
+    @Query("SELECT m FROM InventoryMovement m WHERE m.createdAt < :cutoff AND m.id > :afterId ORDER BY m.id")
+    List<InventoryMovement> findCreatedBefore(@Param("cutoff") Instant cutoff,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+
+    /**
+     * 스냅샷 이후 남은 변동 합계 (product_id, id 인덱스)
+     */
+    @Query("SELECT new com.minishop.project.minishop.inventory.domain.MovementTotals("
+            + "m.productId, SUM(m.availableDelta), SUM(m.reservedDelta)) "
+            + "FROM InventoryMovement m WHERE m.productId = :productId GROUP BY m.productId")
+    Optional<MovementTotals> sumByProductId(@Param("productId") Long productId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM InventoryMovement m WHERE m.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,13 +1,18 @@
 package com.minishop.project.minishop.inventory.repository;
 
 import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.domain.InventoryCounts;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,5 +24,101 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
 
     Optional<Inventory> findByProductId(Long productId);
 
+    List<Inventory> findByProductIdIn(Collection<Long> productIds);
+
+    /**
+     * 다상품 일괄 잠금 (productId 순서 고정으로 데드락 방지)
+     * 분할된 상품은 본 row 대신 버킷을 잠가야 하므로 제외
+     */
+    @Query("SELECT i FROM Inventory i WHERE i.productId IN :productIds AND i.stripeCount = 0 " +
+           "ORDER BY i.productId")
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Inventory> findAllByProductIdInWithLock(@Param("productIds") Collection<Long> productIds);
+
     boolean existsByProductId(Long productId);
+
+    List<Inventory> findByFlashSaleTrue();
+
+    List<Inventory> findByLowStockThresholdGreaterThan(Long lowStockThreshold);
+
+    /**
+     * 창고별 재고 상품 확인용 (락 없이 창고 수만 조회)
+     */
+    @Query("SELECT i.locationCount FROM Inventory i WHERE i.productId = :productId")
+    Optional<Integer> findLocationCountByProductId(@Param("productId") Long productId);
+
+    @Query("SELECT i.productId FROM Inventory i WHERE i.productId IN :productIds AND i.locationCount > 0")
+    List<Long> findProductIdsWithLocations(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 분할 여부 확인용 (락 없이 버킷 수만 조회)
+     */
+    @Query("SELECT i.stripeCount FROM Inventory i WHERE i.productId = :productId")
+    Optional<Integer> findStripeCountByProductId(@Param("productId") Long productId);
+
+    /**
+     * 조건부 UPDATE 예약
+     * available >= quantity 일 때만 차감, 영향받은 row 수(0 또는 1)로 성공 여부 판단
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantityAvailable = i.quantityAvailable - :quantity, " +
+           "i.quantityReserved = i.quantityReserved + :quantity, i.updatedAt = :now, i.version = i.version + 1 " +
+           "WHERE i.productId = :productId AND i.quantityAvailable >= :quantity")
+    int reserveIfAvailable(@Param("productId") Long productId,
+                           @Param("quantity") Long quantity,
+                           @Param("now") Instant now);
+
+    /**
+     * 조건부 UPDATE 예약 해제
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantityReserved = i.quantityReserved - :quantity, " +
+           "i.quantityAvailable = i.quantityAvailable + :quantity, i.updatedAt = :now, i.version = i.version + 1 " +
+           "WHERE i.productId = :productId AND i.quantityReserved >= :quantity")
+    int releaseIfReserved(@Param("productId") Long productId,
+                          @Param("quantity") Long quantity,
+                          @Param("now") Instant now);
+
+    /**
+     * 조건부 UPDATE 예약 확정
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantityReserved = i.quantityReserved - :quantity, " +
+           "i.updatedAt = :now, i.version = i.version + 1 " +
+           "WHERE i.productId = :productId AND i.quantityReserved >= :quantity")
+    int confirmIfReserved(@Param("productId") Long productId,
+                          @Param("quantity") Long quantity,
+                          @Param("now") Instant now);
+
+    /**
+     * 재고 추가 (상대값 UPDATE)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantityAvailable = i.quantityAvailable + :quantity, " +
+           "i.updatedAt = :now, i.version = i.version + 1 WHERE i.productId = :productId")
+    int increaseAvailable(@Param("productId") Long productId,
+                          @Param("quantity") Long quantity,
+                          @Param("now") Instant now);
+
+    /**
+     * 낙관적 방식 조회 (영속성 컨텍스트를 거치지 않는 수량/버전 스냅샷)
+     */
+    @Query("SELECT new com.minishop.project.minishop.inventory.domain.InventoryCounts("
+            + "i.productId, i.quantityAvailable, i.quantityReserved, i.stripeCount, i.version) "
+            + "FROM Inventory i WHERE i.productId = :productId")
+    Optional<InventoryCounts> findCountsByProductId(@Param("productId") Long productId);
+
+    /**
+     * 버전 비교 UPDATE (조회 이후 다른 트랜잭션이 변경했으면 0건)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantityAvailable = i.quantityAvailable + :availableDelta, " +
+           "i.quantityReserved = i.quantityReserved + :reservedDelta, " +
+           "i.updatedAt = :now, i.version = i.version + 1 " +
+           "WHERE i.productId = :productId AND i.version = :version")
+    int updateIfVersion(@Param("productId") Long productId,
+                        @Param("availableDelta") Long availableDelta,
+                        @Param("reservedDelta") Long reservedDelta,
+                        @Param("version") Long version,
+                        @Param("now") Instant now);
 }
@@ -0,0 +1,79 @@
+package com.minishop.project.minishop.inventory.repository;
+
+import com.minishop.project.minishop.inventory.domain.HeldQuantity;
+import com.minishop.project.minishop.inventory.domain.HoldExpiry;
+import com.minishop.project.minishop.inventory.domain.InventoryReservation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface InventoryReservationRepository extends JpaRepository<InventoryReservation, Long> {
+
+    List<InventoryReservation> findByOrderId(Long orderId);
+
+    boolean existsByOrderId(Long orderId);
+
+    /**
+     * 주문 단위 일괄 삭제 (해제/확정 후)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM InventoryReservation r WHERE r.orderId = :orderId")
+    int deleteByOrderId(@Param("orderId") Long orderId);
+
+    /**
+     * 결제 완료 등으로 만료 대상에서 제외
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryReservation r SET r.expiresAt = NULL WHERE r.orderId = :orderId")
+    int clearExpiryByOrderId(@Param("orderId") Long orderId);
+
+    /**
+     * 대기 주문 배정 완료 후 결제 대기 만료 시각 설정
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryReservation r SET r.expiresAt = :expiresAt WHERE r.orderId = :orderId")
+    int updateExpiryByOrderId(@Param("orderId") Long orderId, @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * 만료된 예약의 주문 ID 조회 (expires_at 인덱스 범위 조회)
+     */
+    @Query("SELECT DISTINCT r.orderId FROM InventoryReservation r WHERE r.expiresAt < :now ORDER BY r.orderId")
+    List<Long> findOrderIdsExpiredBefore(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * 만료된 예약의 주문 ID 다음 페이지 (orderId 커서, 만료 처리 중 실패한 주문을 같은 점검에서 다시 읽지 않음)
+     */
+    @Query("SELECT DISTINCT r.orderId FROM InventoryReservation r "
+            + "WHERE r.expiresAt < :now AND r.orderId > :afterOrderId ORDER BY r.orderId")
+    List<Long> findOrderIdsExpiredBeforeAfter(@Param("now") Instant now,
+                                              @Param("afterOrderId") Long afterOrderId,
+                                              Pageable pageable);
+
+    @Query("SELECT COUNT(DISTINCT r.orderId) FROM InventoryReservation r WHERE r.expiresAt < :now")
+    long countOrdersExpiredBefore(@Param("now") Instant now);
+
+    @Query("SELECT COALESCE(SUM(r.quantity), 0) FROM InventoryReservation r WHERE r.productId = :productId")
+    long sumQuantityByProductId(@Param("productId") Long productId);
+
+    /**
+     * 상품별 예약 합계 (메모리 재고 엔진 기동 시 예약 수량 대조용)
+     */
+    @Query("SELECT new com.minishop.project.minishop.inventory.domain.HeldQuantity(r.productId, SUM(r.quantity)) "
+            + "FROM InventoryReservation r GROUP BY r.productId ORDER BY r.productId")
+    List<HeldQuantity> sumQuantityGroupByProductId();
+
+    /**
+     * 만료 시각이 있는 주문별 예약 만료 시각 (주문 만료 타이밍 휠 복원용, orderId 커서)
+     */
+    @Query("SELECT new com.minishop.project.minishop.inventory.domain.HoldExpiry(r.orderId, MIN(r.expiresAt)) "
+            + "FROM InventoryReservation r WHERE r.expiresAt IS NOT NULL AND r.orderId > :afterOrderId "
+            + "GROUP BY r.orderId ORDER BY r.orderId")
+    List<HoldExpiry> findHoldExpiries(@Param("afterOrderId") Long afterOrderId, Pageable pageable);
+}
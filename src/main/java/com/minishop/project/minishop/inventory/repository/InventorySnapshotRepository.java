@@ -0,0 +1,17 @@
+package com.minishop.project.minishop.inventory.repository;
+
+import com.minishop.project.minishop.inventory.domain.InventorySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface InventorySnapshotRepository extends JpaRepository<InventorySnapshot, Long> {
+
+    Optional<InventorySnapshot> findByProductId(Long productId);
+
+    List<InventorySnapshot> findByProductIdIn(Collection<Long> productIds);
+}
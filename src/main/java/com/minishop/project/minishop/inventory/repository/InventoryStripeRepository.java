@@ -0,0 +1,60 @@
+package com.minishop.project.minishop.inventory.repository;
+
+import com.minishop.project.minishop.inventory.domain.InventoryStripe;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface InventoryStripeRepository extends JpaRepository<InventoryStripe, Long> {
+
+    /**
+     * 버킷 전체 잠금 (stripeIndex 순서 고정으로 데드락 방지)
+     */
+    @Query("SELECT s FROM InventoryStripe s WHERE s.productId = :productId ORDER BY s.stripeIndex")
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<InventoryStripe> findByProductIdWithLock(@Param("productId") Long productId);
+
+    List<InventoryStripe> findByProductIdOrderByStripeIndex(Long productId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE InventoryStripe s SET s.quantityAvailable = s.quantityAvailable - :quantity, " +
+           "s.quantityReserved = s.quantityReserved + :quantity, s.updatedAt = :now " +
+           "WHERE s.productId = :productId AND s.stripeIndex = :stripeIndex " +
+           "AND s.quantityAvailable >= :quantity")
+    int reserveIfAvailable(@Param("productId") Long productId,
+                           @Param("stripeIndex") Integer stripeIndex,
+                           @Param("quantity") Long quantity,
+                           @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE InventoryStripe s SET s.quantityReserved = s.quantityReserved - :quantity, " +
+           "s.quantityAvailable = s.quantityAvailable + :quantity, s.updatedAt = :now " +
+           "WHERE s.productId = :productId AND s.stripeIndex = :stripeIndex " +
+           "AND s.quantityReserved >= :quantity")
+    int releaseIfReserved(@Param("productId") Long productId,
+                          @Param("stripeIndex") Integer stripeIndex,
+                          @Param("quantity") Long quantity,
+                          @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE InventoryStripe s SET s.quantityReserved = s.quantityReserved - :quantity, " +
+           "s.updatedAt = :now " +
+           "WHERE s.productId = :productId AND s.stripeIndex = :stripeIndex " +
+           "AND s.quantityReserved >= :quantity")
+    int confirmIfReserved(@Param("productId") Long productId,
+                          @Param("stripeIndex") Integer stripeIndex,
+                          @Param("quantity") Long quantity,
+                          @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM InventoryStripe s WHERE s.productId = :productId")
+    int deleteByProductId(@Param("productId") Long productId);
+}
@@ -0,0 +1,28 @@
+package com.minishop.project.minishop.inventory.scheduler;
+
+import com.minishop.project.minishop.inventory.service.BackorderService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기 주문 배정 점검 스케줄러 (inventory.backorder.enabled=true)
+ *
+ * 재고 추가 외의 경로(주문 취소, 예약 만료)로 돌아온 재고와 실패한 배정을 주기적으로 다시 시도한다.
+ * 대기 라인이 있는 상품만 배정 작업에 넣는다.
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.backorder.enabled", havingValue = "true")
+public class BackorderAllocationScheduler {
+
+    private final BackorderService backorderService;
+
+    public BackorderAllocationScheduler(BackorderService backorderService) {
+        this.backorderService = backorderService;
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.backorder.sweep-interval-millis:10000}")
+    public void allocate() {
+        backorderService.allocateWaiting();
+    }
+}
@@ -0,0 +1,34 @@
+package com.minishop.project.minishop.inventory.scheduler;
+
+import com.minishop.project.minishop.inventory.service.InventoryJournalService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 재고 변동 기록 압축 스케줄러
+ *
+ * 보존 기간(retention)이 지난 변동 기록을 상품별 스냅샷으로 접는다.
+ * 최근 기록은 그대로 두어 감사/추적에 사용한다.
+ */
+@Component
+public class InventoryJournalCompactionScheduler {
+
+    private final InventoryJournalService journalService;
+    private final Duration retention;
+
+    public InventoryJournalCompactionScheduler(
+            InventoryJournalService journalService,
+            @Value("${inventory.journal.retention-minutes:60}") long retentionMinutes) {
+        this.journalService = journalService;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.journal.compaction-interval-millis:300000}")
+    public void compact() {
+        journalService.compact(Instant.now().minus(retention));
+    }
+}
@@ -0,0 +1,33 @@
+package com.minishop.project.minishop.inventory.scheduler;
+
+import com.minishop.project.minishop.inventory.service.MemoryInventoryEngine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 재고 엔진 주기 작업 (inventory.engine=MEMORY)
+ *
+ * - reconcile: 변경된 상품 합계를 inventories 테이블에 반영
+ * - checkpoint: 메모리 상태를 체크포인트로 기록하고 반영된 WAL 세그먼트 삭제 (재기동 시 재생 구간 단축)
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.engine", havingValue = "MEMORY")
+public class MemoryInventoryScheduler {
+
+    private final MemoryInventoryEngine engine;
+
+    public MemoryInventoryScheduler(MemoryInventoryEngine engine) {
+        this.engine = engine;
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.memory.reconcile-interval-millis:1000}")
+    public void reconcile() {
+        engine.pushTotals();
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.memory.checkpoint-interval-millis:60000}")
+    public void checkpoint() {
+        engine.checkpoint();
+    }
+}
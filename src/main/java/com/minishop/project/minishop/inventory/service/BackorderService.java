@@ -0,0 +1,280 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.Backorder;
+import com.minishop.project.minishop.inventory.domain.BackorderStatus;
+import com.minishop.project.minishop.inventory.domain.StockAllocation;
+import com.minishop.project.minishop.inventory.event.BackorderFilledEvent;
+import com.minishop.project.minishop.inventory.event.StockReplenishedEvent;
+import com.minishop.project.minishop.inventory.repository.BackorderRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 대기 주문 (backorder)
+ *
+ * 재고 부족 시 대기를 선택한 주문의 수요를 상품별 대기열에 저장하고,
+ * 재고가 들어오면 대기열 앞에서부터 한 트랜잭션으로 배정한다. 재시도 요청 대신 입고당 한 번의 일괄 배정.
+ *
+ * 규칙:
+ * - FIFO: 앞 라인을 채울 수 없으면 뒤 라인도 배정하지 않는다 (작은 주문의 새치기 방지)
+ * - 배정 = 대기 라인 ALLOCATED 변경 + 합계 수량 reserveAll 한 번 + 주문별 예약 내역(만료 없음) 기록
+ * - 주문의 모든 라인이 배정되면 같은 트랜잭션에서 BackorderFilledEvent 발행 (주문 전환 실패 시 배정도 롤백)
+ * - 배정은 단일 스레드에서 상품 단위로 실행, 같은 상품의 중복 신호는 한 번으로 합친다
+ * - 트리거: 재고 추가 커밋(StockReplenishedEvent), 대기 등록 커밋, 주기 점검(예약 해제/만료로 돌아온 재고)
+ * - 실패(동시 예약으로 재고 부족 등)는 롤백 후 다음 신호에서 다시 시도하고 inventory.backorder.failures 카운터를 올린다
+ */
+@Service
+public class BackorderService {
+
+    private final BackorderRepository backorderRepository;
+    private final InventoryRepository inventoryRepository;
+    private final InventoryService inventoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor allocator;
+    private final Counter allocatedCounter;
+    private final Counter failureCounter;
+    private final boolean enabled;
+    private final int batchSize;
+
+    /// 대기 라인이 있는 상품 (재고 추가 신호 필터)
+    private final Set<Long> waitingProducts = ConcurrentHashMap.newKeySet();
+    /// 배정 작업이 큐에 들어가 있는 상품 (중복 신호 병합)
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+
+    public BackorderService(
+            BackorderRepository backorderRepository,
+            InventoryRepository inventoryRepository,
+            InventoryService inventoryService,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.backorder.enabled:false}") boolean enabled,
+            @Value("${inventory.backorder.batch-size:500}") int batchSize) {
+        this.backorderRepository = backorderRepository;
+        this.inventoryRepository = inventoryRepository;
+        this.inventoryService = inventoryService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.allocator = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "inventory-backorder");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.allocatedCounter = Counter.builder("inventory.backorder.allocated")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("inventory.backorder.failures")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주문의 상품별 수량을 대기열에 등록
+     * 커밋 후 바로 배정을 시도하므로 재고가 있는 라인은 곧 배정된다.
+     */
+    @Transactional
+    public void enqueue(Long orderId, Map<Long, Long> quantities) {
+        if (!enabled) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Backorders are disabled");
+        }
+        SortedMap<Long, Long> sorted = new TreeMap<>(quantities);
+        for (Long productId : sorted.keySet()) {
+            if (!inventoryRepository.existsByProductId(productId)) {
+                throw new BusinessException(ErrorCode.INVENTORY_NOT_FOUND);
+            }
+        }
+
+        backorderRepository.saveAll(sorted.entrySet().stream()
+                .map(line -> Backorder.create(orderId, line.getKey(), line.getValue()))
+                .toList());
+        afterCommit(() -> sorted.keySet().forEach(this::schedule));
+    }
+
+    /**
+     * 주문의 대기 라인 취소 (이미 배정된 라인은 호출자가 releaseByOrder로 해제)
+     */
+    @Transactional
+    public int cancel(Long orderId) {
+        return backorderRepository.cancelWaitingByOrderId(orderId);
+    }
+
+    @EventListener
+    public void onStockReplenished(StockReplenishedEvent event) {
+        if (waitingProducts.contains(event.getProductId())) {
+            schedule(event.getProductId());
+        }
+    }
+
+    /**
+     * 대기 라인이 있는 모든 상품 배정 시도 (주기 점검)
+     */
+    public void allocateWaiting() {
+        waitingProducts.forEach(this::schedule);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadWaitingProducts() {
+        if (!enabled) {
+            return;
+        }
+        backorderRepository.findProductIdsByStatus(BackorderStatus.WAITING).forEach(this::schedule);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        allocator.shutdown();
+    }
+
+    private void schedule(Long productId) {
+        waitingProducts.add(productId);
+        if (!scheduled.add(productId)) {
+            return;
+        }
+        try {
+            allocator.execute(() -> {
+                // 실행 중 들어온 신호는 다음 작업으로 (실행 전에 해제)
+                scheduled.remove(productId);
+                allocate(productId);
+            });
+        } catch (RejectedExecutionException e) {
+            scheduled.remove(productId);
+        }
+    }
+
+    private void allocate(Long productId) {
+        try {
+            Progress progress;
+            do {
+                progress = transactionTemplate.execute(status -> allocateBatch(productId, status));
+            } while (progress == Progress.MORE);
+
+            // 단일 스레드에서 실행되므로 이후 등록된 대기 라인은 뒤따르는 작업이 다시 추가한다
+            if (progress == Progress.EMPTY) {
+                waitingProducts.remove(productId);
+            }
+        } catch (BusinessException | DataAccessException e) {
+            failureCounter.increment();
+        }
+    }
+
+    /**
+     * 대기열 앞부분을 가용 수량만큼 배정
+     */
+    private Progress allocateBatch(Long productId, TransactionStatus status) {
+        List<Backorder> queue = backorderRepository.findQueue(productId, BackorderStatus.WAITING,
+                PageRequest.of(0, batchSize));
+        if (queue.isEmpty()) {
+            return Progress.EMPTY;
+        }
+
+        long remaining = inventoryService.getByProductId(productId).getQuantityAvailable();
+        List<Backorder> filled = new ArrayList<>();
+        for (Backorder line : queue) {
+            if (line.getQuantity() > remaining) {
+                break;
+            }
+            filled.add(line);
+            remaining -= line.getQuantity();
+        }
+        if (filled.isEmpty()) {
+            return Progress.WAITING;
+        }
+
+        List<Long> ids = filled.stream().map(Backorder::getId).toList();
+        if (backorderRepository.markAllocated(ids, Instant.now()) != ids.size()) {
+            // 동시에 취소된 라인이 있음: 롤백 후 갱신된 대기열로 다시 계산
+            status.setRollbackOnly();
+            return Progress.MORE;
+        }
+
+        long total = filled.stream().mapToLong(Backorder::getQuantity).sum();
+        hold(filled, inventoryService.reserveAll(Map.of(productId, total)));
+
+        Set<Long> orderIds = new HashSet<>();
+        filled.forEach(line -> orderIds.add(line.getOrderId()));
+        orderIds.removeAll(backorderRepository.findOrderIdsByStatus(orderIds, BackorderStatus.WAITING));
+        orderIds.stream().sorted().forEach(orderId -> eventPublisher.publishEvent(BackorderFilledEvent.of(orderId)));
+
+        allocatedCounter.increment(filled.size());
+        return filled.size() == batchSize ? Progress.MORE : Progress.WAITING;
+    }
+
+    /**
+     * 배정 결과(창고별로 나뉠 수 있음)를 대기 라인 순서대로 나눠 주문별 예약 내역으로 기록
+     * 결제 대기 만료 시각은 주문 전환 시 설정한다.
+     */
+    private void hold(List<Backorder> filled, List<StockAllocation> allocations) {
+        int index = 0;
+        long left = allocations.get(0).getQuantity();
+        for (Backorder line : filled) {
+            List<StockAllocation> lineAllocations = new ArrayList<>();
+            long needed = line.getQuantity();
+            while (needed > 0) {
+                StockAllocation source = allocations.get(index);
+                long taken = Math.min(needed, left);
+                lineAllocations.add(StockAllocation.at(source.getProductId(), source.getLocationId(), taken));
+                needed -= taken;
+                left -= taken;
+                if (left == 0 && ++index < allocations.size()) {
+                    left = allocations.get(index).getQuantity();
+                }
+            }
+            inventoryService.holdForOrder(line.getOrderId(), lineAllocations, null);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private enum Progress {
+        /// 대기 라인 없음
+        EMPTY,
+        /// 남은 라인은 현재 재고로 채울 수 없음
+        WAITING,
+        /// 한 배치를 모두 배정했거나 대기열이 바뀜: 다시 실행
+        MORE
+    }
+}
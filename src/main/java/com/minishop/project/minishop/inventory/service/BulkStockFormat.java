@@ -0,0 +1,28 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+
+/**
+ * 대량 재고 추가 본문 형식
+ * - CSV: "productId,quantity" (첫 줄 헤더 허용)
+ * - NDJSON: 줄마다 {"productId":1,"quantity":10}
+ */
+public enum BulkStockFormat {
+    CSV,
+    NDJSON;
+
+    public static BulkStockFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            String normalized = contentType.toLowerCase();
+            if (normalized.contains("ndjson")) {
+                return NDJSON;
+            }
+            if (normalized.contains("csv")) {
+                return CSV;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "Content-Type must be text/csv or application/x-ndjson");
+    }
+}
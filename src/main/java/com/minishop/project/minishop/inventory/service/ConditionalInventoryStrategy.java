@@ -0,0 +1,139 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeSet;
+
+/**
+ * 조건부 UPDATE: 검증과 변경을 UPDATE 한 번으로 처리, 영향받은 row 수(0 또는 1)로 성공 여부 판단
+ * 일괄 처리는 productId 순서로 한 줄씩 UPDATE하고, 실패 시 예외로 트랜잭션 전체를 롤백한다.
+ */
+@Component
+public class ConditionalInventoryStrategy implements InventoryConcurrencyStrategy {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryLockMetrics lockMetrics;
+
+    public ConditionalInventoryStrategy(InventoryRepository inventoryRepository, InventoryLockMetrics lockMetrics) {
+        this.inventoryRepository = inventoryRepository;
+        this.lockMetrics = lockMetrics;
+    }
+
+    @Override
+    public ReservationMode mode() {
+        return ReservationMode.CONDITIONAL;
+    }
+
+    @Override
+    public void addStock(Long productId, Long quantity) {
+        int updated = lockMetrics.measure("add_stock", productId,
+                () -> inventoryRepository.increaseAvailable(productId, quantity, Instant.now()));
+        if (updated == 0) {
+            throw new BusinessException(ErrorCode.INVENTORY_NOT_FOUND);
+        }
+    }
+
+    @Override
+    public void reserve(Long productId, Long quantity) {
+        int updated = lockMetrics.measure("reserve", productId,
+                () -> inventoryRepository.reserveIfAvailable(productId, quantity, Instant.now()));
+        if (updated == 0) {
+            throw failure(productId, ErrorCode.INSUFFICIENT_INVENTORY, null);
+        }
+    }
+
+    @Override
+    public void release(Long productId, Long quantity) {
+        int updated = lockMetrics.measure("release", productId,
+                () -> inventoryRepository.releaseIfReserved(productId, quantity, Instant.now()));
+        if (updated == 0) {
+            throw failure(productId, ErrorCode.INVALID_INPUT_VALUE, "Cannot release more than reserved");
+        }
+    }
+
+    @Override
+    public void confirm(Long productId, Long quantity) {
+        int updated = lockMetrics.measure("confirm", productId,
+                () -> inventoryRepository.confirmIfReserved(productId, quantity, Instant.now()));
+        if (updated == 0) {
+            throw failure(productId, ErrorCode.INVALID_INPUT_VALUE, "Cannot confirm more than reserved");
+        }
+    }
+
+    @Override
+    public Set<Long> reserveAll(SortedMap<Long, Long> quantities) {
+        Set<Long> unhandled = new TreeSet<>();
+        for (Map.Entry<Long, Long> line : quantities.entrySet()) {
+            Long productId = line.getKey();
+            int updated = lockMetrics.measure("reserve_all", productId,
+                    () -> inventoryRepository.reserveIfAvailable(productId, line.getValue(), Instant.now()));
+            if (updated == 0 && !isUnhandled(productId, unhandled)) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY,
+                        "Insufficient inventory for product " + productId);
+            }
+        }
+        return unhandled;
+    }
+
+    @Override
+    public Set<Long> releaseAll(SortedMap<Long, Long> quantities) {
+        Set<Long> unhandled = new TreeSet<>();
+        for (Map.Entry<Long, Long> line : quantities.entrySet()) {
+            Long productId = line.getKey();
+            int updated = lockMetrics.measure("release_order", productId,
+                    () -> inventoryRepository.releaseIfReserved(productId, line.getValue(), Instant.now()));
+            if (updated == 0 && !isUnhandled(productId, unhandled)) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Cannot release more than reserved");
+            }
+        }
+        return unhandled;
+    }
+
+    @Override
+    public Set<Long> confirmAll(SortedMap<Long, Long> quantities) {
+        Set<Long> unhandled = new TreeSet<>();
+        for (Map.Entry<Long, Long> line : quantities.entrySet()) {
+            Long productId = line.getKey();
+            int updated = lockMetrics.measure("confirm_order", productId,
+                    () -> inventoryRepository.confirmIfReserved(productId, line.getValue(), Instant.now()));
+            if (updated == 0 && !isUnhandled(productId, unhandled)) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Cannot confirm more than reserved");
+            }
+        }
+        return unhandled;
+    }
+
+    /**
+     * 일괄 UPDATE 0건의 원인이 분할 상품 또는 row 없음이면 호출자에게 넘김
+     */
+    private boolean isUnhandled(Long productId, Set<Long> unhandled) {
+        Optional<Integer> stripeCount = inventoryRepository.findStripeCountByProductId(productId);
+        if (stripeCount.isEmpty() || stripeCount.get() > 0) {
+            unhandled.add(productId);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 조건부 UPDATE가 0건일 때 원인 구분
+     * - row 자체가 없으면 INVENTORY_NOT_FOUND
+     * - 조건 불충족이면 호출자가 지정한 에러
+     */
+    private BusinessException failure(Long productId, ErrorCode errorCode, String message) {
+        if (!inventoryRepository.existsByProductId(productId)) {
+            return new BusinessException(ErrorCode.INVENTORY_NOT_FOUND);
+        }
+        return message != null
+                ? new BusinessException(errorCode, message)
+                : new BusinessException(errorCode);
+    }
+}
@@ -0,0 +1,148 @@
+package com.minishop.project.minishop.inventory.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 플래시 세일 입장 카운터
+ *
+ * 플래시 세일 상품의 가용 재고를 메모리 카운터로 들고 있다가,
+ * 카운터에서 수량을 얻은 요청만 DB 예약으로 보낸다. 카운터가 0이면 DB를 거치지 않고 즉시 거절한다.
+ *
+ * 규칙:
+ * - DB가 Source of Truth, 카운터는 DB보다 많게(과다 입장)는 허용하되 적게(정상 구매 거절)는 안 된다
+ * - 입장 후 트랜잭션이 롤백되면 수량을 되돌린다
+ * - 해제/만료/재고 추가 커밋 후 늘어난 수량을 바로 더하고, 전용 스레드가 커밋된 DB 값을 다시 읽어 재설정한다
+ *   (재설정 도중 같은 상품의 다른 커밋이 반영되면 그 값은 버리고 뒤이은 재설정에 맡긴다)
+ * - 애플리케이션 기동 시 DB 값으로 연다
+ * - 노드별 카운터이므로 다중 노드에서는 노드마다 전체 재고만큼 입장시킬 수 있다 (최종 판정은 DB)
+ */
+@Component
+public class FlashSaleGate {
+
+    private final Map<Long, Permits> permits = new ConcurrentHashMap<>();
+    private final Set<Long> resyncPending = ConcurrentHashMap.newKeySet();
+    private final ExecutorService resyncExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "inventory-flash-sale-resync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public boolean isActive(Long productId) {
+        return permits.containsKey(productId);
+    }
+
+    /**
+     * @return true: 입장 허용 (또는 플래시 세일 상품 아님), false: 즉시 거절
+     */
+    public boolean tryAcquire(Long productId, long quantity) {
+        Permits counter = permits.get(productId);
+        if (counter == null) {
+            return true;
+        }
+        while (true) {
+            long current = counter.remaining.get();
+            if (current < quantity) {
+                return false;
+            }
+            if (counter.remaining.compareAndSet(current, current - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    public void giveBack(Long productId, long quantity) {
+        Permits counter = permits.get(productId);
+        if (counter != null) {
+            counter.remaining.addAndGet(quantity);
+        }
+    }
+
+    /**
+     * 가용 수량을 늘린 변경(해제/만료/재고 추가)이 커밋된 뒤 호출
+     * 늘어난 수량을 바로 더하고, committedAvailable로 커밋된 DB 값을 다시 읽어 재설정하도록 예약한다.
+     *
+     * @param committedAvailable 커밋된 DB 가용 수량 조회 (전용 스레드에서 호출, 호출자 트랜잭션 밖)
+     */
+    public void addCommitted(Long productId, long quantity, LongSupplier committedAvailable) {
+        Permits counter = permits.get(productId);
+        if (counter == null) {
+            return;
+        }
+        synchronized (counter) {
+            counter.commits++;
+            counter.remaining.addAndGet(quantity);
+        }
+        if (resyncPending.add(productId)) {
+            try {
+                resyncExecutor.execute(() -> resync(productId, committedAvailable));
+            } catch (RejectedExecutionException e) {
+                resyncPending.remove(productId); // 종료 중
+            }
+        }
+    }
+
+    /**
+     * 커밋된 DB 가용 수량으로 카운터 재설정
+     * 읽는 동안 다른 커밋이 반영됐으면 읽은 값이 그보다 오래됐을 수 있으므로 버린다 (그 커밋이 재설정을 다시 예약함).
+     */
+    private void resync(Long productId, LongSupplier committedAvailable) {
+        resyncPending.remove(productId);
+        Permits counter = permits.get(productId);
+        if (counter == null) {
+            return;
+        }
+        long commitsBefore;
+        synchronized (counter) {
+            commitsBefore = counter.commits;
+        }
+        long available;
+        try {
+            available = committedAvailable.getAsLong();
+        } catch (RuntimeException e) {
+            return; // 조회 실패 시 커밋 시점에 더한 값 유지 (DB보다 적지 않음)
+        }
+        synchronized (counter) {
+            if (counter.commits == commitsBefore) {
+                counter.remaining.set(available);
+            }
+        }
+    }
+
+    public void open(Long productId, long available) {
+        permits.put(productId, new Permits(available));
+    }
+
+    public void close(Long productId) {
+        permits.remove(productId);
+    }
+
+    public Long remaining(Long productId) {
+        Permits counter = permits.get(productId);
+        return counter != null ? counter.remaining.get() : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resyncExecutor.shutdown();
+    }
+
+    private static final class Permits {
+        private final AtomicLong remaining;
+        /// 가용 수량을 늘린 커밋 수 (this로 보호)
+        private long commits;
+
+        private Permits(long available) {
+            this.remaining = new AtomicLong(available);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.inventory.domain.LockContention;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 잠금 대기 상위 상품 추적 (Space-Saving)
+ *
+ * 최대 capacity개 상품만 추적한다. 새 상품이 들어오면 누적값이 가장 작은 항목을 밀어내고
+ * 그 값을 오차(error)로 물려받는다. 누적값이 전체 합의 1/capacity를 넘는 상품은 반드시 남는다.
+ * 상품별 대기/보유 히스토그램은 추적 중인 항목에만 유지된다 (밀려나면 초기화).
+ */
+class HotProductSketch {
+
+    private final int capacity;
+    private final Map<Long, Counter> counters = new HashMap<>();
+
+    HotProductSketch(int capacity) {
+        this.capacity = capacity;
+    }
+
+    synchronized void recordWait(Long productId, long waitMicros) {
+        long weight = Math.max(1, waitMicros);
+        Counter counter = counters.get(productId);
+        if (counter == null) {
+            counter = admit(productId);
+        }
+        counter.count += weight;
+        counter.samples++;
+        counter.wait.record(waitMicros);
+    }
+
+    synchronized void recordHold(Long productId, long holdMicros) {
+        Counter counter = counters.get(productId);
+        if (counter != null) {
+            counter.hold.record(holdMicros);
+        }
+    }
+
+    synchronized List<LockContention> top(int limit) {
+        return counters.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Long, Counter> entry) -> entry.getValue().count).reversed())
+                .limit(limit)
+                .map(entry -> entry.getValue().toContention(entry.getKey()))
+                .toList();
+    }
+
+    private Counter admit(Long productId) {
+        long inherited = 0;
+        if (counters.size() >= capacity) {
+            Map.Entry<Long, Counter> min = counters.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().count))
+                    .orElseThrow();
+            inherited = min.getValue().count;
+            counters.remove(min.getKey());
+        }
+        Counter counter = new Counter(inherited);
+        counters.put(productId, counter);
+        return counter;
+    }
+
+    private static final class Counter {
+        private long count;
+        private final long error;
+        private long samples;
+        private final LatencyHistogram wait = new LatencyHistogram();
+        private final LatencyHistogram hold = new LatencyHistogram();
+
+        private Counter(long inherited) {
+            this.count = inherited;
+            this.error = inherited;
+        }
+
+        private LockContention toContention(Long productId) {
+            return new LockContention(productId, count, error, samples,
+                    wait.percentile(0.5), wait.percentile(0.99),
+                    hold.percentile(0.5), hold.percentile(0.99));
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.BulkStockResult;
+import com.minishop.project.minishop.inventory.domain.MovementType;
+import com.minishop.project.minishop.inventory.event.StockReplenishedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.StreamReadFeature;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 대량 재고 추가 (야간 창고 동기화)
+ *
+ * 본문을 한 줄씩 읽어 chunk-size 행마다 한 트랜잭션으로 반영한다. 본문 전체를 메모리에 올리지 않는다.
+ *
+ * 규칙:
+ * - chunk 안의 행은 productId 순서로 정렬해 JDBC 배치 UPDATE 한 번으로 전송 (reserveAll과 같은 잠금 순서)
+ * - 형식 오류/수량 오류 행은 건너뛰고 결과에 기록, 나머지 행은 계속 반영
+ * - 분할 상품 또는 재고 없는 상품(UPDATE 0건)은 chunk 커밋 후 addStock 단건 경로로 재시도
+ *   (창고별 재고 상품은 창고를 지정해야 하므로 단건 경로에서 거절되어 결과에 기록)
+ * - 드라이버가 행별 건수 대신 SUCCESS_NO_INFO를 돌려주면 어떤 행이 반영됐는지 알 수 없으므로
+ *   chunk를 롤백하고 모든 행을 addStock 단건 경로로 반영
+ * - 커밋된 상품은 조회 캐시 무효화, 플래시 세일 카운터 보정, 재고 부족 구간 회복 알림, 재고 추가 이벤트 발행
+ * - 메모리 재고 엔진 사용 시 테이블은 엔진 합계로 덮어쓰이므로 모든 행을 addStock 단건 경로로 반영
+ */
+@Service
+public class InventoryBulkService {
+
+    private static final String ADD_STOCK_SQL =
+            "UPDATE inventories SET quantity_available = quantity_available + ?, updated_at = ?, "
+                    + "version = version + 1 "
+                    + "WHERE product_id = ? AND stripe_count = 0 AND location_count = 0";
+
+    private static final String PRODUCT_ID = "productId";
+    private static final String QUANTITY = "quantity";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader ndjsonReader;
+    private final InventoryService inventoryService;
+    private final InventoryReadCache readCache;
+    private final FlashSaleGate flashSaleGate;
+    private final InventoryJournal journal;
+    private final StockLevelTracker stockLevelTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean memoryEngineEnabled;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public InventoryBulkService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            InventoryService inventoryService,
+            InventoryReadCache readCache,
+            FlashSaleGate flashSaleGate,
+            InventoryJournal journal,
+            StockLevelTracker stockLevelTracker,
+            ApplicationEventPublisher eventPublisher,
+            ObjectProvider<MemoryInventoryEngine> memoryEngine,
+            @Value("${inventory.bulk.chunk-size:1000}") int chunkSize,
+            @Value("${inventory.bulk.max-reported-errors:1000}") int maxReportedErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 한 줄에 JSON 객체 하나, 같은 키가 두 번 나오면 형식 오류
+        this.ndjsonReader = objectMapper.reader()
+                .with(StreamReadFeature.STRICT_DUPLICATE_DETECTION)
+                .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.inventoryService = inventoryService;
+        this.readCache = readCache;
+        this.flashSaleGate = flashSaleGate;
+        this.journal = journal;
+        this.stockLevelTracker = stockLevelTracker;
+        this.eventPublisher = eventPublisher;
+        this.memoryEngineEnabled = memoryEngine.getIfAvailable() != null;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public BulkStockResult addStock(InputStream body, BulkStockFormat format) {
+        BulkStockResult result = new BulkStockResult(maxReportedErrors);
+        List<StockRow> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && isCsvHeader(format, line))) {
+                    continue;
+                }
+
+                result.received();
+                try {
+                    chunk.add(parse(format, lineNumber, line));
+                } catch (BusinessException e) {
+                    result.rejected(lineNumber, null, e.getErrorCode(), e.getMessage());
+                    continue;
+                }
+
+                if (chunk.size() >= chunkSize) {
+                    applyChunk(chunk, result);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Failed to read request body");
+        }
+
+        if (!chunk.isEmpty()) {
+            applyChunk(chunk, result);
+        }
+        return result;
+    }
+
+    private void applyChunk(List<StockRow> chunk, BulkStockResult result) {
+        List<StockRow> sorted = chunk.stream()
+                .sorted(Comparator.comparing(StockRow::productId))
+                .toList();
+        if (memoryEngineEnabled) {
+            applyEach(sorted, result);
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+
+        int[][] counts;
+        try {
+            counts = transactionTemplate.execute(status -> {
+                int[][] updated = jdbcTemplate.batchUpdate(
+                        ADD_STOCK_SQL, sorted, sorted.size(), (ps, row) -> {
+                            ps.setLong(1, row.quantity());
+                            ps.setTimestamp(2, now);
+                            ps.setLong(3, row.productId());
+                        });
+                if (hasUnknownCounts(updated[0])) {
+                    status.setRollbackOnly();
+                    return null;
+                }
+                for (int i = 0; i < sorted.size(); i++) {
+                    if (updated[0][i] > 0) {
+                        journal.record(sorted.get(i).productId(), MovementType.ADD_STOCK, sorted.get(i).quantity());
+                    }
+                }
+                return updated;
+            });
+        } catch (DataAccessException e) {
+            sorted.forEach(row -> result.rejected(row.lineNumber(), row.productId(),
+                    ErrorCode.INTERNAL_SERVER_ERROR, "Chunk update failed"));
+            return;
+        }
+        if (counts == null) {
+            // 반영 여부를 알 수 없는 배치는 롤백했으므로 행마다 단건 경로로 반영
+            applyEach(sorted, result);
+            return;
+        }
+
+        SortedMap<Long, Long> applied = new TreeMap<>();
+        List<StockRow> unmatched = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            if (counts[0][i] > 0) {
+                result.applied();
+                applied.merge(sorted.get(i).productId(), sorted.get(i).quantity(), Long::sum);
+            } else {
+                unmatched.add(sorted.get(i));
+            }
+        }
+
+        applied.forEach((productId, quantity) -> {
+            readCache.invalidate(productId);
+            flashSaleGate.addCommitted(productId, quantity,
+                    () -> inventoryService.getByProductId(productId).getQuantityAvailable());
+            if (stockLevelTracker.isTracked(productId)) {
+                long available = inventoryService.getByProductId(productId).getQuantityAvailable();
+                stockLevelTracker.publishIfCrossed(productId, quantity, available);
+            }
+            eventPublisher.publishEvent(StockReplenishedEvent.of(productId, quantity));
+        });
+
+        // 분할 상품은 버킷 재분배가 필요하므로 단건 경로 사용, 재고 없는 상품은 여기서 실패로 기록
+        applyEach(unmatched, result);
+    }
+
+    private void applyEach(List<StockRow> rows, BulkStockResult result) {
+        for (StockRow row : rows) {
+            try {
+                inventoryService.addStock(row.productId(), row.quantity());
+                result.applied();
+            } catch (BusinessException e) {
+                result.rejected(row.lineNumber(), row.productId(), e.getErrorCode(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 행별 건수를 알려주지 않는 드라이버 (조건에 맞지 않아 건너뛴 행도 SUCCESS_NO_INFO로 보고될 수 있음)
+     */
+    private boolean hasUnknownCounts(int[] updateCounts) {
+        for (int updateCount : updateCounts) {
+            if (updateCount == Statement.SUCCESS_NO_INFO) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 첫 줄이 정확히 "productId,quantity" 헤더일 때만 건너뜀 (그 외 첫 줄은 데이터 행으로 검증)
+     */
+    private boolean isCsvHeader(BulkStockFormat format, String line) {
+        if (format != BulkStockFormat.CSV) {
+            return false;
+        }
+        String[] fields = line.strip().split(",", -1);
+        return fields.length == 2
+                && fields[0].strip().equalsIgnoreCase(PRODUCT_ID)
+                && fields[1].strip().equalsIgnoreCase(QUANTITY);
+    }
+
+    private StockRow parse(BulkStockFormat format, long lineNumber, String line) {
+        StockRow row = format == BulkStockFormat.CSV
+                ? parseCsv(lineNumber, line)
+                : parseNdjson(lineNumber, line);
+        if (row.quantity() <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Quantity must be positive");
+        }
+        return row;
+    }
+
+    private StockRow parseCsv(long lineNumber, String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 2) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Expected productId,quantity");
+        }
+        try {
+            return new StockRow(lineNumber, Long.parseLong(fields[0].strip()), Long.parseLong(fields[1].strip()));
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "productId and quantity must be integers");
+        }
+    }
+
+    /**
+     * 최상위 객체의 productId/quantity만 사용, 둘 다 JSON 정수여야 함 (1.5, "5" 등은 거절)
+     */
+    private StockRow parseNdjson(long lineNumber, String line) {
+        JsonNode node;
+        try {
+            node = ndjsonReader.readTree(line);
+        } catch (JacksonException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Expected {\"productId\":..., \"quantity\":...}");
+        }
+        if (node == null || !node.isObject() || !node.has(PRODUCT_ID) || !node.has(QUANTITY)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Expected {\"productId\":..., \"quantity\":...}");
+        }
+        return new StockRow(lineNumber, integerField(node, PRODUCT_ID), integerField(node, QUANTITY));
+    }
+
+    private long integerField(JsonNode node, String name) {
+        JsonNode value = node.get(name);
+        if (!value.isIntegralNumber() || !value.canConvertToLong()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "productId and quantity must be integers");
+        }
+        return value.longValue();
+    }
+
+    private record StockRow(long lineNumber, Long productId, Long quantity) {
+    }
+}
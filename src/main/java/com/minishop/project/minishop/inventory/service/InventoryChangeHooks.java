@@ -0,0 +1,213 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.domain.MovementType;
+import com.minishop.project.minishop.inventory.event.StockReplenishedEvent;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 재고 변경에 따르는 부수 처리
+ *
+ * - 이동 기록(InventoryJournal), 조회 캐시 무효화
+ * - 재고 부족/품절 구간 알림(StockLevelTracker), 재고 보충 이벤트
+ * - 플래시 세일 입장 카운터(FlashSaleGate) 확보/보정
+ *
+ * InventoryService가 같은 트랜잭션 안에서 변경 직후 호출한다. 커밋 후 처리는 트랜잭션 동기화로 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class InventoryChangeHooks {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryStockRouter stockRouter;
+    private final FlashSaleGate flashSaleGate;
+    private final InventoryReadCache readCache;
+    private final InventoryJournal journal;
+    private final StockLevelTracker stockLevelTracker;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void stockAdded(Long productId, Long quantity) {
+        journal.record(productId, MovementType.ADD_STOCK, quantity);
+        trackStockLevel(productId, quantity);
+        scheduleFlashSaleResync(productId, quantity);
+        evict(productId);
+        afterCommit(() -> eventPublisher.publishEvent(StockReplenishedEvent.of(productId, quantity)));
+    }
+
+    public void reserved(Long productId, Long quantity) {
+        journal.record(productId, MovementType.RESERVE, quantity);
+        trackStockLevel(productId, -quantity);
+        evict(productId);
+    }
+
+    public void released(Long productId, Long quantity) {
+        journal.record(productId, MovementType.RELEASE, quantity);
+        trackStockLevel(productId, quantity);
+        scheduleFlashSaleResync(productId, quantity);
+        evict(productId);
+    }
+
+    public void confirmed(Long productId, Long quantity) {
+        journal.record(productId, MovementType.CONFIRM, quantity);
+        evict(productId);
+    }
+
+    /**
+     * 플래시 세일 카운터에서 수량 확보, 실패 시 DB 조회 없이 즉시 거절
+     * 트랜잭션 롤백 시 확보한 수량을 되돌린다. 메모리 엔진은 DB 조회가 없으므로 사용하지 않는다.
+     */
+    public void admitFlashSale(Long productId, Long quantity) {
+        if (stockRouter.usesMemoryEngine() || !flashSaleGate.isActive(productId)) {
+            return;
+        }
+        if (!flashSaleGate.tryAcquire(productId, quantity)) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY);
+        }
+        afterRollback(() -> flashSaleGate.giveBack(productId, quantity));
+    }
+
+    public void admitFlashSale(SortedMap<Long, Long> quantities) {
+        if (stockRouter.usesMemoryEngine()) {
+            return;
+        }
+        Map<Long, Long> admitted = new TreeMap<>();
+        for (Map.Entry<Long, Long> line : quantities.entrySet()) {
+            Long productId = line.getKey();
+            if (!flashSaleGate.isActive(productId)) {
+                continue;
+            }
+            if (!flashSaleGate.tryAcquire(productId, line.getValue())) {
+                admitted.forEach(flashSaleGate::giveBack);
+                throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY,
+                        "Insufficient inventory for product " + productId);
+            }
+            admitted.put(productId, line.getValue());
+        }
+        if (!admitted.isEmpty()) {
+            afterRollback(() -> admitted.forEach(flashSaleGate::giveBack));
+        }
+    }
+
+    /**
+     * 커밋 후 현재 가용 수량으로 입장 카운터를 열거나 닫음
+     */
+    public void flashSaleChanged(Long productId, boolean enabled, long available) {
+        afterCommit(() -> {
+            if (enabled) {
+                flashSaleGate.open(productId, available);
+            } else {
+                flashSaleGate.close(productId);
+            }
+        });
+    }
+
+    /**
+     * 커밋 후 알림 대상 목록에 반영
+     */
+    public void lowStockThresholdChanged(Long productId, Long threshold) {
+        afterCommit(() -> stockLevelTracker.updateThreshold(productId, threshold));
+    }
+
+    /**
+     * 조회 캐시 무효화
+     * - 즉시: 같은 트랜잭션 안의 이후 조회가 변경 전 값을 받지 않도록
+     * - 완료 후: 커밋 전 값을 적재한 다른 조회를 무효화
+     */
+    public void evict(Long productId) {
+        readCache.invalidate(productId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                readCache.invalidate(productId);
+            }
+        });
+    }
+
+    /**
+     * 기동 시 재고 부족 알림 대상 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadLowStockThresholds() {
+        for (Inventory inventory : inventoryRepository.findByLowStockThresholdGreaterThan(0L)) {
+            stockLevelTracker.updateThreshold(inventory.getProductId(), inventory.getLowStockThreshold());
+        }
+    }
+
+    /**
+     * 기동 시 플래시 세일 상품 카운터를 DB 값으로 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUpFlashSaleGates() {
+        for (Inventory inventory : inventoryRepository.findByFlashSaleTrue()) {
+            Inventory current = stockRouter.current(inventory);
+            flashSaleGate.open(current.getProductId(), current.getQuantityAvailable());
+        }
+    }
+
+    /**
+     * 해제/만료/재고 추가 커밋 후 카운터 보정
+     * 트랜잭션 안에서 읽은 값은 커밋 순서가 뒤바뀌면 더 오래된 값일 수 있으므로,
+     * 커밋 후 늘어난 수량을 더하고 DB 값은 카운터의 전용 스레드가 커밋 뒤에 다시 읽는다.
+     */
+    private void scheduleFlashSaleResync(Long productId, Long quantity) {
+        if (stockRouter.usesMemoryEngine() || !flashSaleGate.isActive(productId)) {
+            return;
+        }
+        afterCommit(() -> flashSaleGate.addCommitted(productId, quantity,
+                () -> stockRouter.find(productId).getQuantityAvailable()));
+    }
+
+    /**
+     * 재고 부족/품절 구간 변경 감지 (알림 기준이 있는 상품만 변경 후 값을 조회)
+     * - DB 엔진: 잠금 안에서 읽은 값으로 커밋 후 발행
+     * - 메모리 엔진: 커밋 후 반영(재고 추가/해제) 뒤의 값을 읽어 발행
+     */
+    private void trackStockLevel(Long productId, long availableDelta) {
+        if (!stockLevelTracker.isTracked(productId)) {
+            return;
+        }
+        if (stockRouter.usesMemoryEngine()) {
+            afterCommit(() -> stockLevelTracker.publishIfCrossed(productId, availableDelta,
+                    stockRouter.memoryAvailableQuantity(productId)));
+            return;
+        }
+        long available = stockRouter.find(productId).getQuantityAvailable();
+        afterCommit(() -> stockLevelTracker.publishIfCrossed(productId, availableDelta, available));
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void afterRollback(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package com.minishop.project.minishop.inventory.service;
+
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * 재고 row 동시성 제어 방식 (inventory.reservation.mode로 선택)
+ *
+ * 분할되지 않은 단일 row만 다루며 호출자 트랜잭션 안에서 실행된다.
+ * 분할 버킷, 메모리 엔진, 기록/캐시/알림은 InventoryService가 처리한다.
+ *
+ * 실패 규칙 (구현 공통):
+ * - row 없음: INVENTORY_NOT_FOUND
+ * - 가용 부족: INSUFFICIENT_INVENTORY, 예약 초과 해제/확정: INVALID_INPUT_VALUE
+ * - 일괄 처리(*All)는 productId 순서로 처리하며, 처리하지 않은(분할 또는 row 없음) 상품을 반환한다
+ */
+public interface InventoryConcurrencyStrategy {
+
+    ReservationMode mode();
+
+    void addStock(Long productId, Long quantity);
+
+    void reserve(Long productId, Long quantity);
+
+    void release(Long productId, Long quantity);
+
+    void confirm(Long productId, Long quantity);
+
+    /**
+     * 다상품 일괄 예약, 하나라도 부족하면 예외 (트랜잭션 롤백으로 전체 취소)
+     *
+     * @return 처리하지 않은 productId
+     */
+    Set<Long> reserveAll(SortedMap<Long, Long> quantities);
+
+    /**
+     * @return 처리하지 않은 productId
+     */
+    Set<Long> releaseAll(SortedMap<Long, Long> quantities);
+
+    /**
+     * @return 처리하지 않은 productId
+     */
+    Set<Long> confirmAll(SortedMap<Long, Long> quantities);
+}
@@ -0,0 +1,83 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.inventory.domain.InventoryMovement;
+import com.minishop.project.minishop.inventory.domain.MovementType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재고 변동 기록기
+ *
+ * 트랜잭션 안의 변동을 모아 두었다가 커밋 직전(beforeCommit) JDBC 배치 INSERT 한 번으로 기록한다.
+ * - 같은 트랜잭션이므로 재고 변경과 기록은 함께 커밋/롤백된다
+ * - IDENTITY 키라 Hibernate 삽입 배치가 동작하지 않아 JdbcTemplate을 사용
+ * - 대기 목록은 트랜잭션 동기화 객체에 두므로 REQUIRES_NEW로 중첩되면 트랜잭션별로 분리된다
+ */
+@Component
+public class InventoryJournal {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO inventory_movements (product_id, type, available_delta, reserved_delta, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public InventoryJournal(
+            JdbcTemplate jdbcTemplate,
+            @Value("${inventory.journal.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    public void record(Long productId, MovementType type, long quantity) {
+        if (!enabled) {
+            return;
+        }
+        InventoryMovement movement = InventoryMovement.of(productId, type, quantity);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(List.of(movement));
+            return;
+        }
+        pendingMovements().movements.add(movement);
+    }
+
+    private PendingMovements pendingMovements() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingMovements pending) {
+                return pending;
+            }
+        }
+        PendingMovements pending = new PendingMovements();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private void insert(List<InventoryMovement> movements) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, movements, movements.size(), (ps, movement) -> {
+            ps.setLong(1, movement.getProductId());
+            ps.setString(2, movement.getType().name());
+            ps.setLong(3, movement.getAvailableDelta());
+            ps.setLong(4, movement.getReservedDelta());
+            ps.setTimestamp(5, Timestamp.from(movement.getCreatedAt()));
+        });
+    }
+
+    private class PendingMovements implements TransactionSynchronization {
+        private final List<InventoryMovement> movements = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!movements.isEmpty()) {
+                insert(movements);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.domain.InventoryJournalCheck;
+import com.minishop.project.minishop.inventory.domain.InventoryMovement;
+import com.minishop.project.minishop.inventory.domain.InventorySnapshot;
+import com.minishop.project.minishop.inventory.domain.MovementTotals;
+import com.minishop.project.minishop.inventory.repository.InventoryMovementRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryReservationRepository;
+import com.minishop.project.minishop.inventory.repository.InventorySnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 변동 기록 압축 / 재구성
+ */
+@Service
+@RequiredArgsConstructor
+public class InventoryJournalService {
+
+    private static final int COMPACT_BATCH_SIZE = 1000;
+
+    private final InventoryMovementRepository movementRepository;
+    private final InventorySnapshotRepository snapshotRepository;
+    private final InventoryReservationRepository reservationRepository;
+    private final InventoryService inventoryService;
+
+    /**
+     * cutoff 이전 변동 기록을 상품별 스냅샷으로 접고 삭제
+     * 읽은 기록을 id로 지정해 삭제하므로 합산하지 않은 기록은 지우지 않는다.
+     * (IDENTITY id는 커밋 순서와 다르므로 id 범위로 지우면 합산 뒤 커밋된 낮은 id 기록이 접히지 않고 지워질 수 있음)
+     * 이번에 읽지 못한 늦은 커밋 기록은 다음 압축에서 접힌다.
+     *
+     * @return 삭제한 변동 기록 수
+     */
+    @Transactional
+    public int compact(Instant cutoff) {
+        int compacted = 0;
+        Long afterId = 0L;
+        List<InventoryMovement> page;
+        do {
+            page = movementRepository.findCreatedBefore(cutoff, afterId, PageRequest.of(0, COMPACT_BATCH_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getId();
+            compacted += fold(page);
+        } while (page.size() == COMPACT_BATCH_SIZE);
+        return compacted;
+    }
+
+    private int fold(List<InventoryMovement> movements) {
+        SortedMap<Long, List<InventoryMovement>> byProduct = movements.stream()
+                .collect(Collectors.groupingBy(InventoryMovement::getProductId, TreeMap::new, Collectors.toList()));
+
+        // 먼저 삭제해 다른 압축이 같은 기록을 이미 접었으면 (삭제 건수 불일치) 스냅샷 반영 전에 롤백
+        List<Long> ids = movements.stream().map(InventoryMovement::getId).toList();
+        int deleted = movementRepository.deleteByIds(ids);
+        if (deleted != ids.size()) {
+            throw new IllegalStateException("Inventory movements were compacted concurrently");
+        }
+
+        Map<Long, InventorySnapshot> snapshots = snapshotRepository.findByProductIdIn(byProduct.keySet())
+                .stream()
+                .collect(Collectors.toMap(InventorySnapshot::getProductId, Function.identity()));
+        byProduct.forEach((productId, productMovements) -> {
+            MovementTotals totals = new MovementTotals(productId,
+                    productMovements.stream().mapToLong(InventoryMovement::getAvailableDelta).sum(),
+                    productMovements.stream().mapToLong(InventoryMovement::getReservedDelta).sum());
+            long lastId = productMovements.stream().mapToLong(InventoryMovement::getId).max().orElseThrow();
+            snapshots.computeIfAbsent(productId, InventorySnapshot::create).fold(totals, lastId);
+        });
+        snapshotRepository.saveAll(snapshots.values());
+        return deleted;
+    }
+
+    /**
+     * 스냅샷 + 남은 변동 기록으로 재구성한 수량과 현재 재고/예약 내역 비교
+     */
+    @Transactional(readOnly = true)
+    public InventoryJournalCheck check(Long productId) {
+        Inventory current = inventoryService.getByProductId(productId);
+        InventorySnapshot snapshot = snapshotRepository.findByProductId(productId)
+                .orElseGet(() -> InventorySnapshot.create(productId));
+        MovementTotals tail = movementRepository.sumByProductId(productId)
+                .orElseGet(() -> new MovementTotals(productId, 0L, 0L));
+
+        return new InventoryJournalCheck(
+                productId,
+                snapshot.getQuantityAvailable() + tail.getAvailableDelta(),
+                snapshot.getQuantityReserved() + tail.getReservedDelta(),
+                current.getQuantityAvailable(),
+                current.getQuantityReserved(),
+                reservationRepository.sumQuantityByProductId(productId)
+        );
+    }
+}
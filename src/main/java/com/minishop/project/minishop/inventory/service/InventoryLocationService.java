@@ -0,0 +1,242 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.domain.InventoryLocation;
+import com.minishop.project.minishop.inventory.domain.StockAllocation;
+import com.minishop.project.minishop.inventory.repository.InventoryLocationRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 창고별 재고 처리
+ *
+ * - 예약: 한 창고로 채울 수 있는 후보 중 경합이 가장 적은 창고부터 조건부 UPDATE 시도
+ *   (경합 = 이 노드에서 해당 창고 row를 잡고 있거나 기다리는 트랜잭션 수)
+ * - 한 창고로 채울 수 없거나 후보가 모두 실패하면 전체 창고를 locationId 순서로 잠근 뒤
+ *   가용 수량이 많은 창고부터 나눠 배정
+ * - 주문 예약은 배정된 창고별로 기록되므로 해제/확정은 같은 창고 row만 변경한다
+ * - 창고 구분 없는 해제/확정(단건 API, 창고 전환 전 예약)은 전체 창고를 잠그고 locationId 순서로 처리
+ * - 잠금 조회는 같은 트랜잭션에서 먼저 읽은 엔티티를 값 갱신 없이 돌려주므로, 잠근 뒤 refresh한 값으로 계산한다
+ *   (@Version이 없어 오래된 값으로 저장하면 그 사이 커밋된 예약을 덮어씀)
+ */
+@Service
+@RequiredArgsConstructor
+public class InventoryLocationService {
+
+    /// 전체 잠금으로 넘어가기 전 조건부 UPDATE를 시도할 창고 수
+    private static final int MAX_PROBES = 2;
+
+    private final InventoryLocationRepository locationRepository;
+    private final InventoryLockMetrics lockMetrics;
+    private final EntityManager entityManager;
+
+    private final ConcurrentHashMap<LocationKey, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    @Transactional
+    public List<StockAllocation> reserve(Long productId, Long quantity) {
+        List<InventoryLocation> locations = locationRepository.findByProductIdOrderByLocationId(productId);
+        if (locations.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVENTORY_NOT_FOUND);
+        }
+
+        List<Long> candidates = locations.stream()
+                .filter(location -> location.getQuantityAvailable() >= quantity)
+                .sorted(Comparator.comparingInt((InventoryLocation location) ->
+                                contention(productId, location.getLocationId()))
+                        .thenComparing(InventoryLocation::getQuantityAvailable, Comparator.reverseOrder()))
+                .limit(MAX_PROBES)
+                .map(InventoryLocation::getLocationId)
+                .toList();
+
+        Instant now = Instant.now();
+        for (Long locationId : candidates) {
+            if (tryReserve(productId, locationId, quantity, now)) {
+                return List.of(StockAllocation.at(productId, locationId, quantity));
+            }
+        }
+        return reserveSplit(productId, quantity);
+    }
+
+    @Transactional
+    public void release(Long productId, Long locationId, Long quantity) {
+        int updated = lockMetrics.measure("release_location", productId,
+                () -> locationRepository.releaseIfReserved(productId, locationId, quantity, Instant.now()));
+        if (updated == 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Cannot release more than reserved");
+        }
+    }
+
+    @Transactional
+    public void confirm(Long productId, Long locationId, Long quantity) {
+        int updated = lockMetrics.measure("confirm_location", productId,
+                () -> locationRepository.confirmIfReserved(productId, locationId, quantity, Instant.now()));
+        if (updated == 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Cannot confirm more than reserved");
+        }
+    }
+
+    /**
+     * 창고 구분 없는 해제
+     */
+    @Transactional
+    public void release(Long productId, Long quantity) {
+        List<InventoryLocation> locations = lockAll("release_location", productId);
+        long reserved = locations.stream().mapToLong(InventoryLocation::getQuantityReserved).sum();
+        if (reserved < quantity) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Cannot release more than reserved");
+        }
+        long remaining = quantity;
+        for (int i = 0; i < locations.size() && remaining > 0; i++) {
+            remaining -= locations.get(i).releaseUpTo(remaining);
+        }
+        locationRepository.saveAll(locations);
+    }
+
+    /**
+     * 창고 구분 없는 확정
+     */
+    @Transactional
+    public void confirm(Long productId, Long quantity) {
+        List<InventoryLocation> locations = lockAll("confirm_location", productId);
+        long reserved = locations.stream().mapToLong(InventoryLocation::getQuantityReserved).sum();
+        if (reserved < quantity) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Cannot confirm more than reserved");
+        }
+        long remaining = quantity;
+        for (int i = 0; i < locations.size() && remaining > 0; i++) {
+            remaining -= locations.get(i).confirmUpTo(remaining);
+        }
+        locationRepository.saveAll(locations);
+    }
+
+    /**
+     * 창고 재고 추가 (없는 창고면 생성)
+     * 첫 창고를 만들 때는 단일 row의 기존 수량/예약을 그 창고로 옮긴다.
+     * 호출자가 Inventory row 락을 잡고 있어야 한다.
+     */
+    @Transactional
+    public void addStock(Inventory inventory, Long locationId, Long quantity) {
+        Long productId = inventory.getProductId();
+        if (inventory.hasLocations()) {
+            Optional<InventoryLocation> existing =
+                    locationRepository.findByProductIdAndLocationIdWithLock(productId, locationId);
+            if (existing.isPresent()) {
+                entityManager.refresh(existing.get());
+                existing.get().addStock(quantity);
+                locationRepository.save(existing.get());
+                return;
+            }
+        }
+
+        InventoryLocation location = inventory.hasLocations()
+                ? InventoryLocation.create(productId, locationId, quantity, 0L)
+                : InventoryLocation.create(productId, locationId,
+                        inventory.getQuantityAvailable() + quantity, inventory.getQuantityReserved());
+        inventory.addLocation();
+        locationRepository.save(location);
+    }
+
+    @Transactional(readOnly = true)
+    public List<InventoryLocation> findByProductId(Long productId) {
+        return locationRepository.findByProductIdOrderByLocationId(productId);
+    }
+
+    @Transactional(readOnly = true)
+    public Inventory totals(Inventory inventory) {
+        List<InventoryLocation> locations = findByProductId(inventory.getProductId());
+        long available = locations.stream().mapToLong(InventoryLocation::getQuantityAvailable).sum();
+        long reserved = locations.stream().mapToLong(InventoryLocation::getQuantityReserved).sum();
+        return inventory.withTotals(available, reserved);
+    }
+
+    /**
+     * 조건부 UPDATE로 한 창고에서 예약
+     * 성공하면 row 락이 트랜잭션 종료까지 유지되므로 경합 수도 그때까지 유지한다.
+     */
+    private boolean tryReserve(Long productId, Long locationId, Long quantity, Instant now) {
+        AtomicInteger counter = inFlight.computeIfAbsent(new LocationKey(productId, locationId),
+                key -> new AtomicInteger());
+        counter.incrementAndGet();
+        boolean reserved = false;
+        try {
+            reserved = lockMetrics.measure("reserve_location", productId,
+                    () -> locationRepository.reserveIfAvailable(productId, locationId, quantity, now)) == 1;
+            return reserved;
+        } finally {
+            if (reserved && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        counter.decrementAndGet();
+                    }
+                });
+            } else {
+                counter.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 전체 창고를 잠그고 가용 수량이 많은 창고부터 나눠 배정 (배정 창고 수 최소화)
+     */
+    private List<StockAllocation> reserveSplit(Long productId, Long quantity) {
+        List<InventoryLocation> locations = lockAll("reserve_location", productId);
+        long available = locations.stream().mapToLong(InventoryLocation::getQuantityAvailable).sum();
+        if (available < quantity) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY,
+                    "Insufficient inventory for product " + productId);
+        }
+
+        List<InventoryLocation> byAvailable = locations.stream()
+                .sorted(Comparator.comparing(InventoryLocation::getQuantityAvailable, Comparator.reverseOrder()))
+                .toList();
+        List<StockAllocation> allocations = new ArrayList<>();
+        long remaining = quantity;
+        for (int i = 0; i < byAvailable.size() && remaining > 0; i++) {
+            InventoryLocation location = byAvailable.get(i);
+            long taken = location.reserveUpTo(remaining);
+            if (taken > 0) {
+                allocations.add(StockAllocation.at(productId, location.getLocationId(), taken));
+                remaining -= taken;
+            }
+        }
+        locationRepository.saveAll(locations);
+        return allocations;
+    }
+
+    private List<InventoryLocation> lockAll(String operation, Long productId) {
+        List<InventoryLocation> locations = lockMetrics.measure(operation, productId,
+                () -> locationRepository.findByProductIdWithLock(productId));
+        if (locations.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVENTORY_NOT_FOUND);
+        }
+        locations.forEach(entityManager::refresh); // 잠금을 잡은 뒤의 현재 값
+        return locations;
+    }
+
+    private int contention(Long productId, Long locationId) {
+        AtomicInteger counter = inFlight.get(new LocationKey(productId, locationId));
+        return counter != null ? counter.get() : 0;
+    }
+
+    private record LocationKey(Long productId, Long locationId) {
+    }
+}
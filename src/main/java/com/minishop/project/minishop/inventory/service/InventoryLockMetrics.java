@@ -0,0 +1,86 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.inventory.domain.LockContention;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 재고 row 잠금 계측
+ *
+ * - 대기(wait): 잠금 쿼리(SELECT ... FOR UPDATE 또는 조건부 UPDATE) 실행 시간
+ * - 보유(hold): 잠금 획득 후 트랜잭션 종료(커밋/롤백)까지 시간
+ *
+ * 메트릭(inventory.lock.wait / inventory.lock.hold)은 operation 태그만 붙인다 (productId 태그는 카디널리티 폭증).
+ * 상품별 분포는 HotProductSketch가 상위 capacity개 상품에 대해서만 유지한다.
+ */
+@Component
+public class InventoryLockMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final HotProductSketch sketch;
+    private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+
+    public InventoryLockMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${inventory.lock-metrics.tracked-products:64}") int trackedProducts) {
+        this.meterRegistry = meterRegistry;
+        this.sketch = new HotProductSketch(trackedProducts);
+    }
+
+    /**
+     * 잠금 쿼리 실행 시간을 대기로 기록하고, 트랜잭션 종료 시 보유 시간을 기록
+     */
+    public <T> T measure(String operation, Collection<Long> lockedProductIds, Supplier<T> lockAction) {
+        List<Long> productIds = List.copyOf(lockedProductIds);
+        long start = System.nanoTime();
+        T result = lockAction.get();
+        long acquired = System.nanoTime();
+
+        long waitNanos = acquired - start;
+        timer(waitTimers, "inventory.lock.wait", operation).record(waitNanos, TimeUnit.NANOSECONDS);
+        productIds.forEach(productId -> sketch.recordWait(productId, TimeUnit.NANOSECONDS.toMicros(waitNanos)));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    long holdNanos = System.nanoTime() - acquired;
+                    timer(holdTimers, "inventory.lock.hold", operation).record(holdNanos, TimeUnit.NANOSECONDS);
+                    productIds.forEach(productId ->
+                            sketch.recordHold(productId, TimeUnit.NANOSECONDS.toMicros(holdNanos)));
+                }
+            });
+        }
+        return result;
+    }
+
+    public <T> T measure(String operation, Long productId, Supplier<T> lockAction) {
+        return measure(operation, List.of(productId), lockAction);
+    }
+
+    /**
+     * 누적 잠금 대기 상위 상품
+     */
+    public List<LockContention> topContended(int limit) {
+        return sketch.top(limit);
+    }
+
+    private Timer timer(Map<String, Timer> timers, String name, String operation) {
+        return timers.computeIfAbsent(operation, op -> Timer.builder(name)
+                .tag("operation", op)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,139 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 재고 조회 캐시 (상품 페이지용)
+ *
+ * productId별 조회 결과(트랜잭션 밖으로 나온 Inventory 사본)를 버전과 함께 보관한다.
+ *
+ * 규칙:
+ * - 예약/해제/확정/재고 추가가 끝나면(afterCompletion) 해당 상품 버전을 올리고 항목을 제거한다
+ * - 조회 전에 읽은 버전이 적재 시점에도 같을 때만 저장 → 같은 노드에서는 마지막 커밋보다 오래된 값을 돌려주지 않는다
+ * - 다른 노드의 변경은 알 수 없으므로 짧은 TTL로 만료
+ * - 최대 크기를 넘으면 만료 항목부터, 그래도 가득 차면 임의 항목을 제거
+ *
+ * 버전은 고정 크기 슬롯 배열에 해시로 나눠 담는다. 슬롯을 공유하는 상품끼리는
+ * 서로의 변경에 함께 무효화되지만(불필요한 재조회), 오래된 값을 돌려주지는 않는다.
+ */
+@Component
+public class InventoryReadCache {
+
+    private static final int VERSION_SLOTS = 1024;
+
+    private final ConcurrentHashMap<Long, CachedInventory> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_SLOTS);
+    private final int maxSize;
+    private final long ttlNanos;
+
+    public InventoryReadCache(
+            @Value("${inventory.read-cache.max-size:10000}") int maxSize,
+            @Value("${inventory.read-cache.ttl-millis:1000}") long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /**
+     * 캐시 조회, 없거나 무효하면 loader로 적재
+     * loader 예외(재고 없음 등)는 캐시하지 않고 그대로 전달한다.
+     */
+    public Inventory get(Long productId, Supplier<Inventory> loader) {
+        long version = versions.get(slot(productId));
+        CachedInventory cached = entries.get(productId);
+        long now = System.nanoTime();
+        if (cached != null && cached.version == version && now - cached.expiresAt < 0) {
+            return cached.inventory;
+        }
+
+        Inventory loaded = loader.get();
+        store(productId, new CachedInventory(loaded, version, now + ttlNanos));
+        return loaded;
+    }
+
+    /**
+     * 일괄 조회: 적중 항목은 그대로, 나머지는 loader 한 번으로 적재
+     * loader 결과에 없는 상품(재고 없음)은 결과에서 빠지고 캐시하지 않는다.
+     */
+    public Map<Long, Inventory> getAll(Collection<Long> productIds,
+                                       Function<Collection<Long>, Map<Long, Inventory>> loader) {
+        Map<Long, Inventory> result = new HashMap<>();
+        Map<Long, Long> missVersions = new HashMap<>();
+        long now = System.nanoTime();
+        for (Long productId : productIds) {
+            long version = versions.get(slot(productId));
+            CachedInventory cached = entries.get(productId);
+            if (cached != null && cached.version == version && now - cached.expiresAt < 0) {
+                result.put(productId, cached.inventory);
+            } else {
+                missVersions.put(productId, version);
+            }
+        }
+        if (missVersions.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, Inventory> loaded = loader.apply(List.copyOf(missVersions.keySet()));
+        loaded.forEach((productId, inventory) -> {
+            store(productId, new CachedInventory(inventory, missVersions.get(productId), now + ttlNanos));
+            result.put(productId, inventory);
+        });
+        return result;
+    }
+
+    /**
+     * 상품 변경 후 호출: 버전 증가 + 항목 제거
+     */
+    public void invalidate(Long productId) {
+        versions.incrementAndGet(slot(productId));
+        entries.remove(productId);
+    }
+
+    private void store(Long productId, CachedInventory entry) {
+        if (entries.size() >= maxSize && !entries.containsKey(productId)) {
+            evict();
+        }
+        // 적재 중 변경이 끝났다면 버전이 달라졌으므로 저장하지 않음
+        entries.compute(productId, (id, current) ->
+                versions.get(slot(id)) == entry.version ? entry : current);
+    }
+
+    private void evict() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> now - entry.expiresAt >= 0);
+
+        Iterator<Long> keys = entries.keySet().iterator();
+        while (entries.size() >= maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private int slot(Long productId) {
+        return Math.floorMod(Long.hashCode(productId), VERSION_SLOTS);
+    }
+
+    private static final class CachedInventory {
+        private final Inventory inventory;
+        private final long version;
+        private final long expiresAt;
+
+        private CachedInventory(Inventory inventory, long version, long expiresAt) {
+            this.inventory = inventory;
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
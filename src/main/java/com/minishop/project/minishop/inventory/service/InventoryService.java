@@ -2,17 +2,43 @@ package com.minishop.project.minishop.inventory.service;
 
 import com.minishop.project.minishop.common.exception.BusinessException;
 import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.HoldExpiry;
 import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.domain.InventoryReservation;
+import com.minishop.project.minishop.inventory.domain.InventoryLocation;
+import com.minishop.project.minishop.inventory.domain.StockAllocation;
 import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryReservationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
 public class InventoryService {
 
+    /** 일괄 가용 수량 조회 최대 상품 수 */
+    private static final int MAX_AVAILABILITY_BATCH = 500;
+
     private final InventoryRepository inventoryRepository;
+    private final InventoryReservationRepository reservationRepository;
+    private final InventoryStripeService stripeService;
+    private final InventoryLocationService locationService;
+    private final InventoryReadCache readCache;
+    private final InventoryStockRouter stockRouter;
+    private final InventoryChangeHooks changeHooks;
 
     @Transactional
     public Inventory initializeInventory(Long productId) {
@@ -21,6 +47,7 @@ public class InventoryService {
                     "Inventory already exists for product");
         }
         Inventory inventory = Inventory.create(productId, 0L);
+        stockRouter.register(productId);
         return inventoryRepository.save(inventory);
     }
 
@@ -28,57 +55,357 @@ public class InventoryService {
     public Inventory addStock(Long productId, Long quantity) {
         validateQuantity(quantity);
 
-        Inventory inventory = inventoryRepository.findByProductIdWithLock(productId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND));
+        Inventory inventory = stockRouter.addStock(productId, quantity);
+        changeHooks.stockAdded(productId, quantity);
+        return inventory;
+    }
 
-        inventory.addStock(quantity);
-        return inventoryRepository.save(inventory);
+    /**
+     * 창고 재고 추가 (inventory.locations.enabled=true)
+     * 첫 창고를 추가하면 단일 row의 기존 수량은 그 창고로 옮겨지고, 이후 상품 재고는 창고 합계가 된다.
+     */
+    @Transactional
+    public Inventory addStockAtLocation(Long productId, Long locationId, Long quantity) {
+        validateQuantity(quantity);
+        if (!stockRouter.isLocationsEnabled()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Per-location inventory is disabled");
+        }
+        if (locationId == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Location is required");
+        }
+
+        Inventory inventory = stockRouter.lock(productId, "add_stock_location");
+        locationService.addStock(inventory, locationId, quantity);
+        inventoryRepository.save(inventory);
+
+        changeHooks.stockAdded(productId, quantity);
+        return stockRouter.find(productId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<InventoryLocation> getLocations(Long productId) {
+        if (!inventoryRepository.existsByProductId(productId)) {
+            throw new BusinessException(ErrorCode.INVENTORY_NOT_FOUND);
+        }
+        return locationService.findByProductId(productId);
     }
 
     @Transactional
     public void reserve(Long productId, Long quantity) {
         validateQuantity(quantity);
 
-        Inventory inventory = inventoryRepository.findByProductIdWithLock(productId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND));
+        changeHooks.admitFlashSale(productId, quantity);
+        stockRouter.reserve(productId, quantity);
+        changeHooks.reserved(productId, quantity);
+    }
 
-        inventory.reserve(quantity);
-        inventoryRepository.save(inventory);
+    /**
+     * 다상품 일괄 예약 (all-or-nothing)
+     *
+     * - 단일 row 상품은 productId 순서로 동시성 전략이 처리 (비관적 락은 한 번에 잠그고 전체 검증 후 변경)
+     * - 분할된 상품은 단일 row 처리가 끝난 뒤 productId 순서로 버킷 예약
+     *   (주문 생성의 유일한 예약 경로이므로 인기 상품 경합 완화는 분할 재고로 한다)
+     * - 창고별 재고 상품은 그 뒤 productId 순서로 창고 배정 (한 라인이 여러 창고로 나뉠 수 있음)
+     * - 한 라인이라도 부족하면 예외로 트랜잭션 전체 롤백
+     * - 메모리 엔진은 저장소 잠금 한 번으로 전체 검증 후 예약
+     *
+     * @param quantities productId별 수량 (중복 라인은 호출자가 합산)
+     * @return 상품/창고별 배정 결과 (holdForOrder에 그대로 전달)
+     */
+    @Transactional
+    public List<StockAllocation> reserveAll(Map<Long, Long> quantities) {
+        if (quantities == null || quantities.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "At least one product is required");
+        }
+        quantities.values().forEach(this::validateQuantity);
+
+        SortedMap<Long, Long> sorted = new TreeMap<>(quantities);
+        changeHooks.admitFlashSale(sorted);
+        List<StockAllocation> allocations = stockRouter.reserveAll(sorted);
+        sorted.forEach(changeHooks::reserved);
+        return allocations;
     }
 
     @Transactional
     public void release(Long productId, Long quantity) {
         validateQuantity(quantity);
 
-        Inventory inventory = inventoryRepository.findByProductIdWithLock(productId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND));
-
-        inventory.release(quantity);
-        inventoryRepository.save(inventory);
+        stockRouter.release(productId, quantity);
+        changeHooks.released(productId, quantity);
     }
 
     @Transactional
     public void confirm(Long productId, Long quantity) {
         validateQuantity(quantity);
 
-        Inventory inventory = inventoryRepository.findByProductIdWithLock(productId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND));
+        stockRouter.confirm(productId, quantity);
+        changeHooks.confirmed(productId, quantity);
+    }
 
-        inventory.confirm(quantity);
-        inventoryRepository.save(inventory);
+    /**
+     * 주문별 예약 내역 기록
+     * reserveAll 후 주문 저장으로 orderId가 정해지면 같은 트랜잭션에서 호출한다.
+     */
+    @Transactional
+    public void holdForOrder(Long orderId, List<StockAllocation> allocations, Instant expiresAt) {
+        List<InventoryReservation> holds = allocations.stream()
+                .map(allocation -> InventoryReservation.create(orderId, allocation.getProductId(),
+                        allocation.getLocationId(), allocation.getQuantity(), expiresAt))
+                .toList();
+        reservationRepository.saveAll(holds);
+    }
+
+    /**
+     * 주문 단위 예약 해제 (취소/만료/결제 실패)
+     * 예약 내역을 일괄 삭제한 트랜잭션만 재고를 해제하므로 중복 호출에도 한 번만 반영된다.
+     */
+    @Transactional
+    public void releaseByOrder(Long orderId) {
+        List<InventoryReservation> holds = reservationRepository.findByOrderId(orderId);
+        SortedMap<Long, Long> held = heldQuantities(holds);
+        if (held.isEmpty() || reservationRepository.deleteByOrderId(orderId) == 0) {
+            return; // 이미 해제/확정됨
+        }
+        releaseHolds(held, holds);
+    }
+
+    /**
+     * 주문에 기록되지 않은 배정 반환 (합친 예약을 받은 뒤 주문 트랜잭션이 롤백된 경우, ReservationCombiner)
+     */
+    @Transactional
+    public void releaseAllocations(List<StockAllocation> allocations) {
+        List<InventoryReservation> holds = allocations.stream()
+                .map(allocation -> InventoryReservation.create(null, allocation.getProductId(),
+                        allocation.getLocationId(), allocation.getQuantity(), null))
+                .toList();
+        SortedMap<Long, Long> held = heldQuantities(holds);
+        if (!held.isEmpty()) {
+            releaseHolds(held, holds);
+        }
+    }
+
+    private void releaseHolds(SortedMap<Long, Long> held, List<InventoryReservation> holds) {
+        stockRouter.releaseHeld(held, holds);
+        held.forEach(changeHooks::released);
+    }
+
+    /**
+     * 주문 단위 예약 확정 (주문 완료)
+     */
+    @Transactional
+    public void confirmByOrder(Long orderId) {
+        List<InventoryReservation> holds = reservationRepository.findByOrderId(orderId);
+        SortedMap<Long, Long> held = heldQuantities(holds);
+        if (held.isEmpty() || reservationRepository.deleteByOrderId(orderId) == 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "No reservation held for order");
+        }
+
+        stockRouter.confirmHeld(held, holds);
+        held.forEach(changeHooks::confirmed);
+    }
+
+    /**
+     * 주문의 예약 유지 여부 (결제 실패로 해제된 주문의 재결제 방지)
+     */
+    @Transactional(readOnly = true)
+    public boolean holdsReservation(Long orderId) {
+        return reservationRepository.existsByOrderId(orderId);
+    }
+
+    /**
+     * 결제 완료된 주문의 예약은 만료 대상에서 제외
+     */
+    @Transactional
+    public void clearHoldExpiry(Long orderId) {
+        reservationRepository.clearExpiryByOrderId(orderId);
+    }
+
+    /**
+     * 대기 주문 배정 완료 후 결제 대기 만료 시각 설정
+     */
+    @Transactional
+    public void setHoldExpiry(Long orderId, Instant expiresAt) {
+        reservationRepository.updateExpiryByOrderId(orderId, expiresAt);
     }
 
+    /**
+     * 예약 만료 시각이 지난 주문 ID (만료 스케줄러용)
+     */
     @Transactional(readOnly = true)
+    public List<Long> findOrderIdsWithExpiredHolds(Instant now, int limit) {
+        return reservationRepository.findOrderIdsExpiredBefore(now, PageRequest.of(0, limit));
+    }
+
+    /**
+     * afterOrderId보다 큰 주문 ID부터 조회 (만료 스케줄러의 페이지 단위 처리용)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findOrderIdsWithExpiredHolds(Instant now, Long afterOrderId, int limit) {
+        return reservationRepository.findOrderIdsExpiredBeforeAfter(now, afterOrderId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 결제 대기 주문별 예약 만료 시각 (afterOrderId보다 큰 주문 ID부터)
+     */
+    @Transactional(readOnly = true)
+    public List<HoldExpiry> findHoldExpiries(Long afterOrderId, int limit) {
+        return reservationRepository.findHoldExpiries(afterOrderId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 만료 대상 주문 수 (만료 적체 지표)
+     */
+    @Transactional(readOnly = true)
+    public long countOrdersWithExpiredHolds(Instant now) {
+        return reservationRepository.countOrdersExpiredBefore(now);
+    }
+
     public Long getAvailableQuantity(Long productId) {
-        Inventory inventory = inventoryRepository.findByProductId(productId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND));
-        return inventory.getQuantityAvailable();
+        Long inMemory = stockRouter.memoryAvailableQuantity(productId);
+        if (inMemory != null) {
+            return inMemory;
+        }
+        return getCachedByProductId(productId).getQuantityAvailable();
+    }
+
+    /**
+     * 상품 목록용 일괄 가용 수량 조회 (productId → 가용 수량, 요청 순서 유지)
+     * 캐시 적중 상품은 그대로, 나머지는 IN 쿼리 한 번으로 조회한다. 재고가 없는 상품은 결과에서 빠진다.
+     */
+    public Map<Long, Long> getAvailability(Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+        LinkedHashSet<Long> distinct = new LinkedHashSet<>(productIds);
+        distinct.remove(null);
+        if (distinct.size() > MAX_AVAILABILITY_BATCH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "At most " + MAX_AVAILABILITY_BATCH + " products per request");
+        }
+
+        Map<Long, Inventory> inventories;
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            inventories = loadAll(distinct); // 쓰기 트랜잭션의 미커밋 값은 캐시에 넣지 않음
+        } else {
+            inventories = readCache.getAll(distinct, this::loadAll);
+        }
+
+        Map<Long, Long> availability = new LinkedHashMap<>();
+        for (Long productId : distinct) {
+            Inventory inventory = inventories.get(productId);
+            if (inventory != null) {
+                availability.put(productId, inventory.getQuantityAvailable());
+            }
+        }
+        return availability;
+    }
+
+    private Map<Long, Inventory> loadAll(Collection<Long> productIds) {
+        Map<Long, Inventory> loaded = new HashMap<>();
+        for (Inventory inventory : inventoryRepository.findByProductIdIn(productIds)) {
+            Inventory current = stockRouter.current(inventory);
+            loaded.put(current.getProductId(), current);
+        }
+        return loaded;
+    }
+
+    /**
+     * 상품 페이지용 캐시 조회
+     * 캐시 적중 시 트랜잭션/커넥션을 사용하지 않는다. 반환값은 조회 전용.
+     */
+    public Inventory getCachedByProductId(Long productId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return getByProductId(productId); // 쓰기 트랜잭션의 미커밋 값은 캐시에 넣지 않음
+        }
+        return readCache.get(productId, () -> getByProductId(productId));
     }
 
+    /**
+     * 분할된 상품은 버킷 합계, 창고별 재고 상품은 창고 합계, 메모리 엔진 사용 시 메모리 합계를 반영한 조회 전용 사본을 반환
+     */
     @Transactional(readOnly = true)
     public Inventory getByProductId(Long productId) {
-        return inventoryRepository.findByProductId(productId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND));
+        return stockRouter.find(productId);
+    }
+
+    /**
+     * 인기 상품 재고 분할 설정
+     * - stripeCount >= 2: N개 버킷으로 분할 (이미 분할된 경우 재분할)
+     * - stripeCount <= 1: 분할 해제
+     * 예약 경로는 inventory.striping.enabled=true 일 때만 버킷을 사용하므로,
+     * 꺼져 있으면 분할은 거절하고 해제(기존 버킷을 단일 row로 합침)만 허용한다.
+     */
+    @Transactional
+    public Inventory configureStripes(Long productId, Integer stripeCount) {
+        if (stripeCount == null || stripeCount < 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Stripe count must not be negative");
+        }
+        if (!stockRouter.isStripingEnabled() && stripeCount > 1) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Inventory striping is disabled");
+        }
+
+        Inventory inventory = stockRouter.lock(productId, "configure_stripes");
+
+        if (inventory.isStriped()) {
+            stripeService.unstripe(inventory);
+        }
+        if (stripeCount > 1) {
+            stripeService.stripe(inventory, stripeCount);
+        }
+        inventoryRepository.save(inventory);
+        changeHooks.evict(productId);
+        return stockRouter.find(productId);
+    }
+
+    /**
+     * 플래시 세일 모드 설정
+     * 커밋 후 현재 가용 수량으로 입장 카운터를 열거나 닫는다.
+     */
+    @Transactional
+    public Inventory configureFlashSale(Long productId, boolean enabled) {
+        Inventory inventory = stockRouter.lock(productId, "configure_flash_sale");
+
+        inventory.changeFlashSale(enabled);
+        inventoryRepository.save(inventory);
+        changeHooks.evict(productId);
+
+        Inventory current = stockRouter.find(productId);
+        changeHooks.flashSaleChanged(productId, enabled, current.getQuantityAvailable());
+        return current;
+    }
+
+    /**
+     * 재고 부족 알림 기준 설정 (0이면 해제)
+     * 커밋 후 알림 대상 목록에 반영한다.
+     */
+    @Transactional
+    public Inventory configureLowStockThreshold(Long productId, Long threshold) {
+        Inventory inventory = stockRouter.lock(productId, "configure_low_stock");
+
+        inventory.changeLowStockThreshold(threshold);
+        inventoryRepository.save(inventory);
+        changeHooks.evict(productId);
+        changeHooks.lowStockThresholdChanged(productId, threshold);
+        return stockRouter.find(productId);
+    }
+
+    /**
+     * 주문의 예약 내역을 productId 순서로 합산 (잠금 순서 고정)
+     */
+    private SortedMap<Long, Long> heldQuantities(List<InventoryReservation> holds) {
+        SortedMap<Long, Long> held = new TreeMap<>();
+        for (InventoryReservation hold : holds) {
+            held.merge(hold.getProductId(), hold.getQuantity(), Long::sum);
+        }
+        return held;
     }
 
     private void validateQuantity(Long quantity) {
@@ -0,0 +1,378 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.domain.InventoryReservation;
+import com.minishop.project.minishop.inventory.domain.StockAllocation;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 재고 변경 경로 선택
+ *
+ * 상품마다 아래 순서로 재고를 바꿀 곳을 고른다 (InventoryService는 검증/기록만 하고 여기로 위임).
+ * 1. 메모리 엔진 (inventory.engine=MEMORY): 저장소에 반영, 재고를 줄이는 변경은 롤백 시 되돌리고 늘리는 변경은 커밋 후 반영
+ * 2. 창고별 재고 상품 (inventory.locations.enabled=true): InventoryLocationService
+ * 3. 분할된 상품 (inventory.striping.enabled=true): InventoryStripeService
+ * 4. 단일 row: inventory.reservation.mode의 동시성 전략
+ *
+ * 조회 사본도 같은 기준으로 합계를 반영한다 (메모리 합계 / 창고 합계 / 버킷 합계).
+ */
+@Component
+public class InventoryStockRouter {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryStripeService stripeService;
+    private final InventoryLocationService locationService;
+    private final InventoryLockMetrics lockMetrics;
+    private final MemoryInventoryEngine memoryEngine;
+    private final InventoryConcurrencyStrategy strategy;
+    private final boolean stripingEnabled;
+    private final boolean locationsEnabled;
+
+    public InventoryStockRouter(
+            InventoryRepository inventoryRepository,
+            InventoryStripeService stripeService,
+            InventoryLocationService locationService,
+            InventoryLockMetrics lockMetrics,
+            ObjectProvider<MemoryInventoryEngine> memoryEngine,
+            List<InventoryConcurrencyStrategy> strategies,
+            @Value("${inventory.reservation.mode:PESSIMISTIC}") ReservationMode reservationMode,
+            @Value("${inventory.striping.enabled:false}") boolean stripingEnabled,
+            @Value("${inventory.locations.enabled:false}") boolean locationsEnabled) {
+        this.inventoryRepository = inventoryRepository;
+        this.stripeService = stripeService;
+        this.locationService = locationService;
+        this.lockMetrics = lockMetrics;
+        this.memoryEngine = memoryEngine.getIfAvailable(); // inventory.engine=MEMORY 일 때만 존재
+        this.strategy = strategies.stream()
+                .filter(candidate -> candidate.mode() == reservationMode)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No inventory strategy for mode " + reservationMode));
+        this.stripingEnabled = stripingEnabled;
+        this.locationsEnabled = locationsEnabled;
+        if (this.memoryEngine != null && locationsEnabled) {
+            throw new IllegalStateException("inventory.locations.enabled is not supported with inventory.engine=MEMORY");
+        }
+    }
+
+    public boolean usesMemoryEngine() {
+        return memoryEngine != null;
+    }
+
+    public boolean isStripingEnabled() {
+        return stripingEnabled;
+    }
+
+    public boolean isLocationsEnabled() {
+        return locationsEnabled;
+    }
+
+    /**
+     * 새 재고 row를 메모리 저장소에 커밋 후 등록 (DB 엔진은 할 일 없음)
+     */
+    public void register(Long productId) {
+        if (memoryEngine != null) {
+            afterCommit(() -> memoryEngine.register(productId));
+        }
+    }
+
+    /**
+     * 재고 추가 후 조회 사본
+     * 메모리 엔진은 커밋 후 반영하므로 (롤백 보상이 필요 없고, 다른 요청이 미커밋 재고를 예약하지 않음) 반영될 합계를 돌려준다.
+     */
+    public Inventory addStock(Long productId, Long quantity) {
+        if (memoryEngine != null) {
+            Inventory inventory = find(productId);
+            afterCommit(() -> memoryEngine.addStock(productId, quantity));
+            return inventory.withTotals(inventory.getQuantityAvailable() + quantity, inventory.getQuantityReserved());
+        }
+        if (hasLocations(productId)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Inventory is stocked per location, add stock to a location");
+        }
+        if (stripingEnabled && stripeCount(productId) > 0) {
+            stripeService.addStock(productId, quantity);
+        } else {
+            strategy.addStock(productId, quantity);
+        }
+        return find(productId);
+    }
+
+    public void reserve(Long productId, Long quantity) {
+        if (memoryEngine != null) {
+            memoryEngine.reserve(productId, quantity);
+            afterRollback(() -> memoryEngine.release(productId, quantity));
+            return;
+        }
+        if (hasLocations(productId)) {
+            locationService.reserve(productId, quantity);
+            return;
+        }
+        if (stripingEnabled) {
+            int stripeCount = stripeCount(productId);
+            if (stripeCount > 0) {
+                stripeService.reserve(productId, stripeCount, quantity);
+                return;
+            }
+        }
+
+        strategy.reserve(productId, quantity);
+    }
+
+    /**
+     * 다상품 일괄 예약 (all-or-nothing, 순서는 InventoryService.reserveAll 참고)
+     *
+     * @return 상품/창고별 배정 결과
+     */
+    public List<StockAllocation> reserveAll(SortedMap<Long, Long> quantities) {
+        if (memoryEngine != null) {
+            memoryEngine.reserveAll(quantities);
+            afterRollback(() -> quantities.forEach(memoryEngine::release));
+            return quantities.entrySet().stream()
+                    .map(line -> StockAllocation.of(line.getKey(), line.getValue()))
+                    .toList();
+        }
+
+        Set<Long> located = productsWithLocations(quantities.keySet());
+        SortedMap<Long, Long> single = new TreeMap<>(quantities);
+        single.keySet().removeAll(located);
+
+        // 전략이 처리하지 않은 상품: 재고 없음 또는 분할 상품
+        Set<Long> unhandled = single.isEmpty() ? Set.of() : strategy.reserveAll(single);
+        SortedMap<Long, Integer> striped = new TreeMap<>();
+        for (Long productId : unhandled) {
+            int stripeCount = stripeCount(productId);
+            if (!stripingEnabled) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY,
+                        "Insufficient inventory for product " + productId);
+            }
+            striped.put(productId, stripeCount);
+        }
+
+        striped.forEach((productId, stripeCount) ->
+                stripeService.reserve(productId, stripeCount, quantities.get(productId)));
+
+        List<StockAllocation> allocations = new ArrayList<>();
+        single.forEach((productId, quantity) -> allocations.add(StockAllocation.of(productId, quantity)));
+        for (Long productId : new TreeSet<>(located)) {
+            allocations.addAll(locationService.reserve(productId, quantities.get(productId)));
+        }
+        return allocations;
+    }
+
+    public void release(Long productId, Long quantity) {
+        if (memoryEngine != null) {
+            memoryEngine.requireReserved(productId, quantity);
+            afterCommit(() -> memoryEngine.release(productId, quantity));
+            return;
+        }
+        releaseRow(productId, quantity);
+    }
+
+    public void confirm(Long productId, Long quantity) {
+        if (memoryEngine != null) {
+            memoryEngine.confirm(productId, quantity);
+            afterRollback(() -> memoryEngine.unconfirm(productId, quantity));
+            return;
+        }
+        confirmRow(productId, quantity);
+    }
+
+    /**
+     * 예약 내역 단위 해제 (창고별 재고 상품은 예약한 창고로, 창고 전환 전 예약은 창고 구분 없이)
+     */
+    public void releaseHeld(SortedMap<Long, Long> held, List<InventoryReservation> holds) {
+        if (memoryEngine != null) {
+            afterCommit(() -> held.forEach(memoryEngine::release));
+            return;
+        }
+
+        Set<Long> located = productsWithLocations(held.keySet());
+        SortedMap<Long, Long> single = new TreeMap<>(held);
+        single.keySet().removeAll(located);
+
+        // 전략이 처리하지 않은 상품은 분할 상품 경로로 해제
+        if (!single.isEmpty()) {
+            strategy.releaseAll(single).forEach(productId -> releaseRow(productId, single.get(productId)));
+        }
+        for (InventoryReservation hold : locatedHolds(holds, located)) {
+            if (hold.getLocationId() != null) {
+                locationService.release(hold.getProductId(), hold.getLocationId(), hold.getQuantity());
+            } else {
+                locationService.release(hold.getProductId(), hold.getQuantity());
+            }
+        }
+    }
+
+    /**
+     * 예약 내역 단위 확정
+     */
+    public void confirmHeld(SortedMap<Long, Long> held, List<InventoryReservation> holds) {
+        if (memoryEngine != null) {
+            memoryEngine.confirmAll(held);
+            afterRollback(() -> held.forEach(memoryEngine::unconfirm));
+            return;
+        }
+
+        Set<Long> located = productsWithLocations(held.keySet());
+        SortedMap<Long, Long> single = new TreeMap<>(held);
+        single.keySet().removeAll(located);
+
+        if (!single.isEmpty()) {
+            strategy.confirmAll(single).forEach(productId -> confirmRow(productId, single.get(productId)));
+        }
+        for (InventoryReservation hold : locatedHolds(holds, located)) {
+            if (hold.getLocationId() != null) {
+                locationService.confirm(hold.getProductId(), hold.getLocationId(), hold.getQuantity());
+            } else {
+                locationService.confirm(hold.getProductId(), hold.getQuantity());
+            }
+        }
+    }
+
+    /**
+     * 메모리 저장소의 가용 수량 (메모리 엔진이 아니거나 저장소에 없는 상품이면 null)
+     */
+    public Long memoryAvailableQuantity(Long productId) {
+        if (memoryEngine == null) {
+            return null;
+        }
+        return memoryEngine.getAvailableQuantity(productId);
+    }
+
+    /**
+     * 현재 합계를 반영한 조회 전용 사본
+     */
+    @Transactional(readOnly = true)
+    public Inventory find(Long productId) {
+        Inventory inventory = inventoryRepository.findByProductId(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND));
+        return current(inventory);
+    }
+
+    /**
+     * 메모리 합계, 분할 버킷 합계 또는 창고 합계를 반영한 조회 전용 사본 (단일 row면 그대로)
+     */
+    public Inventory current(Inventory inventory) {
+        if (memoryEngine != null) {
+            return memoryEngine.overlay(inventory);
+        }
+        if (inventory.isStriped()) {
+            return stripeService.totals(inventory);
+        }
+        if (inventory.hasLocations()) {
+            return locationService.totals(inventory);
+        }
+        return inventory;
+    }
+
+    public Inventory lock(Long productId, String operation) {
+        return lockMetrics.measure(operation, productId,
+                        () -> inventoryRepository.findByProductIdWithLock(productId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND));
+    }
+
+    private void releaseRow(Long productId, Long quantity) {
+        if (hasLocations(productId)) {
+            locationService.release(productId, quantity);
+            return;
+        }
+        if (stripingEnabled) {
+            int stripeCount = stripeCount(productId);
+            if (stripeCount > 0) {
+                stripeService.release(productId, stripeCount, quantity);
+                return;
+            }
+        }
+
+        strategy.release(productId, quantity);
+    }
+
+    private void confirmRow(Long productId, Long quantity) {
+        if (hasLocations(productId)) {
+            locationService.confirm(productId, quantity);
+            return;
+        }
+        if (stripingEnabled) {
+            int stripeCount = stripeCount(productId);
+            if (stripeCount > 0) {
+                stripeService.confirm(productId, stripeCount, quantity);
+                return;
+            }
+        }
+
+        strategy.confirm(productId, quantity);
+    }
+
+    /**
+     * 창고별 재고 상품의 예약 내역을 (productId, locationId) 순서로 정렬 (창고 구분 없는 예약은 마지막)
+     */
+    private List<InventoryReservation> locatedHolds(List<InventoryReservation> holds, Set<Long> located) {
+        return holds.stream()
+                .filter(hold -> located.contains(hold.getProductId()))
+                .sorted(Comparator.comparing(InventoryReservation::getProductId)
+                        .thenComparing(InventoryReservation::getLocationId,
+                                Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+
+    /**
+     * 창고별 재고 상품 여부 (inventory.locations.enabled=true 일 때만 조회)
+     */
+    private boolean hasLocations(Long productId) {
+        if (!locationsEnabled) {
+            return false;
+        }
+        return inventoryRepository.findLocationCountByProductId(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND)) > 0;
+    }
+
+    private Set<Long> productsWithLocations(Collection<Long> productIds) {
+        if (!locationsEnabled) {
+            return Set.of();
+        }
+        return new HashSet<>(inventoryRepository.findProductIdsWithLocations(productIds));
+    }
+
+    private int stripeCount(Long productId) {
+        return inventoryRepository.findStripeCountByProductId(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND));
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void afterRollback(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,189 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.domain.InventoryStripe;
+import com.minishop.project.minishop.inventory.repository.InventoryStripeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 분할(striped) 재고 처리
+ *
+ * - 예약/해제/확정: 스레드 해시로 고른 홈 버킷부터 조건부 UPDATE 시도
+ * - 홈 버킷과 이웃 버킷 모두 부족하면 전체 버킷을 stripeIndex 순서로 잠근 뒤 분산 처리
+ * - 재고 추가 시 가용 수량을 버킷 전체에 고르게 재분배
+ *
+ * 버킷 재구성(configure) 중 동시에 들어온 요청은 일시적으로 실패할 수 있다. (초과 판매는 없음)
+ */
+@Service
+@RequiredArgsConstructor
+public class InventoryStripeService {
+
+    /// 전체 잠금으로 넘어가기 전 조건부 UPDATE를 시도할 버킷 수 (홈 + 이웃)
+    private static final int MAX_PROBES = 2;
+
+    private final InventoryStripeRepository stripeRepository;
+    private final InventoryLockMetrics lockMetrics;
+
+    @Transactional
+    public void reserve(Long productId, int stripeCount, Long quantity) {
+        int home = homeStripe(stripeCount);
+        Instant now = Instant.now();
+        for (int probe = 0; probe < Math.min(MAX_PROBES, stripeCount); probe++) {
+            int index = (home + probe) % stripeCount;
+            int updated = lockMetrics.measure("reserve_stripe", productId,
+                    () -> stripeRepository.reserveIfAvailable(productId, index, quantity, now));
+            if (updated == 1) {
+                return;
+            }
+        }
+
+        List<InventoryStripe> stripes = lockAll("reserve_stripe", productId);
+        long available = stripes.stream().mapToLong(InventoryStripe::getQuantityAvailable).sum();
+        if (available < quantity) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY);
+        }
+        drain(stripes, home, quantity, InventoryStripe::reserveUpTo);
+        stripeRepository.saveAll(stripes);
+    }
+
+    @Transactional
+    public void release(Long productId, int stripeCount, Long quantity) {
+        int home = homeStripe(stripeCount);
+        Instant now = Instant.now();
+        for (int probe = 0; probe < Math.min(MAX_PROBES, stripeCount); probe++) {
+            int index = (home + probe) % stripeCount;
+            int updated = lockMetrics.measure("release_stripe", productId,
+                    () -> stripeRepository.releaseIfReserved(productId, index, quantity, now));
+            if (updated == 1) {
+                return;
+            }
+        }
+
+        List<InventoryStripe> stripes = lockAll("release_stripe", productId);
+        long reserved = stripes.stream().mapToLong(InventoryStripe::getQuantityReserved).sum();
+        if (reserved < quantity) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Cannot release more than reserved");
+        }
+        drain(stripes, home, quantity, InventoryStripe::releaseUpTo);
+        stripeRepository.saveAll(stripes);
+    }
+
+    @Transactional
+    public void confirm(Long productId, int stripeCount, Long quantity) {
+        int home = homeStripe(stripeCount);
+        Instant now = Instant.now();
+        for (int probe = 0; probe < Math.min(MAX_PROBES, stripeCount); probe++) {
+            int index = (home + probe) % stripeCount;
+            int updated = lockMetrics.measure("confirm_stripe", productId,
+                    () -> stripeRepository.confirmIfReserved(productId, index, quantity, now));
+            if (updated == 1) {
+                return;
+            }
+        }
+
+        List<InventoryStripe> stripes = lockAll("confirm_stripe", productId);
+        long reserved = stripes.stream().mapToLong(InventoryStripe::getQuantityReserved).sum();
+        if (reserved < quantity) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Cannot confirm more than reserved");
+        }
+        drain(stripes, home, quantity, InventoryStripe::confirmUpTo);
+        stripeRepository.saveAll(stripes);
+    }
+
+    /**
+     * 재고 추가 + 재분배
+     * 전체 버킷을 잠근 뒤 (기존 가용 + 추가 수량)을 버킷 수로 균등 분배
+     */
+    @Transactional
+    public void addStock(Long productId, Long quantity) {
+        List<InventoryStripe> stripes = lockAll("add_stock_stripe", productId);
+        if (stripes.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVENTORY_NOT_FOUND);
+        }
+        long total = stripes.stream().mapToLong(InventoryStripe::getQuantityAvailable).sum() + quantity;
+        for (int i = 0; i < stripes.size(); i++) {
+            stripes.get(i).rebalanceAvailable(share(total, stripes.size(), i));
+        }
+        stripeRepository.saveAll(stripes);
+    }
+
+    /**
+     * 단일 row 재고를 N개 버킷으로 분할
+     * 호출자가 Inventory row 락을 잡고 있어야 한다.
+     */
+    @Transactional
+    public void stripe(Inventory inventory, int stripeCount) {
+        List<InventoryStripe> stripes = new ArrayList<>();
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(InventoryStripe.create(
+                    inventory.getProductId(),
+                    i,
+                    share(inventory.getQuantityAvailable(), stripeCount, i),
+                    share(inventory.getQuantityReserved(), stripeCount, i)
+            ));
+        }
+        stripeRepository.saveAll(stripes);
+        inventory.stripe(stripeCount);
+    }
+
+    /**
+     * 버킷 합계를 단일 row로 되돌리고 버킷 삭제
+     * 호출자가 Inventory row 락을 잡고 있어야 한다.
+     */
+    @Transactional
+    public void unstripe(Inventory inventory) {
+        List<InventoryStripe> stripes = lockAll("unstripe", inventory.getProductId());
+        long available = stripes.stream().mapToLong(InventoryStripe::getQuantityAvailable).sum();
+        long reserved = stripes.stream().mapToLong(InventoryStripe::getQuantityReserved).sum();
+        stripeRepository.deleteAll(stripes);
+        stripeRepository.flush(); // 같은 (productId, stripeIndex)로 재분할할 수 있도록 즉시 삭제
+        inventory.unstripe(available, reserved);
+    }
+
+    @Transactional(readOnly = true)
+    public Inventory totals(Inventory inventory) {
+        List<InventoryStripe> stripes =
+                stripeRepository.findByProductIdOrderByStripeIndex(inventory.getProductId());
+        long available = stripes.stream().mapToLong(InventoryStripe::getQuantityAvailable).sum();
+        long reserved = stripes.stream().mapToLong(InventoryStripe::getQuantityReserved).sum();
+        return inventory.withTotals(available, reserved);
+    }
+
+    private List<InventoryStripe> lockAll(String operation, Long productId) {
+        return lockMetrics.measure(operation, productId,
+                () -> stripeRepository.findByProductIdWithLock(productId));
+    }
+
+    private int homeStripe(int stripeCount) {
+        return Math.floorMod(Long.hashCode(Thread.currentThread().threadId()), stripeCount);
+    }
+
+    /**
+     * 홈 버킷부터 순환하며 quantity를 모두 소진할 때까지 처리
+     * 호출 전 합계 검증이 끝나 있어야 한다.
+     */
+    private void drain(List<InventoryStripe> stripes, int home, long quantity,
+                       BiFunction<InventoryStripe, Long, Long> operation) {
+        long remaining = quantity;
+        for (int offset = 0; offset < stripes.size() && remaining > 0; offset++) {
+            InventoryStripe stripe = stripes.get((home + offset) % stripes.size());
+            remaining -= operation.apply(stripe, remaining);
+        }
+    }
+
+    /// total을 n개로 나눌 때 i번째 몫 (나머지는 앞쪽 버킷부터 1씩)
+    private long share(long total, int n, int i) {
+        return total / n + (i < total % n ? 1 : 0);
+    }
+}
@@ -0,0 +1,252 @@
+package com.minishop.project.minishop.inventory.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 재고 엔진의 선행 기록(WAL)
+ *
+ * 레코드는 32바이트 고정 폭: seq(8) | productId(8) | quantity(8) | type(4) | CRC32C(4)
+ * 세그먼트 파일(wal-{첫 seq}.log)을 미리 segmentSize로 늘려 mmap 하고 끝까지 채우면 다음 세그먼트로 넘어간다.
+ *
+ * - 기록은 단일 writer(MemoryInventoryStore의 잠금 안)만 호출한다
+ * - 디스크 반영(force)은 flusher 스레드가 fsyncInterval마다 모아서 수행 (group fsync)
+ * - 재생은 seq가 끊기거나 CRC가 맞지 않는 레코드(기록 중 중단된 꼬리)에서 멈춘다
+ */
+final class InventoryWriteAheadLog implements AutoCloseable {
+
+    static final int RECORD_SIZE = 32;
+    private static final int CHECKSUMMED_BYTES = 28;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long fsyncIntervalNanos;
+    private final CRC32C crc = new CRC32C();
+    private final ByteBuffer scratch = ByteBuffer.allocate(RECORD_SIZE);
+    private final Object durableMonitor = new Object();
+    private final Thread flusher;
+
+    private volatile MappedByteBuffer segment;
+    private volatile long lastSeq;
+    private long durableSeq;
+    private volatile boolean closed;
+
+    private InventoryWriteAheadLog(Path directory, int segmentSize, long fsyncIntervalMicros, long lastSeq) {
+        this.directory = directory;
+        this.segmentSize = segmentSize - segmentSize % RECORD_SIZE;
+        this.fsyncIntervalNanos = TimeUnit.MICROSECONDS.toNanos(fsyncIntervalMicros);
+        this.lastSeq = lastSeq;
+        this.durableSeq = lastSeq;
+        this.flusher = new Thread(this::flushLoop, "inventory-wal-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    /**
+     * 기존 세그먼트를 재생한 뒤 lastSeq 다음 번호로 새 세그먼트를 열어 기록을 시작
+     *
+     * @param afterSeq 체크포인트에 이미 반영된 마지막 seq (이하 레코드는 건너뜀)
+     */
+    static InventoryWriteAheadLog open(Path directory, int segmentSize, long fsyncIntervalMicros,
+                                       long afterSeq, RecordHandler handler) {
+        try {
+            Files.createDirectories(directory);
+            long lastSeq = replay(directory, afterSeq, handler);
+            InventoryWriteAheadLog wal = new InventoryWriteAheadLog(directory, segmentSize, fsyncIntervalMicros, lastSeq);
+            wal.segment = wal.createSegment(lastSeq + 1);
+            wal.flusher.start();
+            return wal;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open inventory write-ahead log", e);
+        }
+    }
+
+    /**
+     * 레코드 추가 (디스크 반영은 awaitDurable로 확인)
+     *
+     * @return 부여된 seq
+     */
+    long append(long productId, int type, long quantity) {
+        if (closed) {
+            throw new IllegalStateException("Write-ahead log is closed");
+        }
+        if (segment.remaining() < RECORD_SIZE) {
+            roll();
+        }
+
+        long seq = lastSeq + 1;
+        scratch.clear();
+        scratch.putLong(seq).putLong(productId).putLong(quantity).putInt(type);
+        crc.reset();
+        crc.update(scratch.array(), 0, CHECKSUMMED_BYTES);
+        scratch.putInt((int) crc.getValue());
+
+        segment.put(scratch.array(), 0, RECORD_SIZE);
+        lastSeq = seq;
+        return seq;
+    }
+
+    long lastSeq() {
+        return lastSeq;
+    }
+
+    /**
+     * 현재 세그먼트를 디스크에 반영하고 다음 seq로 새 세그먼트 시작
+     * 체크포인트 직후 호출하면 이전 세그먼트를 통째로 지울 수 있다.
+     */
+    void roll() {
+        MappedByteBuffer previous = segment;
+        previous.force();
+        segment = createSegment(lastSeq + 1);
+    }
+
+    /**
+     * seq까지 디스크에 반영될 때까지 대기 (다음 group fsync 주기)
+     */
+    void awaitDurable(long seq) {
+        synchronized (durableMonitor) {
+            while (durableSeq < seq && !closed) {
+                try {
+                    durableMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 체크포인트에 반영된 세그먼트 삭제 (파일명의 첫 seq가 기준보다 작은 세그먼트)
+     */
+    void deleteSegmentsBefore(long firstSeqToKeep) {
+        for (Path path : segments(directory)) {
+            if (firstSeq(path) < firstSeqToKeep) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to delete write-ahead log segment " + path, e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        closed = true;
+        flusher.interrupt();
+        synchronized (durableMonitor) {
+            durableMonitor.notifyAll();
+        }
+    }
+
+    private void flushLoop() {
+        while (!closed) {
+            LockSupport.parkNanos(fsyncIntervalNanos);
+            flush();
+        }
+    }
+
+    private void flush() {
+        long target = lastSeq;
+        MappedByteBuffer current = segment;
+        synchronized (durableMonitor) {
+            if (target <= durableSeq) {
+                return;
+            }
+        }
+        // target이 이전 세그먼트에 있으면 roll()에서 이미 force 됨
+        current.force();
+        synchronized (durableMonitor) {
+            durableSeq = Math.max(durableSeq, target);
+            durableMonitor.notifyAll();
+        }
+    }
+
+    private MappedByteBuffer createSegment(long firstSeq) {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSeq, SEGMENT_SUFFIX));
+        // 재생이 멈춘 지점의 세그먼트를 다시 만드는 경우 남은 꼬리를 지우기 위해 비우고 시작
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create write-ahead log segment " + path, e);
+        }
+    }
+
+    private static long replay(Path directory, long afterSeq, RecordHandler handler) throws IOException {
+        long expected = afterSeq + 1;
+        CRC32C crc = new CRC32C();
+        byte[] record = new byte[RECORD_SIZE];
+
+        for (Path path : segments(directory)) {
+            if (firstSeq(path) > expected) {
+                break; // 중간 세그먼트 유실
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                while (buffer.remaining() >= RECORD_SIZE) {
+                    buffer.get(record);
+                    ByteBuffer view = ByteBuffer.wrap(record);
+                    long seq = view.getLong();
+                    long productId = view.getLong();
+                    long quantity = view.getLong();
+                    int type = view.getInt();
+                    int checksum = view.getInt();
+
+                    crc.reset();
+                    crc.update(record, 0, CHECKSUMMED_BYTES);
+                    if (seq == 0 || checksum != (int) crc.getValue()) {
+                        break; // 빈 영역 또는 기록 중 중단된 꼬리
+                    }
+                    if (seq < expected) {
+                        continue; // 체크포인트에 반영됨
+                    }
+                    if (seq > expected) {
+                        break;
+                    }
+                    handler.apply(type, productId, quantity);
+                    expected++;
+                }
+            }
+        }
+        return expected - 1;
+    }
+
+    private static List<Path> segments(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list write-ahead log segments", e);
+        }
+    }
+
+    private static long firstSeq(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    @FunctionalInterface
+    interface RecordHandler {
+        void apply(int type, long productId, long quantity);
+    }
+}
@@ -0,0 +1,38 @@
+package com.minishop.project.minishop.inventory.service;
+
+/**
+ * 2의 거듭제곱 버킷 지연 히스토그램 (마이크로초)
+ * 버킷 i: [2^i - 1, 2^(i+1) - 1) 구간, 고정 크기라 상품별로 들고 있어도 부담이 작다.
+ * 동기화는 호출자가 담당한다.
+ */
+class LatencyHistogram {
+
+    private static final int BUCKETS = 40;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+
+    void record(long micros) {
+        int bucket = Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(Math.max(0, micros) + 1));
+        counts[bucket]++;
+        total++;
+    }
+
+    /**
+     * @return 백분위가 속한 버킷의 상한 (기록이 없으면 0)
+     */
+    long percentile(double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return (1L << (i + 1)) - 1;
+            }
+        }
+        return (1L << BUCKETS) - 1;
+    }
+}
@@ -0,0 +1,132 @@
+package com.minishop.project.minishop.inventory.service;
+
+import java.util.Arrays;
+
+/**
+ * productId(long) → 가용/예약 수량 테이블 (open addressing, 선형 탐사)
+ *
+ * 박싱 없이 병렬 long 배열로 보관한다. 동기화는 호출자(MemoryInventoryStore)가 담당한다.
+ * 삭제는 지원하지 않는다 (재고 row 삭제 API가 없음).
+ */
+final class LongInventoryTable {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private long[] available;
+    private long[] reserved;
+    private boolean[] dirty;
+    private int size;
+
+    LongInventoryTable(int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * @return 슬롯 번호, 없으면 -1
+     */
+    int indexOf(long productId) {
+        int mask = keys.length - 1;
+        int slot = spread(productId) & mask;
+        while (true) {
+            long key = keys[slot];
+            if (key == productId) {
+                return slot;
+            }
+            if (key == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * 없으면 0/0으로 추가, 있으면 기존 슬롯 반환
+     */
+    int insert(long productId) {
+        int existing = indexOf(productId);
+        if (existing >= 0) {
+            return existing;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        int slot = spread(productId) & mask;
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = productId;
+        size++;
+        return slot;
+    }
+
+    boolean isOccupied(int slot) {
+        return keys[slot] != EMPTY;
+    }
+
+    long productId(int slot) {
+        return keys[slot];
+    }
+
+    long available(int slot) {
+        return available[slot];
+    }
+
+    long reserved(int slot) {
+        return reserved[slot];
+    }
+
+    void set(int slot, long availableQuantity, long reservedQuantity) {
+        available[slot] = availableQuantity;
+        reserved[slot] = reservedQuantity;
+        dirty[slot] = true;
+    }
+
+    boolean isDirty(int slot) {
+        return dirty[slot];
+    }
+
+    void clearDirty(int slot) {
+        dirty[slot] = false;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldAvailable = available;
+        long[] oldReserved = reserved;
+        boolean[] oldDirty = dirty;
+
+        allocate(oldKeys.length << 1);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = insert(oldKeys[i]);
+                available[slot] = oldAvailable[i];
+                reserved[slot] = oldReserved[i];
+                dirty[slot] = oldDirty[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        available = new long[capacity];
+        reserved = new long[capacity];
+        dirty = new boolean[capacity];
+    }
+
+    private static int spread(long productId) {
+        long h = productId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,230 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.inventory.domain.HeldQuantity;
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryReservationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 메모리 재고 엔진 (inventory.engine=MEMORY)
+ *
+ * 가용/예약 수량의 기준은 메모리 저장소이며, 모든 변경은 WAL에 먼저 기록된다.
+ * inventories 테이블은 reconcile 주기마다 메모리 합계로 덮어써 조회/리포트용으로 유지한다.
+ *
+ * 기동 순서:
+ * 1. 체크포인트 + WAL 꼬리 재생
+ * 2. 저장소가 비어 있으면 inventories 테이블 값으로 적재
+ * 3. (선택) 주문 예약 내역(inventory_reservations) 합계와 예약 수량 대조
+ * 4. 체크포인트 기록
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.engine", havingValue = "MEMORY")
+public class MemoryInventoryEngine {
+
+    private static final String PUSH_TOTALS_SQL =
+            "UPDATE inventories SET quantity_available = ?, quantity_reserved = ?, updated_at = ?, "
+                    + "version = version + 1 WHERE product_id = ?";
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryReservationRepository reservationRepository;
+    private final InventoryStripeService stripeService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Path directory;
+    private final int segmentSize;
+    private final long fsyncIntervalMicros;
+    private final boolean awaitFsync;
+    private final boolean reconcileHoldsOnStartup;
+    private MemoryInventoryStore store;
+
+    public MemoryInventoryEngine(
+            InventoryRepository inventoryRepository,
+            InventoryReservationRepository reservationRepository,
+            InventoryStripeService stripeService,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${inventory.memory.directory:data/inventory-wal}") String directory,
+            @Value("${inventory.memory.segment-size-bytes:16777216}") int segmentSize,
+            @Value("${inventory.memory.fsync-interval-micros:500}") long fsyncIntervalMicros,
+            @Value("${inventory.memory.await-fsync:true}") boolean awaitFsync,
+            @Value("${inventory.memory.reconcile-holds-on-startup:false}") boolean reconcileHoldsOnStartup) {
+        this.inventoryRepository = inventoryRepository;
+        this.reservationRepository = reservationRepository;
+        this.stripeService = stripeService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSize;
+        this.fsyncIntervalMicros = fsyncIntervalMicros;
+        this.awaitFsync = awaitFsync;
+        this.reconcileHoldsOnStartup = reconcileHoldsOnStartup;
+    }
+
+    @PostConstruct
+    public void start() {
+        store = MemoryInventoryStore.open(directory, segmentSize, fsyncIntervalMicros);
+        if (store.isEmpty()) {
+            seedFromDatabase();
+        }
+        if (reconcileHoldsOnStartup) {
+            reconcileHolds();
+        }
+        store.checkpoint();
+    }
+
+    @PreDestroy
+    public void stop() {
+        pushTotals();
+        store.checkpoint();
+        store.close();
+    }
+
+    public void register(Long productId) {
+        durable(store.register(productId));
+    }
+
+    public void addStock(Long productId, Long quantity) {
+        durable(store.addStock(productId, quantity));
+    }
+
+    public void reserve(Long productId, Long quantity) {
+        durable(store.reserve(productId, quantity));
+    }
+
+    public void reserveAll(SortedMap<Long, Long> quantities) {
+        durable(store.reserveAll(quantities));
+    }
+
+    public void requireReserved(Long productId, Long quantity) {
+        store.requireReserved(productId, quantity);
+    }
+
+    public void release(Long productId, Long quantity) {
+        durable(store.release(productId, quantity));
+    }
+
+    public void confirm(Long productId, Long quantity) {
+        durable(store.confirm(productId, quantity));
+    }
+
+    public void confirmAll(SortedMap<Long, Long> quantities) {
+        durable(store.confirmAll(quantities));
+    }
+
+    public void unconfirm(Long productId, Long quantity) {
+        durable(store.unconfirm(productId, quantity));
+    }
+
+    /**
+     * DB row에 메모리 합계를 반영한 조회 전용 사본 (엔진에 없는 상품은 row 그대로)
+     */
+    public Inventory overlay(Inventory inventory) {
+        return store.find(inventory.getProductId())
+                .map(totals -> inventory.withTotals(totals.available(), totals.reserved()))
+                .orElse(inventory);
+    }
+
+    public boolean contains(Long productId) {
+        return store.find(productId).isPresent();
+    }
+
+    public Long getAvailableQuantity(Long productId) {
+        return store.find(productId)
+                .map(MemoryInventoryStore.Totals::available)
+                .orElse(null);
+    }
+
+    /**
+     * 변경된 상품의 메모리 합계를 inventories 테이블에 반영 (JDBC 배치 UPDATE 한 번)
+     * 실패하면 다음 주기에 다시 반영한다.
+     */
+    public int pushTotals() {
+        List<MemoryInventoryStore.Totals> dirty = store.drainDirty();
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(PUSH_TOTALS_SQL, dirty, dirty.size(), (ps, totals) -> {
+                        ps.setLong(1, totals.available());
+                        ps.setLong(2, totals.reserved());
+                        ps.setTimestamp(3, now);
+                        ps.setLong(4, totals.productId());
+                    }));
+        } catch (DataAccessException e) {
+            store.markDirty(dirty.stream().map(MemoryInventoryStore.Totals::productId).toList());
+            throw e;
+        }
+        return dirty.size();
+    }
+
+    public void checkpoint() {
+        store.checkpoint();
+    }
+
+    private void durable(long seq) {
+        if (awaitFsync) {
+            store.awaitDurable(seq);
+        }
+    }
+
+    /**
+     * 최초 전환 시 inventories 테이블(분할 상품은 버킷 합계)을 메모리로 적재
+     */
+    private void seedFromDatabase() {
+        for (Inventory row : inventoryRepository.findAll()) {
+            Inventory inventory = row.isStriped() ? stripeService.totals(row) : row;
+            long available = inventory.getQuantityAvailable();
+            long reserved = inventory.getQuantityReserved();
+
+            store.register(inventory.getProductId());
+            if (available + reserved > 0) {
+                store.addStock(inventory.getProductId(), available + reserved);
+            }
+            if (reserved > 0) {
+                store.reserve(inventory.getProductId(), reserved);
+            }
+        }
+    }
+
+    /**
+     * 예약 수량을 주문 예약 내역 합계에 맞춤
+     * - 초과분: 커밋되지 못한 트랜잭션이 WAL에 남긴 예약 → 해제
+     * - 부족분: 롤백 보상 전에 중단된 확정 → 예약으로 되돌림
+     * 모든 예약이 주문(holdForOrder)을 거치는 배포에서만 켠다.
+     */
+    private void reconcileHolds() {
+        Map<Long, Long> held = new TreeMap<>();
+        for (HeldQuantity hold : reservationRepository.sumQuantityGroupByProductId()) {
+            held.put(hold.getProductId(), hold.getQuantity());
+        }
+        for (Inventory row : inventoryRepository.findAll()) {
+            store.find(row.getProductId()).ifPresent(totals -> {
+                long expected = held.getOrDefault(totals.productId(), 0L);
+                if (totals.reserved() > expected) {
+                    store.release(totals.productId(), totals.reserved() - expected);
+                } else if (totals.reserved() < expected) {
+                    store.unconfirm(totals.productId(), expected - totals.reserved());
+                }
+            });
+        }
+    }
+}
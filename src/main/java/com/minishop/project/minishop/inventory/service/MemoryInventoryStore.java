@@ -0,0 +1,326 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 재고 저장소 (상품별 가용/예약 수량 + WAL + 체크포인트)
+ *
+ * 모든 변경은 잠금 안에서 WAL 기록 → 메모리 반영 순서로 처리하고 seq를 반환한다.
+ * 호출자는 필요하면 잠금 밖에서 awaitDurable(seq)로 디스크 반영을 기다린다.
+ * 기동 시 체크포인트 + 이후 WAL 레코드를 같은 apply 경로로 재생해 상태를 복원한다.
+ *
+ * 재고를 늘리는 변경(ADD_STOCK, RELEASE, UNCONFIRM)은 검증 없이 항상 성공하므로
+ * 트랜잭션 커밋 후 반영 또는 롤백 보상에 사용한다.
+ */
+final class MemoryInventoryStore implements AutoCloseable {
+
+    static final int REGISTER = 1;
+    static final int ADD_STOCK = 2;
+    static final int RESERVE = 3;
+    static final int RELEASE = 4;
+    static final int CONFIRM = 5;
+    static final int UNCONFIRM = 6;
+
+    private static final String CHECKPOINT_FILE = "checkpoint.bin";
+    private static final String CHECKPOINT_TEMP_FILE = "checkpoint.tmp";
+    private static final int CHECKPOINT_MAGIC = 0x494E5631; // "INV1"
+    private static final int CHECKPOINT_HEADER_SIZE = 16;
+    private static final int CHECKPOINT_ENTRY_SIZE = 24;
+
+    private final Path directory;
+    private final LongInventoryTable table = new LongInventoryTable(1024);
+    private final Object checkpointLock = new Object();
+    private InventoryWriteAheadLog wal;
+
+    private MemoryInventoryStore(Path directory) {
+        this.directory = directory;
+    }
+
+    static MemoryInventoryStore open(Path directory, int segmentSize, long fsyncIntervalMicros) {
+        MemoryInventoryStore store = new MemoryInventoryStore(directory);
+        long checkpointSeq = store.loadCheckpoint();
+        store.wal = InventoryWriteAheadLog.open(directory, segmentSize, fsyncIntervalMicros,
+                checkpointSeq, store::apply);
+        return store;
+    }
+
+    synchronized boolean isEmpty() {
+        return table.size() == 0;
+    }
+
+    synchronized Optional<Totals> find(long productId) {
+        int slot = table.indexOf(productId);
+        return slot < 0
+                ? Optional.empty()
+                : Optional.of(new Totals(productId, table.available(slot), table.reserved(slot)));
+    }
+
+    synchronized long register(long productId) {
+        if (table.indexOf(productId) >= 0) {
+            return wal.lastSeq();
+        }
+        return append(REGISTER, productId, 0L);
+    }
+
+    synchronized long addStock(long productId, long quantity) {
+        requireSlot(productId);
+        return append(ADD_STOCK, productId, quantity);
+    }
+
+    synchronized long reserve(long productId, long quantity) {
+        int slot = requireSlot(productId);
+        if (table.available(slot) < quantity) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY);
+        }
+        return append(RESERVE, productId, quantity);
+    }
+
+    /**
+     * 다상품 일괄 예약 (all-or-nothing), 전부 검증한 뒤에만 기록
+     */
+    synchronized long reserveAll(SortedMap<Long, Long> quantities) {
+        for (Map.Entry<Long, Long> line : quantities.entrySet()) {
+            int slot = requireSlot(line.getKey());
+            if (table.available(slot) < line.getValue()) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY,
+                        "Insufficient inventory for product " + line.getKey());
+            }
+        }
+        long seq = wal.lastSeq();
+        for (Map.Entry<Long, Long> line : quantities.entrySet()) {
+            seq = append(RESERVE, line.getKey(), line.getValue());
+        }
+        return seq;
+    }
+
+    /**
+     * 해제 가능 여부만 검증 (실제 해제는 커밋 후 release)
+     */
+    synchronized void requireReserved(long productId, long quantity) {
+        int slot = requireSlot(productId);
+        if (table.reserved(slot) < quantity) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Cannot release more than reserved");
+        }
+    }
+
+    /**
+     * 예약 해제, 현재 예약 수량을 넘는 부분은 무시 (커밋 후 반영이므로 실패할 수 없음)
+     */
+    synchronized long release(long productId, long quantity) {
+        int slot = table.indexOf(productId);
+        long releasable = slot < 0 ? 0L : Math.min(quantity, table.reserved(slot));
+        if (releasable == 0L) {
+            return wal.lastSeq();
+        }
+        return append(RELEASE, productId, releasable);
+    }
+
+    synchronized long confirm(long productId, long quantity) {
+        int slot = requireSlot(productId);
+        if (table.reserved(slot) < quantity) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Cannot confirm more than reserved");
+        }
+        return append(CONFIRM, productId, quantity);
+    }
+
+    synchronized long confirmAll(SortedMap<Long, Long> quantities) {
+        for (Map.Entry<Long, Long> line : quantities.entrySet()) {
+            int slot = requireSlot(line.getKey());
+            if (table.reserved(slot) < line.getValue()) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                        "Cannot confirm more than reserved");
+            }
+        }
+        long seq = wal.lastSeq();
+        for (Map.Entry<Long, Long> line : quantities.entrySet()) {
+            seq = append(CONFIRM, line.getKey(), line.getValue());
+        }
+        return seq;
+    }
+
+    /**
+     * 확정 취소 (롤백 보상), 판매된 수량을 예약으로 되돌림
+     */
+    synchronized long unconfirm(long productId, long quantity) {
+        requireSlot(productId);
+        return append(UNCONFIRM, productId, quantity);
+    }
+
+    void awaitDurable(long seq) {
+        wal.awaitDurable(seq);
+    }
+
+    /**
+     * DB 반영 대상 (마지막 조회 이후 변경된 상품), 조회 즉시 변경 표시 해제
+     */
+    synchronized List<Totals> drainDirty() {
+        List<Totals> dirty = new ArrayList<>();
+        for (int slot = 0; slot < table.capacity(); slot++) {
+            if (table.isOccupied(slot) && table.isDirty(slot)) {
+                dirty.add(new Totals(table.productId(slot), table.available(slot), table.reserved(slot)));
+                table.clearDirty(slot);
+            }
+        }
+        return dirty;
+    }
+
+    /**
+     * DB 반영 실패 시 다음 주기에 다시 반영하도록 표시
+     */
+    synchronized void markDirty(Collection<Long> productIds) {
+        for (Long productId : productIds) {
+            int slot = table.indexOf(productId);
+            if (slot >= 0) {
+                table.set(slot, table.available(slot), table.reserved(slot));
+            }
+        }
+    }
+
+    /**
+     * 현재 상태를 체크포인트 파일로 기록하고 반영된 WAL 세그먼트 삭제
+     * 상태 복사와 세그먼트 전환만 잠금 안에서 하고, 파일 기록은 잠금 밖에서 한다.
+     */
+    void checkpoint() {
+        synchronized (checkpointLock) {
+            ByteBuffer image;
+            long seq;
+            synchronized (this) {
+                seq = wal.lastSeq();
+                image = ByteBuffer.allocate(CHECKPOINT_HEADER_SIZE + table.size() * CHECKPOINT_ENTRY_SIZE + 4);
+                image.putInt(CHECKPOINT_MAGIC).putLong(seq).putInt(table.size());
+                for (int slot = 0; slot < table.capacity(); slot++) {
+                    if (table.isOccupied(slot)) {
+                        image.putLong(table.productId(slot)).putLong(table.available(slot)).putLong(table.reserved(slot));
+                    }
+                }
+                wal.roll();
+            }
+
+            CRC32C crc = new CRC32C();
+            crc.update(image.array(), 0, image.position());
+            image.putInt((int) crc.getValue());
+            image.flip();
+
+            Path temp = directory.resolve(CHECKPOINT_TEMP_FILE);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (image.hasRemaining()) {
+                    channel.write(image);
+                }
+                channel.force(true);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write inventory checkpoint", e);
+            }
+            try {
+                Files.move(temp, directory.resolve(CHECKPOINT_FILE),
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to replace inventory checkpoint", e);
+            }
+            wal.deleteSegmentsBefore(seq + 1);
+        }
+    }
+
+    @Override
+    public void close() {
+        wal.close();
+    }
+
+    private long append(int type, long productId, long quantity) {
+        long seq = wal.append(productId, type, quantity);
+        apply(type, productId, quantity);
+        return seq;
+    }
+
+    /**
+     * 실시간 변경과 WAL 재생이 공유하는 상태 반영 (검증은 호출 전에 끝남)
+     */
+    private void apply(int type, long productId, long quantity) {
+        if (type == REGISTER) {
+            table.insert(productId);
+            return;
+        }
+        int slot = table.indexOf(productId);
+        if (slot < 0) {
+            return;
+        }
+        long available = table.available(slot);
+        long reserved = table.reserved(slot);
+        switch (type) {
+            case ADD_STOCK -> table.set(slot, available + quantity, reserved);
+            case RESERVE -> table.set(slot, available - quantity, reserved + quantity);
+            case RELEASE -> table.set(slot, available + quantity, reserved - quantity);
+            case CONFIRM -> table.set(slot, available, reserved - quantity);
+            case UNCONFIRM -> table.set(slot, available, reserved + quantity);
+            default -> throw new IllegalStateException("Unknown inventory log record type " + type);
+        }
+    }
+
+    private int requireSlot(long productId) {
+        int slot = table.indexOf(productId);
+        if (slot < 0) {
+            throw new BusinessException(ErrorCode.INVENTORY_NOT_FOUND);
+        }
+        return slot;
+    }
+
+    /**
+     * @return 체크포인트에 반영된 마지막 seq (체크포인트가 없으면 0)
+     */
+    private long loadCheckpoint() {
+        Path path = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(path)) {
+            return 0L;
+        }
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read inventory checkpoint", e);
+        }
+
+        if (bytes.length < CHECKPOINT_HEADER_SIZE + 4) {
+            throw new IllegalStateException("Inventory checkpoint is corrupted: " + path);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, bytes.length - 4);
+        ByteBuffer image = ByteBuffer.wrap(bytes);
+        if (image.getInt(bytes.length - 4) != (int) crc.getValue()
+                || image.getInt() != CHECKPOINT_MAGIC) {
+            // 임시 파일 기록 후 원자적 교체이므로 정상 종료/비정상 종료 모두 여기에 오지 않아야 함
+            throw new IllegalStateException("Inventory checkpoint is corrupted: " + path);
+        }
+
+        long seq = image.getLong();
+        int count = image.getInt();
+        for (int i = 0; i < count; i++) {
+            long productId = image.getLong();
+            int slot = table.insert(productId);
+            table.set(slot, image.getLong(), image.getLong());
+            table.clearDirty(slot);
+        }
+        return seq;
+    }
+
+    record Totals(long productId, long available, long reserved) {
+    }
+}
@@ -0,0 +1,191 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.InventoryCounts;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 낙관적 락: 락 없이 수량/버전을 읽고 검증한 뒤 버전 비교 UPDATE
+ *
+ * - UPDATE 0건(다른 트랜잭션이 먼저 변경)이면 full jitter 지수 백오프 후 다시 읽어 재시도
+ * - max-attempts를 넘기면 INVENTORY_CONFLICT (재고 부족과 구분해 클라이언트가 재시도 가능)
+ * - 엔티티 flush 시점의 OptimisticLockException은 트랜잭션을 rollback-only로 만들어 같은 트랜잭션에서
+ *   재시도할 수 없으므로, @Version 필드를 버전 비교 UPDATE로 직접 사용한다
+ * - 재시도 조회가 최신 커밋 값을 보려면 READ COMMITTED 격리 수준이어야 한다 (H2 기본값)
+ *
+ * 일괄 처리는 productId 순서로 한 줄씩 처리하고, 실패 시 예외로 트랜잭션 전체를 롤백한다.
+ */
+@Component
+public class OptimisticInventoryStrategy implements InventoryConcurrencyStrategy {
+
+    /** 백오프 상한 */
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryLockMetrics lockMetrics;
+    private final Counter retryCounter;
+    private final int maxAttempts;
+    private final long backoffBaseNanos;
+
+    public OptimisticInventoryStrategy(
+            InventoryRepository inventoryRepository,
+            InventoryLockMetrics lockMetrics,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.optimistic.max-attempts:5}") int maxAttempts,
+            @Value("${inventory.optimistic.backoff-base-micros:200}") long backoffBaseMicros) {
+        this.inventoryRepository = inventoryRepository;
+        this.lockMetrics = lockMetrics;
+        this.retryCounter = Counter.builder("inventory.optimistic.retries")
+                .register(meterRegistry);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffBaseNanos = TimeUnit.MICROSECONDS.toNanos(backoffBaseMicros);
+    }
+
+    @Override
+    public ReservationMode mode() {
+        return ReservationMode.OPTIMISTIC;
+    }
+
+    @Override
+    public void addStock(Long productId, Long quantity) {
+        update("add_stock", require(productId), counts -> new Delta(quantity, 0));
+    }
+
+    @Override
+    public void reserve(Long productId, Long quantity) {
+        update("reserve", require(productId), counts -> reserveDelta(counts, quantity, null));
+    }
+
+    @Override
+    public void release(Long productId, Long quantity) {
+        update("release", require(productId), counts -> releaseDelta(counts, quantity));
+    }
+
+    @Override
+    public void confirm(Long productId, Long quantity) {
+        update("confirm", require(productId), counts -> confirmDelta(counts, quantity));
+    }
+
+    @Override
+    public Set<Long> reserveAll(SortedMap<Long, Long> quantities) {
+        return updateAll("reserve_all", quantities, (counts, quantity) -> reserveDelta(counts, quantity,
+                "Insufficient inventory for product " + counts.getProductId()));
+    }
+
+    @Override
+    public Set<Long> releaseAll(SortedMap<Long, Long> quantities) {
+        return updateAll("release_order", quantities, this::releaseDelta);
+    }
+
+    @Override
+    public Set<Long> confirmAll(SortedMap<Long, Long> quantities) {
+        return updateAll("confirm_order", quantities, this::confirmDelta);
+    }
+
+    private Set<Long> updateAll(String operation, SortedMap<Long, Long> quantities, LineChange change) {
+        Set<Long> unhandled = new TreeSet<>();
+        for (Map.Entry<Long, Long> line : quantities.entrySet()) {
+            Optional<InventoryCounts> counts = inventoryRepository.findCountsByProductId(line.getKey());
+            if (counts.isEmpty() || counts.get().isStriped()) {
+                unhandled.add(line.getKey()); // 분할 상품 또는 row 없음은 호출자가 처리
+                continue;
+            }
+            update(operation, counts.get(), current -> change.apply(current, line.getValue()));
+        }
+        return unhandled;
+    }
+
+    /**
+     * 읽기 → 검증 → 버전 비교 UPDATE 반복
+     * 검증 실패(재고 부족 등)는 재시도하지 않고 즉시 예외
+     */
+    private void update(String operation, InventoryCounts first, Change change) {
+        Long productId = first.getProductId();
+        InventoryCounts counts = first;
+        for (int attempt = 1; ; attempt++) {
+            Delta delta = change.apply(counts);
+            long version = counts.getVersion();
+            int updated = lockMetrics.measure(operation, productId,
+                    () -> inventoryRepository.updateIfVersion(productId, delta.available(), delta.reserved(),
+                            version, Instant.now()));
+            if (updated > 0) {
+                return;
+            }
+            if (attempt >= maxAttempts) {
+                throw new BusinessException(ErrorCode.INVENTORY_CONFLICT,
+                        "Inventory update conflict for product " + productId);
+            }
+            retryCounter.increment();
+            backoff(attempt);
+            counts = require(productId);
+        }
+    }
+
+    /**
+     * full jitter: [0, min(cap, base * 2^(attempt-1))) 구간에서 균등 대기
+     */
+    private void backoff(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_NANOS, backoffBaseNanos << Math.min(attempt - 1, 20));
+        if (ceiling > 0) {
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(ceiling));
+        }
+    }
+
+    private InventoryCounts require(Long productId) {
+        return inventoryRepository.findCountsByProductId(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND));
+    }
+
+    private Delta reserveDelta(InventoryCounts counts, Long quantity, String message) {
+        if (counts.getQuantityAvailable() < quantity) {
+            throw message != null
+                    ? new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY, message)
+                    : new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY);
+        }
+        return new Delta(-quantity, quantity);
+    }
+
+    private Delta releaseDelta(InventoryCounts counts, Long quantity) {
+        if (counts.getQuantityReserved() < quantity) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Cannot release more than reserved");
+        }
+        return new Delta(quantity, -quantity);
+    }
+
+    private Delta confirmDelta(InventoryCounts counts, Long quantity) {
+        if (counts.getQuantityReserved() < quantity) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Cannot confirm more than reserved");
+        }
+        return new Delta(0, -quantity);
+    }
+
+    private record Delta(long available, long reserved) {
+    }
+
+    @FunctionalInterface
+    private interface Change {
+        Delta apply(InventoryCounts counts);
+    }
+
+    @FunctionalInterface
+    private interface LineChange {
+        Delta apply(InventoryCounts counts, Long quantity);
+    }
+}
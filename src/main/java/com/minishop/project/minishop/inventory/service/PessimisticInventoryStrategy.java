@@ -0,0 +1,109 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+
+/**
+ * 비관적 락: SELECT ... FOR UPDATE 후 엔티티 변경 (read-modify-write)
+ * 일괄 처리는 productId 순서로 한 번에 잠그고 모든 라인을 검증한 뒤 변경한다.
+ */
+@Component
+public class PessimisticInventoryStrategy implements InventoryConcurrencyStrategy {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryLockMetrics lockMetrics;
+
+    public PessimisticInventoryStrategy(InventoryRepository inventoryRepository, InventoryLockMetrics lockMetrics) {
+        this.inventoryRepository = inventoryRepository;
+        this.lockMetrics = lockMetrics;
+    }
+
+    @Override
+    public ReservationMode mode() {
+        return ReservationMode.PESSIMISTIC;
+    }
+
+    @Override
+    public void addStock(Long productId, Long quantity) {
+        Inventory inventory = lockInventory(productId, "add_stock");
+        inventory.addStock(quantity);
+        inventoryRepository.save(inventory);
+    }
+
+    @Override
+    public void reserve(Long productId, Long quantity) {
+        Inventory inventory = lockInventory(productId, "reserve");
+        inventory.reserve(quantity);
+        inventoryRepository.save(inventory);
+    }
+
+    @Override
+    public void release(Long productId, Long quantity) {
+        Inventory inventory = lockInventory(productId, "release");
+        inventory.release(quantity);
+        inventoryRepository.save(inventory);
+    }
+
+    @Override
+    public void confirm(Long productId, Long quantity) {
+        Inventory inventory = lockInventory(productId, "confirm");
+        inventory.confirm(quantity);
+        inventoryRepository.save(inventory);
+    }
+
+    @Override
+    public Set<Long> reserveAll(SortedMap<Long, Long> quantities) {
+        List<Inventory> inventories = lockAll("reserve_all", quantities);
+        for (Inventory inventory : inventories) {
+            if (inventory.getQuantityAvailable() < quantities.get(inventory.getProductId())) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY,
+                        "Insufficient inventory for product " + inventory.getProductId());
+            }
+        }
+        return apply(inventories, quantities, Inventory::reserve);
+    }
+
+    @Override
+    public Set<Long> releaseAll(SortedMap<Long, Long> quantities) {
+        return apply(lockAll("release_order", quantities), quantities, Inventory::release);
+    }
+
+    @Override
+    public Set<Long> confirmAll(SortedMap<Long, Long> quantities) {
+        return apply(lockAll("confirm_order", quantities), quantities, Inventory::confirm);
+    }
+
+    private List<Inventory> lockAll(String operation, SortedMap<Long, Long> quantities) {
+        return lockMetrics.measure(operation, quantities.keySet(),
+                () -> inventoryRepository.findAllByProductIdInWithLock(quantities.keySet()));
+    }
+
+    /**
+     * 잠근 row에 변경 적용 (flush 시 UPDATE 배치 전송), 잠금 결과에 없는 상품 반환
+     */
+    private Set<Long> apply(List<Inventory> inventories, SortedMap<Long, Long> quantities,
+                            BiConsumer<Inventory, Long> change) {
+        Set<Long> unhandled = new TreeSet<>(quantities.keySet());
+        for (Inventory inventory : inventories) {
+            change.accept(inventory, quantities.get(inventory.getProductId()));
+            unhandled.remove(inventory.getProductId());
+        }
+        inventoryRepository.saveAll(inventories);
+        return unhandled;
+    }
+
+    private Inventory lockInventory(Long productId, String operation) {
+        return lockMetrics.measure(operation, productId,
+                        () -> inventoryRepository.findByProductIdWithLock(productId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND));
+    }
+}
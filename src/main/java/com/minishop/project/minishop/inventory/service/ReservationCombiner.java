@@ -0,0 +1,304 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.StockAllocation;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 같은 상품 예약 요청 합치기 (inventory.combining.enabled=true)
+ *
+ * 트랜잭션 밖에서 들어온 주문 예약(OrderService.createOrder)을 상품별로 window 동안 모은 뒤,
+ * 기다리던 요청 스레드 하나가 짧은 트랜잭션에서 "재고 row 잠금 조회 1회 + 합계 예약 1회"로 처리하고
+ * 요청마다 배정 결과(또는 INSUFFICIENT_INVENTORY)를 돌려준다.
+ *
+ * 규칙:
+ * - 요청 스레드는 트랜잭션(커넥션) 없이 기다리고 합친 예약 트랜잭션만 커넥션을 쓴다 (동시 요청 수가 풀 크기를 넘어도 막히지 않음)
+ * - 합친 예약은 바로 커밋되므로 요청자는 받은 배정을 자기 주문 트랜잭션에서 예약 내역으로 기록하고,
+ *   주문 트랜잭션이 실패하면 release로 직접 반환한다 (이 시점에는 요청자도 커넥션을 쥐고 있지 않음)
+ * - 요청 단위 전부 또는 전무: 접수 순서대로 남은 가용 수량에 들어오는 요청만 배정
+ * - 잠금 조회와 합계 예약 사이에 분할/창고 재고가 다른 경로로 줄어 합계 예약이 실패하면 한 번 다시 조회,
+ *   또 실패하면 그 묶음은 요청마다 따로 예약
+ * - 다상품 주문은 productId 순서로 상품별 배정을 받고, 한 상품이라도 실패하면 앞서 받은 배정을 반환
+ * - 지표: inventory.combining.batch.size (묶음당 요청 수), inventory.combining.release.failures (배정 반환 실패)
+ */
+@Component
+public class ReservationCombiner {
+
+    /// 대표 스레드가 아닌 요청이 결과를 기다리다 대표 역할을 다시 시도하는 간격
+    private static final long FOLLOWER_POLL_MILLIS = 1;
+
+    private final InventoryService inventoryService;
+    private final InventoryRepository inventoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary batchSize;
+    private final Counter releaseFailures;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final ConcurrentHashMap<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    public ReservationCombiner(
+            InventoryService inventoryService,
+            InventoryRepository inventoryRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.combining.enabled:false}") boolean enabled,
+            @Value("${inventory.combining.window-micros:200}") long windowMicros,
+            @Value("${inventory.combining.max-batch-size:64}") int maxBatchSize) {
+        this.inventoryService = inventoryService;
+        this.inventoryRepository = inventoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = DistributionSummary.builder("inventory.combining.batch.size")
+                .register(meterRegistry);
+        this.releaseFailures = Counter.builder("inventory.combining.release.failures")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 다상품 합친 예약 (트랜잭션 밖에서만 호출)
+     *
+     * @return 상품/창고별 배정 결과 (이미 커밋됨, 주문에 기록하지 못하면 release로 반환)
+     * @throws BusinessException 재고 부족 또는 재고 없음 (앞서 받은 배정은 반환됨)
+     */
+    public List<StockAllocation> reserveAll(Map<Long, Long> quantities) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Combined reservations must be requested outside a transaction");
+        }
+        SortedMap<Long, Long> sorted = new TreeMap<>(quantities);
+        List<StockAllocation> allocations = new ArrayList<>();
+        try {
+            sorted.forEach((productId, quantity) -> allocations.addAll(reserve(productId, quantity)));
+        } catch (RuntimeException e) {
+            release(allocations, e);
+            throw e;
+        }
+        return allocations;
+    }
+
+    /**
+     * 주문에 기록하지 못한 배정 반환
+     *
+     * @param cause 반환 실패 시 억제 예외로 붙일 원래 실패
+     */
+    public void release(List<StockAllocation> allocations, RuntimeException cause) {
+        if (allocations.isEmpty()) {
+            return;
+        }
+        try {
+            inventoryService.releaseAllocations(allocations);
+        } catch (RuntimeException e) {
+            releaseFailures.increment();
+            cause.addSuppressed(e);
+        }
+    }
+
+    private List<StockAllocation> reserve(Long productId, Long quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Quantity must be greater than 0");
+        }
+        Lane lane = lanes.computeIfAbsent(productId, id -> new Lane());
+        Request request = new Request(quantity);
+        lane.queue.add(request);
+
+        while (true) {
+            if (!request.outcome.isDone() && lane.combining.tryLock()) {
+                try {
+                    if (!request.outcome.isDone()) {
+                        LockSupport.parkNanos(windowNanos); // 같은 상품 요청을 더 모음
+                        combine(productId, lane);
+                    }
+                } finally {
+                    lane.combining.unlock();
+                }
+            }
+            try {
+                return request.outcome.get(FOLLOWER_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // 대표 스레드가 이 요청을 가져가기 전에 묶음을 닫음: 다시 대표 역할 시도
+            } catch (ExecutionException e) {
+                throw (RuntimeException) e.getCause();
+            } catch (InterruptedException e) {
+                // 이미 묶음에 들어간 요청은 취소할 수 없으므로 결과를 받은 뒤 인터럽트 상태만 복원
+                List<StockAllocation> allocations = awaitUninterruptibly(request);
+                Thread.currentThread().interrupt();
+                return allocations;
+            }
+        }
+    }
+
+    /**
+     * 대기 요청을 max-batch-size까지 꺼내 한 트랜잭션에서 배정
+     */
+    private void combine(Long productId, Lane lane) {
+        List<Request> batch = new ArrayList<>();
+        Request next;
+        while (batch.size() < maxBatchSize && (next = lane.queue.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSize.record(batch.size());
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                Map<Request, List<StockAllocation>> granted =
+                        transactionTemplate.execute(status -> grant(productId, batch));
+                complete(productId, batch, granted);
+                return;
+            } catch (BusinessException e) {
+                if (e.getErrorCode() != ErrorCode.INSUFFICIENT_INVENTORY) {
+                    batch.forEach(request -> request.outcome.completeExceptionally(e));
+                    return;
+                }
+                // 잠금 조회 뒤 다른 경로 예약으로 합계 예약 실패: 다시 조회
+            } catch (RuntimeException e) {
+                batch.forEach(request -> request.outcome.completeExceptionally(e));
+                return;
+            }
+        }
+        reserveEach(productId, batch);
+    }
+
+    /**
+     * 재고 row를 잠그고 접수 순서대로 가용 수량 안의 요청만 골라 합계를 한 번에 예약
+     */
+    private Map<Request, List<StockAllocation>> grant(Long productId, List<Request> batch) {
+        inventoryRepository.findByProductIdWithLock(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVENTORY_NOT_FOUND));
+        long remaining = inventoryService.getAvailability(List.of(productId)).getOrDefault(productId, 0L);
+
+        List<Request> accepted = new ArrayList<>();
+        long total = 0;
+        for (Request request : batch) {
+            if (request.quantity <= remaining) {
+                accepted.add(request);
+                remaining -= request.quantity;
+                total += request.quantity;
+            }
+        }
+        if (accepted.isEmpty()) {
+            return Map.of();
+        }
+        List<StockAllocation> allocations = inventoryService.reserveAll(Map.of(productId, total));
+        return split(accepted, allocations);
+    }
+
+    /**
+     * 합계 배정을 요청 순서대로 요청 수량만큼 나눔 (창고별 배정은 창고 순서 그대로)
+     */
+    private Map<Request, List<StockAllocation>> split(List<Request> accepted, List<StockAllocation> allocations) {
+        Map<Request, List<StockAllocation>> granted = new HashMap<>();
+        Iterator<StockAllocation> source = allocations.iterator();
+        StockAllocation current = null;
+        long left = 0;
+        for (Request request : accepted) {
+            List<StockAllocation> parts = new ArrayList<>();
+            long needed = request.quantity;
+            while (needed > 0) {
+                if (left == 0) {
+                    current = source.next();
+                    left = current.getQuantity();
+                }
+                long taken = Math.min(needed, left);
+                parts.add(StockAllocation.at(current.getProductId(), current.getLocationId(), taken));
+                needed -= taken;
+                left -= taken;
+            }
+            granted.put(request, parts);
+        }
+        return granted;
+    }
+
+    private void complete(Long productId, List<Request> batch, Map<Request, List<StockAllocation>> granted) {
+        for (Request request : batch) {
+            List<StockAllocation> allocations = granted.get(request);
+            if (allocations != null) {
+                request.outcome.complete(allocations);
+            } else {
+                request.outcome.completeExceptionally(insufficient(productId));
+            }
+        }
+    }
+
+    /**
+     * 요청마다 따로 예약 (합계 예약이 계속 실패한 묶음)
+     */
+    private void reserveEach(Long productId, List<Request> batch) {
+        for (Request request : batch) {
+            try {
+                request.outcome.complete(transactionTemplate.execute(status ->
+                        inventoryService.reserveAll(Map.of(productId, request.quantity))));
+            } catch (RuntimeException e) {
+                request.outcome.completeExceptionally(e);
+            }
+        }
+    }
+
+    private List<StockAllocation> awaitUninterruptibly(Request request) {
+        while (true) {
+            try {
+                return request.outcome.get();
+            } catch (InterruptedException ignored) {
+                // 결과를 받을 때까지 계속 기다림
+            } catch (ExecutionException e) {
+                Thread.currentThread().interrupt();
+                throw (RuntimeException) e.getCause();
+            }
+        }
+    }
+
+    private static BusinessException insufficient(Long productId) {
+        return new BusinessException(ErrorCode.INSUFFICIENT_INVENTORY,
+                "Insufficient inventory for product " + productId);
+    }
+
+    private static final class Lane {
+        private final Queue<Request> queue = new ConcurrentLinkedQueue<>();
+        private final ReentrantLock combining = new ReentrantLock();
+    }
+
+    private static final class Request {
+        private final long quantity;
+        private final CompletableFuture<List<StockAllocation>> outcome = new CompletableFuture<>();
+
+        private Request(long quantity) {
+            this.quantity = quantity;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.minishop.project.minishop.inventory.service;
+
+/**
+ * 재고 변경 방식 (InventoryConcurrencyStrategy 구현 선택)
+ *
+ * - PESSIMISTIC: PESSIMISTIC_WRITE 락으로 조회 후 엔티티 변경 (read-modify-write)
+ * - OPTIMISTIC: 락 없이 조회 후 버전 비교 UPDATE, 충돌 시 지터 백오프로 제한 횟수 재시도
+ * - CONDITIONAL: 조건부 UPDATE 한 번으로 처리, 영향받은 row 수로 성공 여부 판단
+ */
+public enum ReservationMode {
+    PESSIMISTIC,
+    OPTIMISTIC,
+    CONDITIONAL
+}
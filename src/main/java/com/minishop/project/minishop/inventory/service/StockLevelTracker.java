@@ -0,0 +1,95 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.inventory.domain.StockLevel;
+import com.minishop.project.minishop.inventory.event.StockLevelChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 부족/품절 구간 변경 감지
+ *
+ * 기준이 설정된 상품만 메모리에 두고(productId → threshold), 재고 변경 시 변경 전후 가용 수량으로
+ * 구간이 바뀐 경우에만 StockLevelChangedEvent를 발행한다. 기준이 없는 상품은 조회 없이 바로 끝난다.
+ *
+ * 발행은 단일 스레드 + 고정 크기 큐에서 처리해 요청 스레드를 막지 않는다.
+ * 큐가 가득 차면 이벤트를 버리고 inventory.stock_level.dropped 카운터를 올린다 (알림은 best-effort).
+ */
+@Component
+public class StockLevelTracker {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Long, Long> thresholds = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor dispatcher;
+    private final Counter droppedCounter;
+
+    public StockLevelTracker(
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.stock-level.queue-capacity:1000}") int queueCapacity) {
+        this.eventPublisher = eventPublisher;
+        this.dispatcher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "inventory-stock-level");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.droppedCounter = Counter.builder("inventory.stock_level.dropped")
+                .register(meterRegistry);
+    }
+
+    public boolean isTracked(Long productId) {
+        return thresholds.containsKey(productId);
+    }
+
+    /**
+     * @param lowStockThreshold 0이면 추적 해제
+     */
+    public void updateThreshold(Long productId, long lowStockThreshold) {
+        if (lowStockThreshold > 0) {
+            thresholds.put(productId, lowStockThreshold);
+        } else {
+            thresholds.remove(productId);
+        }
+    }
+
+    /**
+     * 변경 후 가용 수량과 변경량으로 변경 전 구간을 계산해 구간이 바뀐 경우에만 발행
+     *
+     * @param availableDelta 이번 변경의 가용 수량 증감 (예약은 음수, 재고 추가/해제는 양수)
+     */
+    public void publishIfCrossed(Long productId, long availableDelta, long availableAfter) {
+        Long threshold = thresholds.get(productId);
+        if (threshold == null || availableDelta == 0) {
+            return;
+        }
+        StockLevel previous = StockLevel.of(availableAfter - availableDelta, threshold);
+        StockLevel current = StockLevel.of(availableAfter, threshold);
+        if (previous == current) {
+            return;
+        }
+
+        StockLevelChangedEvent event = StockLevelChangedEvent.of(productId, previous, current,
+                availableAfter, threshold);
+        try {
+            dispatcher.execute(() -> eventPublisher.publishEvent(event));
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdown();
+    }
+}
@@ -0,0 +1,32 @@
+package com.minishop.project.minishop.order.controller;
+
+import com.minishop.project.minishop.common.response.ApiResponse;
+import com.minishop.project.minishop.order.dto.ConfigureWaitingRoomRequest;
+import com.minishop.project.minishop.order.service.OrderWaitingRoom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/orders")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminOrderController {
+
+    private final OrderWaitingRoom orderWaitingRoom;
+
+    /**
+     * 상품 대기열 열기/닫기 (출시/품절 상품의 주문 재시도 폭주 차단)
+     */
+    @PutMapping("/waiting-room/{productId}")
+    public ApiResponse<Boolean> configureWaitingRoom(
+            @PathVariable Long productId,
+            @RequestBody ConfigureWaitingRoomRequest request) {
+        if (Boolean.TRUE.equals(request.getEnabled())) {
+            orderWaitingRoom.open(productId);
+        } else {
+            orderWaitingRoom.close(productId);
+        }
+        return ApiResponse.success(orderWaitingRoom.isOpen(productId));
+    }
+}
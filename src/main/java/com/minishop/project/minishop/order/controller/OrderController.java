@@ -1,38 +1,124 @@
 package com.minishop.project.minishop.order.controller;
 
+import com.minishop.project.minishop.common.exception.ErrorCode;
 import com.minishop.project.minishop.common.response.ApiResponse;
 import com.minishop.project.minishop.common.util.AuthenticationContext;
 import com.minishop.project.minishop.order.domain.Order;
+import com.minishop.project.minishop.order.domain.OrderIntake;
+import com.minishop.project.minishop.order.domain.OrderPage;
+import com.minishop.project.minishop.order.domain.OrderSummaryPage;
+import com.minishop.project.minishop.order.domain.WaitingRoomAdmission;
 import com.minishop.project.minishop.order.dto.CreateOrderRequest;
+import com.minishop.project.minishop.order.dto.OrderItemRequest;
+import com.minishop.project.minishop.order.dto.OrderPageResponse;
 import com.minishop.project.minishop.order.dto.OrderResponse;
+import com.minishop.project.minishop.order.dto.OrderSummaryPageResponse;
+import com.minishop.project.minishop.order.dto.OrderSummaryResponse;
+import com.minishop.project.minishop.order.dto.OrderTicketResponse;
+import com.minishop.project.minishop.order.service.OrderIntakeService;
 import com.minishop.project.minishop.order.service.OrderService;
+import com.minishop.project.minishop.order.service.OrderWaitingRoom;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/orders")
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final String QUEUE_TICKET_HEADER = "X-Queue-Ticket";
+    private static final String QUEUE_POSITION_HEADER = "X-Queue-Position";
+
     private final OrderService orderService;
+    private final OrderWaitingRoom orderWaitingRoom;
+    private final OrderIntakeService orderIntakeService;
 
+    /**
+     * 대기열이 열린 상품은 사용자의 대기표가 입장 구간에 들어와야 주문 생성으로 진행
+     * 대기 중이면 DB 접근 없이 429 + 대기표(X-Queue-Ticket) + Retry-After 반환 (재시도는 같은 대기표로 판정)
+     *
+     * 비동기 접수 모드면 주문을 바로 생성하지 않고 202 + 주문 대기표(Location: /api/orders/tickets/{ticketId}) 반환,
+     * 접수 대기열이 가득 차면 429 + Retry-After
+     */
     @PostMapping
-    public ApiResponse<OrderResponse> createOrder(@RequestBody CreateOrderRequest request) {
+    public ResponseEntity<ApiResponse<?>> createOrder(@RequestBody CreateOrderRequest request) {
+        List<Long> productIds = request.getItems() == null ? List.of() : request.getItems().stream()
+                .map(OrderItemRequest::getProductId)
+                .toList();
         Long userId = AuthenticationContext.getCurrentUserId();
-        Order order = orderService.createOrder(userId, request.getItems());
-        return ApiResponse.success(OrderResponse.from(order));
+        WaitingRoomAdmission admission = orderWaitingRoom.admit(userId, productIds);
+        if (!admission.isAdmitted()) {
+            long retryAfterSeconds = Math.max(1L, (admission.getRetryAfterMillis() + 999) / 1000);
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(QUEUE_TICKET_HEADER, admission.getTickets())
+                    .header(QUEUE_POSITION_HEADER, String.valueOf(admission.getPosition()))
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .body(ApiResponse.error(ErrorCode.ORDER_QUEUED.getCode(), ErrorCode.ORDER_QUEUED.getMessage()));
+        }
+
+        if (orderIntakeService.isEnabled()) {
+            Optional<OrderIntake> intake = orderIntakeService.submit(userId, request.getItems(), request.isAllowBackorder());
+            if (intake.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(ApiResponse.error(ErrorCode.ORDER_INTAKE_FULL.getCode(),
+                                ErrorCode.ORDER_INTAKE_FULL.getMessage()));
+            }
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/orders/tickets/" + intake.get().getId()))
+                    .body(ApiResponse.success(OrderTicketResponse.from(intake.get())));
+        }
+
+        Order order = orderService.createOrder(userId, request.getItems(), request.isAllowBackorder());
+        return ResponseEntity.ok(ApiResponse.success(OrderResponse.from(order)));
+    }
+
+    /**
+     * 비동기 접수 처리 결과 (COMPLETED면 orderId로 주문 조회)
+     */
+    @GetMapping("/tickets/{ticketId}")
+    public ApiResponse<OrderTicketResponse> getTicket(@PathVariable Long ticketId) {
+        Long userId = AuthenticationContext.getCurrentUserId();
+        OrderIntake intake = orderIntakeService.getTicket(ticketId, userId);
+        return ApiResponse.success(OrderTicketResponse.from(intake));
     }
 
+    /**
+     * 내 주문 내역 (최신순 커서 페이지)
+     * 다음 페이지는 응답의 next를 cursor로 다시 보낸다.
+     */
     @GetMapping
-    public ApiResponse<List<OrderResponse>> getMyOrders() {
+    public ApiResponse<OrderPageResponse> getMyOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         Long userId = AuthenticationContext.getCurrentUserId();
-        List<Order> orders = orderService.getOrdersByUser(userId);
-        List<OrderResponse> responses = orders.stream()
-                .map(OrderResponse::from)
-                .toList();
-        return ApiResponse.success(responses);
+        OrderPage page = orderService.getOrderHistory(userId, cursor, size);
+        return ApiResponse.success(OrderPageResponse.from(page));
+    }
+
+    /**
+     * 내 주문 요약 목록 (최신순 커서 페이지, 주문 항목 없이 요약 테이블만 조회)
+     */
+    @GetMapping("/summaries")
+    public ApiResponse<OrderSummaryPageResponse> getMyOrderSummaries(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long userId = AuthenticationContext.getCurrentUserId();
+        OrderSummaryPage page = orderService.getOrderSummaries(userId, cursor, size);
+        return ApiResponse.success(OrderSummaryPageResponse.from(page));
+    }
+
+    @GetMapping("/{id}/summary")
+    public ApiResponse<OrderSummaryResponse> getOrderSummary(@PathVariable Long id) {
+        Long userId = AuthenticationContext.getCurrentUserId();
+        return ApiResponse.success(OrderSummaryResponse.from(orderService.getOrderSummary(id, userId)));
     }
 
     @GetMapping("/{id}")
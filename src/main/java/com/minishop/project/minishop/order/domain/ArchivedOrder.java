@@ -0,0 +1,66 @@
+package com.minishop.project.minishop.order.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보관된 주문 (orders_archive)
+ *
+ * 종료 상태로 일정 기간이 지난 주문을 OrderArchiveService가 orders에서 옮겨 온다.
+ * - 행은 INSERT ... SELECT로 복사되므로 id와 컬럼 값은 원본 그대로, archivedAt만 추가
+ * - 읽기 전용: 조회 시 toOrder()로 영속성 컨텍스트 밖의 Order 사본을 만든다
+ */
+@Entity
+@Table(name = "orders_archive", indexes = {
+        @Index(name = "idx_orders_archive_user_id", columnList = "user_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedOrder {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status;
+
+    @Column(nullable = false)
+    private Long totalAmount;
+
+    /// 보관 기간이 지나 삭제할 때 항목도 함께 삭제
+    @OneToMany(mappedBy = "order", cascade = CascadeType.REMOVE)
+    @OrderBy("id")
+    private List<ArchivedOrderItem> items = new ArrayList<>();
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @Column(nullable = false)
+    private Instant archivedAt;
+
+    public Order toOrder() {
+        Order order = Order.builder()
+                .id(id)
+                .userId(userId)
+                .status(status)
+                .totalAmount(totalAmount)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+        items.forEach(item -> order.addOrderItem(item.toOrderItem()));
+        return order;
+    }
+}
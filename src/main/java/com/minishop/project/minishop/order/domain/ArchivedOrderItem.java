@@ -0,0 +1,47 @@
+package com.minishop.project.minishop.order.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관된 주문 항목 (order_items_archive, 원본 id 유지)
+ */
+@Entity
+@Table(name = "order_items_archive", indexes = {
+        @Index(name = "idx_order_items_archive_order_id", columnList = "order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedOrderItem {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    private ArchivedOrder order;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private String productName;
+
+    @Column(nullable = false)
+    private Long unitPrice;
+
+    @Column(nullable = false)
+    private Long quantity;
+
+    OrderItem toOrderItem() {
+        return OrderItem.builder()
+                .id(id)
+                .productId(productId)
+                .productName(productName)
+                .unitPrice(unitPrice)
+                .quantity(quantity)
+                .build();
+    }
+}
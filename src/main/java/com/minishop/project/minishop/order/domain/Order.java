@@ -7,13 +7,17 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_created_id", columnList = "user_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order {
@@ -32,7 +36,9 @@ public class Order {
     @Column(nullable = false)
     private Long totalAmount;
 
+    /// 페이지 조회 시 주문 여러 건의 항목을 IN 쿼리 한 번으로 로딩 (페이지 크기 상한과 같게)
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<OrderItem> orderItems = new ArrayList<>();
 
     @Column(nullable = false, updatable = false)
@@ -58,7 +64,8 @@ public class Order {
                 .userId(userId)
                 .status(OrderStatus.CREATED)
                 .totalAmount(0L)
-                .createdAt(Instant.now())
+                // 컬럼 정밀도(마이크로초)에 맞춰 저장 전후 값이 같도록 (주문 내역 커서 비교)
+                .createdAt(Instant.now().truncatedTo(ChronoUnit.MICROS))
                 .updatedAt(Instant.now())
                 .build();
 
@@ -81,10 +88,28 @@ public class Order {
                 .sum();
     }
 
-    public void cancel() {
+    public void backorder() {
         if (this.status != OrderStatus.CREATED) {
             throw new BusinessException(ErrorCode.INVALID_ORDER_STATUS,
-                    "Order can only be canceled when status is CREATED");
+                    "Order can only be backordered when status is CREATED");
+        }
+        this.status = OrderStatus.BACKORDERED;
+        this.updatedAt = Instant.now();
+    }
+
+    public void activate() {
+        if (this.status != OrderStatus.BACKORDERED) {
+            throw new BusinessException(ErrorCode.INVALID_ORDER_STATUS,
+                    "Order can only be activated when status is BACKORDERED");
+        }
+        this.status = OrderStatus.CREATED;
+        this.updatedAt = Instant.now();
+    }
+
+    public void cancel() {
+        if (this.status != OrderStatus.CREATED && this.status != OrderStatus.BACKORDERED) {
+            throw new BusinessException(ErrorCode.INVALID_ORDER_STATUS,
+                    "Order can only be canceled when status is CREATED or BACKORDERED");
         }
         this.status = OrderStatus.CANCELED;
         this.updatedAt = Instant.now();
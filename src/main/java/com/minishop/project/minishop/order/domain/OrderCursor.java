@@ -0,0 +1,52 @@
+package com.minishop.project.minishop.order.domain;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 주문 내역 페이지 커서 (마지막으로 반환한 주문의 createdAt, id)
+ *
+ * 클라이언트에는 불투명 문자열(URL-safe Base64)로 전달하고, 다음 요청은 이 위치보다 오래된 주문부터 조회한다.
+ */
+@Getter
+public class OrderCursor {
+    private final Instant createdAt;
+    private final Long id;
+
+    private OrderCursor(Instant createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static OrderCursor after(Order order) {
+        return new OrderCursor(order.getCreatedAt(), order.getId());
+    }
+
+    public static OrderCursor after(OrderSummary summary) {
+        return new OrderCursor(summary.getCreatedAt(), summary.getOrderId());
+    }
+
+    public static OrderCursor decode(String value) {
+        try {
+            String[] fields = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split(":", -1);
+            if (fields.length != 3) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Invalid cursor");
+            }
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(fields[0]), Long.parseLong(fields[1]));
+            return new OrderCursor(createdAt, Long.parseLong(fields[2]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.getEpochSecond() + ":" + createdAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,110 @@
+package com.minishop.project.minishop.order.domain;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 비동기 주문 접수 (주문 대기표)
+ *
+ * 비동기 접수 모드에서 POST /api/orders 요청을 저장하고 id를 대기표로 돌려준다.
+ * - 처리 순서는 id 순서 (status, id 인덱스로 대기열 앞부분 조회)
+ * - 상품별 수량은 "productId:quantity" 콤마 구분 문자열로 저장 (중복 상품은 합산)
+ * - 처리 결과는 COMPLETED(orderId) 또는 FAILED(errorCode)로 기록
+ * - 일시적 실패(락 대기 초과 등)로 처리하지 못한 횟수는 attempts에 기록 (PENDING 유지)
+ */
+@Entity
+@Table(name = "order_intakes", indexes = {
+        @Index(name = "idx_order_intakes_status_id", columnList = "status, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderIntake {
+
+    private static final int MAX_ITEMS_LENGTH = 4000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = MAX_ITEMS_LENGTH)
+    private String items;
+
+    @Column(nullable = false)
+    private boolean allowBackorder;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderIntakeStatus status;
+
+    private Long orderId;
+
+    private String errorCode;
+
+    private String errorMessage;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    private Instant processedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Builder
+    public OrderIntake(Long id, Long userId, String items, boolean allowBackorder, OrderIntakeStatus status,
+                       Long orderId, String errorCode, String errorMessage, Instant createdAt, Instant processedAt,
+                       int attempts) {
+        this.id = id;
+        this.userId = userId;
+        this.items = items;
+        this.allowBackorder = allowBackorder;
+        this.status = status != null ? status : OrderIntakeStatus.PENDING;
+        this.orderId = orderId;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        this.createdAt = createdAt != null ? createdAt : Instant.now();
+        this.processedAt = processedAt;
+        this.attempts = attempts;
+    }
+
+    public static OrderIntake create(Long userId, Map<Long, Long> quantities, boolean allowBackorder) {
+        StringJoiner items = new StringJoiner(",");
+        quantities.forEach((productId, quantity) -> items.add(productId + ":" + quantity));
+        if (items.length() > MAX_ITEMS_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Too many order items");
+        }
+
+        return OrderIntake.builder()
+                .userId(userId)
+                .items(items.toString())
+                .allowBackorder(allowBackorder)
+                .status(OrderIntakeStatus.PENDING)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    /**
+     * 상품별 수량 (접수 순서 유지)
+     */
+    public Map<Long, Long> getQuantities() {
+        Map<Long, Long> quantities = new LinkedHashMap<>();
+        for (String line : items.split(",")) {
+            int separator = line.indexOf(':');
+            quantities.put(Long.parseLong(line.substring(0, separator)), Long.parseLong(line.substring(separator + 1)));
+        }
+        return quantities;
+    }
+}
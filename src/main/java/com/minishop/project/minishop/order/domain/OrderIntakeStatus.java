@@ -0,0 +1,10 @@
+package com.minishop.project.minishop.order.domain;
+
+public enum OrderIntakeStatus {
+    /// 접수 대기열에서 처리 대기
+    PENDING,
+    /// 주문 생성 완료 (orderId)
+    COMPLETED,
+    /// 주문 생성 실패 (errorCode, errorMessage)
+    FAILED
+}
@@ -0,0 +1,20 @@
+package com.minishop.project.minishop.order.domain;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 주문 내역 한 페이지 (최신순)
+ * next가 null이면 마지막 페이지
+ */
+@Getter
+public class OrderPage {
+    private final List<Order> orders;
+    private final OrderCursor next;
+
+    public OrderPage(List<Order> orders, OrderCursor next) {
+        this.orders = orders;
+        this.next = next;
+    }
+}
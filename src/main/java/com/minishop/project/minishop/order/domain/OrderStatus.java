@@ -2,6 +2,8 @@ package com.minishop.project.minishop.order.domain;
 
 public enum OrderStatus {
     CREATED,
+    /// 재고 대기 중 (모든 라인이 배정되면 CREATED로 전환)
+    BACKORDERED,
     PAID,
     COMPLETED,
     CANCELED,
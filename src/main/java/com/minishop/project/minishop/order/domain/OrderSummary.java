@@ -0,0 +1,104 @@
+package com.minishop.project.minishop.order.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * 주문 요약 (조회 전용 비정규화 테이블)
+ *
+ * 주문 목록/상세 화면용으로 주문 한 건을 row 하나에 담는다. OrderItem을 로딩하지 않고 이 테이블만 조회한다.
+ * - 주문 생성 시 같은 트랜잭션에서 저장, 이후 상태 변경은 OrderService가 같은 트랜잭션에서 status/updatedAt 갱신
+ *   (요약이 없는 기존 주문은 기동 시 OrderSummaryBackfillService가 채우고, 그 전에 상태가 바뀌면 그때 생성)
+ * - 항목은 생성 후 바뀌지 않으므로 itemCount, firstItemName, totalAmount는 생성 시 값 유지
+ * - id는 주문 ID (저장 시 SELECT 없이 INSERT 하도록 Persistable로 새 엔티티 여부 판단)
+ */
+@Entity
+@Table(name = "order_summaries", indexes = {
+        @Index(name = "idx_order_summaries_user_created_id", columnList = "user_id, created_at, order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderSummary implements Persistable<Long> {
+
+    @Id
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status;
+
+    @Column(nullable = false)
+    private Long totalAmount;
+
+    /// 주문 라인 수
+    @Column(nullable = false)
+    private int itemCount;
+
+    private String firstItemName;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Builder
+    public OrderSummary(Long orderId, Long userId, OrderStatus status, Long totalAmount, int itemCount,
+                        String firstItemName, Instant createdAt, Instant updatedAt) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.itemCount = itemCount;
+        this.firstItemName = firstItemName;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static OrderSummary from(Order order) {
+        return OrderSummary.builder()
+                .orderId(order.getId())
+                .userId(order.getUserId())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .itemCount(order.getOrderItems().size())
+                .firstItemName(order.getOrderItems().isEmpty() ? null : order.getOrderItems().get(0).getProductName())
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .build();
+    }
+
+    public void changeStatus(OrderStatus status, Instant updatedAt) {
+        this.status = status;
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -0,0 +1,20 @@
+package com.minishop.project.minishop.order.domain;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 주문 요약 한 페이지 (최신순)
+ * next가 null이면 마지막 페이지
+ */
+@Getter
+public class OrderSummaryPage {
+    private final List<OrderSummary> summaries;
+    private final OrderCursor next;
+
+    public OrderSummaryPage(List<OrderSummary> summaries, OrderCursor next) {
+        this.summaries = summaries;
+        this.next = next;
+    }
+}
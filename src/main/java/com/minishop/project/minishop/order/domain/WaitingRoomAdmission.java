@@ -0,0 +1,39 @@
+package com.minishop.project.minishop.order.domain;
+
+import lombok.Getter;
+
+/**
+ * 대기열 입장 판정 결과
+ *
+ * tickets: 상품별 대기표 ("productId:token" 콤마 구분), 사용자에게 묶여 있어 다시 보낼 필요 없음 (확인용)
+ * position: 가장 뒤에 있는 대기표의 남은 순번 (입장 시 0)
+ */
+@Getter
+public class WaitingRoomAdmission {
+    private static final WaitingRoomAdmission NOT_GATED = new WaitingRoomAdmission(true, null, 0L, 0L);
+
+    private final boolean admitted;
+    private final String tickets;
+    private final long position;
+    private final long retryAfterMillis;
+
+    private WaitingRoomAdmission(boolean admitted, String tickets, long position, long retryAfterMillis) {
+        this.admitted = admitted;
+        this.tickets = tickets;
+        this.position = position;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /// 대기열이 열린 상품이 없는 주문
+    public static WaitingRoomAdmission notGated() {
+        return NOT_GATED;
+    }
+
+    public static WaitingRoomAdmission admitted(String tickets) {
+        return new WaitingRoomAdmission(true, tickets, 0L, 0L);
+    }
+
+    public static WaitingRoomAdmission waiting(String tickets, long position, long retryAfterMillis) {
+        return new WaitingRoomAdmission(false, tickets, position, retryAfterMillis);
+    }
+}
@@ -0,0 +1,14 @@
+package com.minishop.project.minishop.order.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ConfigureWaitingRoomRequest {
+    private Boolean enabled;
+
+    public ConfigureWaitingRoomRequest(Boolean enabled) {
+        this.enabled = enabled;
+    }
+}
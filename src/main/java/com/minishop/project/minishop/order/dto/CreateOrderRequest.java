@@ -9,8 +9,15 @@ import java.util.List;
 @NoArgsConstructor
 public class CreateOrderRequest {
     private List<OrderItemRequest> items;
+    /// 재고 부족 시 실패 대신 재고 대기 주문으로 접수 (inventory.backorder.enabled=true 일 때만)
+    private boolean allowBackorder;
 
     public CreateOrderRequest(List<OrderItemRequest> items) {
         this.items = items;
     }
+
+    public CreateOrderRequest(List<OrderItemRequest> items, boolean allowBackorder) {
+        this.items = items;
+        this.allowBackorder = allowBackorder;
+    }
 }
@@ -0,0 +1,25 @@
+package com.minishop.project.minishop.order.dto;
+
+import com.minishop.project.minishop.order.domain.OrderPage;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class OrderPageResponse {
+    private final List<OrderResponse> orders;
+    /// 다음 페이지 커서 (GET /api/orders?cursor=...), 마지막 페이지면 null
+    private final String next;
+
+    private OrderPageResponse(List<OrderResponse> orders, String next) {
+        this.orders = orders;
+        this.next = next;
+    }
+
+    public static OrderPageResponse from(OrderPage page) {
+        return new OrderPageResponse(
+                page.getOrders().stream().map(OrderResponse::from).toList(),
+                page.getNext() != null ? page.getNext().encode() : null
+        );
+    }
+}
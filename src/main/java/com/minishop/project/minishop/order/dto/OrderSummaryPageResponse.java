@@ -0,0 +1,25 @@
+package com.minishop.project.minishop.order.dto;
+
+import com.minishop.project.minishop.order.domain.OrderSummaryPage;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class OrderSummaryPageResponse {
+    private final List<OrderSummaryResponse> orders;
+    /// 다음 페이지 커서 (GET /api/orders/summaries?cursor=...), 마지막 페이지면 null
+    private final String next;
+
+    private OrderSummaryPageResponse(List<OrderSummaryResponse> orders, String next) {
+        this.orders = orders;
+        this.next = next;
+    }
+
+    public static OrderSummaryPageResponse from(OrderSummaryPage page) {
+        return new OrderSummaryPageResponse(
+                page.getSummaries().stream().map(OrderSummaryResponse::from).toList(),
+                page.getNext() != null ? page.getNext().encode() : null
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package com.minishop.project.minishop.order.dto;
+
+import com.minishop.project.minishop.order.domain.OrderStatus;
+import com.minishop.project.minishop.order.domain.OrderSummary;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+public class OrderSummaryResponse {
+    private final Long id;
+    private final Long userId;
+    private final OrderStatus status;
+    private final Long totalAmount;
+    private final int itemCount;
+    private final String firstItemName;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+
+    private OrderSummaryResponse(Long id, Long userId, OrderStatus status, Long totalAmount, int itemCount,
+                                 String firstItemName, Instant createdAt, Instant updatedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.itemCount = itemCount;
+        this.firstItemName = firstItemName;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static OrderSummaryResponse from(OrderSummary summary) {
+        return new OrderSummaryResponse(
+                summary.getOrderId(),
+                summary.getUserId(),
+                summary.getStatus(),
+                summary.getTotalAmount(),
+                summary.getItemCount(),
+                summary.getFirstItemName(),
+                summary.getCreatedAt(),
+                summary.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.minishop.project.minishop.order.dto;
+
+import com.minishop.project.minishop.order.domain.OrderIntake;
+import com.minishop.project.minishop.order.domain.OrderIntakeStatus;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+public class OrderTicketResponse {
+    private final Long ticketId;
+    private final OrderIntakeStatus status;
+    /// COMPLETED일 때 생성된 주문 (GET /api/orders/{orderId})
+    private final Long orderId;
+    /// FAILED일 때 실패 사유
+    private final String errorCode;
+    private final String errorMessage;
+    private final Instant createdAt;
+    private final Instant processedAt;
+
+    private OrderTicketResponse(Long ticketId, OrderIntakeStatus status, Long orderId, String errorCode,
+                                String errorMessage, Instant createdAt, Instant processedAt) {
+        this.ticketId = ticketId;
+        this.status = status;
+        this.orderId = orderId;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        this.createdAt = createdAt;
+        this.processedAt = processedAt;
+    }
+
+    public static OrderTicketResponse from(OrderIntake intake) {
+        return new OrderTicketResponse(
+                intake.getId(),
+                intake.getStatus(),
+                intake.getOrderId(),
+                intake.getErrorCode(),
+                intake.getErrorMessage(),
+                intake.getCreatedAt(),
+                intake.getProcessedAt()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.minishop.project.minishop.order.event;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 결제 대기 만료 시각 도달 이벤트
+ *
+ * 주문 만료 타이밍 휠의 tick 스레드에서 발행된다. 리스너는 tick을 막지 않도록 다른 스레드에서 처리한다.
+ */
+@Getter
+public class OrderExpiryDueEvent {
+    private final List<Long> orderIds;
+    private final Instant occurredAt;
+
+    private OrderExpiryDueEvent(List<Long> orderIds, Instant occurredAt) {
+        this.orderIds = orderIds;
+        this.occurredAt = occurredAt;
+    }
+
+    public static OrderExpiryDueEvent of(List<Long> orderIds) {
+        return new OrderExpiryDueEvent(List.copyOf(orderIds), Instant.now());
+    }
+}
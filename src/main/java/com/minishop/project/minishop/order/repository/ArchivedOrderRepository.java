@@ -0,0 +1,38 @@
+package com.minishop.project.minishop.order.repository;
+
+import com.minishop.project.minishop.order.domain.ArchivedOrder;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    /**
+     * 보관된 주문 상세 조회 (항목 fetch join)
+     */
+    @EntityGraph(attributePaths = "items")
+    Optional<ArchivedOrder> findWithItemsByIdAndUserId(Long id, Long userId);
+
+    /**
+     * 주문을 엔티티 로딩 없이 보관 테이블로 복사 (같은 트랜잭션에서 원본 삭제)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO orders_archive (id, user_id, status, total_amount, created_at, updated_at, archived_at) "
+            + "SELECT id, user_id, status, total_amount, created_at, updated_at, :archivedAt "
+            + "FROM orders WHERE id IN (:orderIds)", nativeQuery = true)
+    int copyOrders(@Param("orderIds") Collection<Long> orderIds, @Param("archivedAt") Instant archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO order_items_archive (id, order_id, product_id, product_name, unit_price, quantity) "
+            + "SELECT id, order_id, product_id, product_name, unit_price, quantity "
+            + "FROM order_items WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int copyItems(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -0,0 +1,69 @@
+package com.minishop.project.minishop.order.repository;
+
+import com.minishop.project.minishop.order.domain.OrderIntake;
+import com.minishop.project.minishop.order.domain.OrderIntakeStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderIntakeRepository extends JpaRepository<OrderIntake, Long> {
+
+    /**
+     * 접수 대기열에서 afterId 다음 부분 (접수 순서)
+     */
+    @Query("SELECT i FROM OrderIntake i WHERE i.status = :status AND i.id > :afterId ORDER BY i.id")
+    List<OrderIntake> findQueue(@Param("status") OrderIntakeStatus status,
+                                @Param("afterId") Long afterId,
+                                Pageable pageable);
+
+    long countByStatus(OrderIntakeStatus status);
+
+    /**
+     * 정리 대상 접수 ID (처리 완료/실패 후 before 이전, 접수 순서)
+     */
+    @Query("SELECT i.id FROM OrderIntake i WHERE i.status IN :statuses AND i.processedAt < :before ORDER BY i.id")
+    List<Long> findPurgeableIds(@Param("statuses") Collection<OrderIntakeStatus> statuses,
+                                @Param("before") Instant before,
+                                Pageable pageable);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM OrderIntake i WHERE i.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    Optional<OrderIntake> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * 처리 대기 조건으로 갱신하므로 이미 처리된 접수는 바뀌지 않는다 (호출자가 건수로 확인)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE OrderIntake i SET i.status = com.minishop.project.minishop.order.domain.OrderIntakeStatus.COMPLETED, "
+            + "i.orderId = :orderId, i.processedAt = :now "
+            + "WHERE i.id = :id AND i.status = com.minishop.project.minishop.order.domain.OrderIntakeStatus.PENDING")
+    int markCompleted(@Param("id") Long id, @Param("orderId") Long orderId, @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE OrderIntake i SET i.status = com.minishop.project.minishop.order.domain.OrderIntakeStatus.FAILED, "
+            + "i.errorCode = :errorCode, i.errorMessage = :errorMessage, i.processedAt = :now "
+            + "WHERE i.id = :id AND i.status = com.minishop.project.minishop.order.domain.OrderIntakeStatus.PENDING")
+    int markFailed(@Param("id") Long id,
+                   @Param("errorCode") String errorCode,
+                   @Param("errorMessage") String errorMessage,
+                   @Param("now") Instant now);
+
+    /**
+     * 일시적 실패 횟수 증가 (처리 대기 조건, 상태는 그대로)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE OrderIntake i SET i.attempts = i.attempts + 1 "
+            + "WHERE i.id = :id AND i.status = com.minishop.project.minishop.order.domain.OrderIntakeStatus.PENDING")
+    int incrementAttempts(@Param("id") Long id);
+}
@@ -3,13 +3,17 @@ package com.minishop.project.minishop.order.repository;
 import com.minishop.project.minishop.order.domain.Order;
 import com.minishop.project.minishop.order.domain.OrderStatus;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,10 +24,35 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<Order> findByIdWithLock(@Param("id") Long id);
 
+    @EntityGraph(attributePaths = "orderItems")
     List<Order> findByUserId(Long userId);
 
+    /**
+     * 주문 내역 첫 페이지 (최신순, (user_id, created_at, id) 인덱스 역순 범위 조회)
+     * 컬렉션 fetch join은 LIMIT을 메모리 페이징으로 바꾸므로 항목은 @BatchSize로 페이지 단위 로딩
+     */
+    @Query("SELECT o FROM Order o WHERE o.userId = :userId ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findHistory(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 주문 내역 다음 페이지: 커서 위치보다 오래된 주문 (OFFSET 없이 인덱스에서 바로 이어서 조회)
+     */
+    @Query("SELECT o FROM Order o WHERE o.userId = :userId "
+            + "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) "
+            + "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findHistoryBefore(@Param("userId") Long userId,
+                                  @Param("createdAt") Instant createdAt,
+                                  @Param("id") Long id,
+                                  Pageable pageable);
+
     Optional<Order> findByIdAndUserId(Long id, Long userId);
 
+    /**
+     * 주문 상세 조회 (항목 fetch join)
+     */
+    @EntityGraph(attributePaths = "orderItems")
+    Optional<Order> findWithItemsByIdAndUserId(Long id, Long userId);
+
     List<Order> findByStatus(OrderStatus status);
 
     List<Order> findByUserIdAndStatus(Long userId, OrderStatus status);
@@ -33,4 +62,38 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * 특정 상태이고 생성 시간이 특정 시간 이전인 주문 조회
      */
     List<Order> findByStatusAndCreatedAtBefore(OrderStatus status, Instant createdAt);
+
+    /**
+     * 보관 대상 주문 ID (종료 상태이고 마지막 변경이 before 이전, PK 순서로 afterId 다음부터)
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.id > :afterId AND o.status IN :statuses AND o.updatedAt < :before "
+            + "ORDER BY o.id")
+    List<Long> findArchivableIds(@Param("afterId") Long afterId,
+                                 @Param("statuses") Collection<OrderStatus> statuses,
+                                 @Param("before") Instant before,
+                                 Pageable pageable);
+
+    /**
+     * 예약 내역이 없는 주문 ID (예약 내역 도입 전 주문, PK 순서로 afterId 다음부터)
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.id > :afterId AND o.status IN :statuses "
+            + "AND NOT EXISTS (SELECT 1 FROM InventoryReservation r WHERE r.orderId = o.id) ORDER BY o.id")
+    List<Long> findIdsWithoutHold(@Param("afterId") Long afterId,
+                                  @Param("statuses") Collection<OrderStatus> statuses,
+                                  Pageable pageable);
+
+    /**
+     * 결제 실패 기록이 있는 주문 ID (결제 실패 시 재고가 이미 해제된 주문 구분용, 조회만)
+     */
+    @Query("SELECT DISTINCT p.orderId FROM Payment p WHERE p.orderId IN :orderIds "
+            + "AND p.status = com.minishop.project.minishop.payment.domain.PaymentStatus.FAILED")
+    List<Long> findIdsWithFailedPayment(@Param("orderIds") Collection<Long> orderIds);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM OrderItem i WHERE i.order.id IN :orderIds")
+    int deleteItemsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM Order o WHERE o.id IN :orderIds")
+    int deleteByIds(@Param("orderIds") Collection<Long> orderIds);
 }
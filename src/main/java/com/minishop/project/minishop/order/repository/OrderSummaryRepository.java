@@ -0,0 +1,59 @@
+package com.minishop.project.minishop.order.repository;
+
+import com.minishop.project.minishop.order.domain.OrderSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+    /**
+     * 주문 요약 첫 페이지 (최신순, (user_id, created_at, order_id) 인덱스 역순 범위 조회)
+     */
+    @Query("SELECT s FROM OrderSummary s WHERE s.userId = :userId ORDER BY s.createdAt DESC, s.orderId DESC")
+    List<OrderSummary> findHistory(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 주문 요약 다음 페이지: 커서 위치보다 오래된 주문
+     */
+    @Query("SELECT s FROM OrderSummary s WHERE s.userId = :userId "
+            + "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.orderId < :orderId)) "
+            + "ORDER BY s.createdAt DESC, s.orderId DESC")
+    List<OrderSummary> findHistoryBefore(@Param("userId") Long userId,
+                                         @Param("createdAt") Instant createdAt,
+                                         @Param("orderId") Long orderId,
+                                         Pageable pageable);
+
+    Optional<OrderSummary> findByOrderIdAndUserId(Long orderId, Long userId);
+
+    /**
+     * 요약이 없는 주문 ID (PK 순서로 afterId 다음부터)
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.id > :afterId "
+            + "AND NOT EXISTS (SELECT 1 FROM OrderSummary s WHERE s.orderId = o.id) ORDER BY o.id")
+    List<Long> findOrderIdsWithoutSummary(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 주문/항목에서 요약 생성 (대표 상품명은 첫 항목, 그 사이 요약이 생긴 주문은 건너뜀)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO order_summaries "
+            + "(order_id, user_id, status, total_amount, item_count, first_item_name, created_at, updated_at) "
+            + "SELECT o.id, o.user_id, o.status, o.total_amount, "
+            + "(SELECT COUNT(*) FROM order_items i WHERE i.order_id = o.id), "
+            + "(SELECT i.product_name FROM order_items i WHERE i.id = "
+            + "(SELECT MIN(f.id) FROM order_items f WHERE f.order_id = o.id)), "
+            + "o.created_at, o.updated_at "
+            + "FROM orders o WHERE o.id IN (:orderIds) "
+            + "AND NOT EXISTS (SELECT 1 FROM order_summaries s WHERE s.order_id = o.id)", nativeQuery = true)
+    int insertFromOrders(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -0,0 +1,27 @@
+package com.minishop.project.minishop.order.scheduler;
+
+import com.minishop.project.minishop.order.service.OrderArchiveService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종료 주문 보관 스케줄러 (order.archive.enabled=true)
+ *
+ * 종료 상태로 일정 기간이 지난 주문을 보관 테이블로 옮긴다.
+ */
+@Component
+@ConditionalOnProperty(name = "order.archive.enabled", havingValue = "true")
+public class OrderArchiveScheduler {
+
+    private final OrderArchiveService archiveService;
+
+    public OrderArchiveScheduler(OrderArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    @Scheduled(fixedDelayString = "${order.archive.interval-millis:3600000}")
+    public void archive() {
+        archiveService.archive();
+    }
+}
@@ -1,54 +1,35 @@
 package com.minishop.project.minishop.order.scheduler;
 
-import com.minishop.project.minishop.order.domain.Order;
-import com.minishop.project.minishop.order.domain.OrderStatus;
-import com.minishop.project.minishop.order.repository.OrderRepository;
-import com.minishop.project.minishop.order.service.OrderService;
+import com.minishop.project.minishop.order.service.OrderExpirationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.List;
 
 /**
  * 주문 만료 스케줄러
  *
  * CREATED 상태에서 30분 이내 결제되지 않은 주문을 자동으로 만료 처리
+ * - 재고 예약 내역의 expiresAt 인덱스로 만료 대상 주문 조회
  * - 재고 예약 해제
  * - 주문 상태를 EXPIRED로 변경
+ *
+ * 처리는 OrderExpirationService가 chunk로 나눠 작업 스레드에서 주문 단위 트랜잭션으로 수행하고,
+ * 시간 예산 안에 끝나지 않은 대상은 다음 실행에서 이어서 처리한다.
+ *
+ * 타이밍 휠(OrderExpiryWheel)을 사용하면 만료는 휠이 만료 시각에 처리하고,
+ * 이 점검은 휠에 없는 만료 대상(다른 인스턴스에서 생성된 주문 등)만 보정한다.
  */
 @Component
 @RequiredArgsConstructor
 public class OrderExpirationScheduler {
 
-    private final OrderRepository orderRepository;
-    private final OrderService orderService;
-
-    private static final long EXPIRATION_MINUTES = 30;
+    private final OrderExpirationService expirationService;
 
     /**
-     * 1분마다 실행
-     * 만료된 주문을 찾아서 처리
+     * 이전 실행이 끝난 뒤 interval-millis마다 실행 (실행이 겹치지 않음)
      */
-    @Scheduled(fixedRate = 60000) // 60초 = 1분
-    @Transactional
+    @Scheduled(fixedDelayString = "${order.expiration.interval-millis:60000}")
     public void expireOrders() {
-        Instant expirationTime = Instant.now().minus(EXPIRATION_MINUTES, ChronoUnit.MINUTES);
-
-        List<Order> expiredOrders = orderRepository
-                .findByStatusAndCreatedAtBefore(OrderStatus.CREATED, expirationTime);
-
-        for (Order order : expiredOrders) {
-            try {
-                orderService.expireOrder(order.getId());
-            } catch (Exception e) {
-                // 로그 기록 후 계속 진행
-                // TODO: 로깅 추가
-                System.err.println("Failed to expire order: " + order.getId() + ", error: " + e.getMessage());
-            }
-        }
+        expirationService.sweep();
     }
 }
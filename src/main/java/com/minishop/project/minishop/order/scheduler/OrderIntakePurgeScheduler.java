@@ -0,0 +1,27 @@
+package com.minishop.project.minishop.order.scheduler;
+
+import com.minishop.project.minishop.order.service.OrderIntakeService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 처리된 주문 접수 정리 스케줄러 (order.intake.async.enabled=true)
+ *
+ * 처리 완료/실패 후 보관 기간이 지난 접수(order_intakes)를 삭제한다.
+ */
+@Component
+@ConditionalOnProperty(name = "order.intake.async.enabled", havingValue = "true")
+public class OrderIntakePurgeScheduler {
+
+    private final OrderIntakeService intakeService;
+
+    public OrderIntakePurgeScheduler(OrderIntakeService intakeService) {
+        this.intakeService = intakeService;
+    }
+
+    @Scheduled(fixedDelayString = "${order.intake.purge-interval-millis:600000}")
+    public void purge() {
+        intakeService.purgeProcessed();
+    }
+}
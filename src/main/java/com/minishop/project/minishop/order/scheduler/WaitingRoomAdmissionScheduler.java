@@ -0,0 +1,23 @@
+package com.minishop.project.minishop.order.scheduler;
+
+import com.minishop.project.minishop.order.service.OrderWaitingRoom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 대기열 입장 스케줄러
+ *
+ * 열린 대기열마다 남은 재고만큼 다음 대기표 구간을 입장시킨다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomAdmissionScheduler {
+
+    private final OrderWaitingRoom orderWaitingRoom;
+
+    @Scheduled(fixedDelayString = "${order.waiting-room.admit-interval-millis:500}")
+    public void admit() {
+        orderWaitingRoom.admitNextBatches();
+    }
+}
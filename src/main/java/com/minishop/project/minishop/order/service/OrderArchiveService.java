@@ -0,0 +1,100 @@
+package com.minishop.project.minishop.order.service;
+
+import com.minishop.project.minishop.order.domain.OrderStatus;
+import com.minishop.project.minishop.order.repository.ArchivedOrderRepository;
+import com.minishop.project.minishop.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 종료 주문 보관 (OrderArchiveScheduler에서 호출)
+ *
+ * 종료 상태(CANCELED, EXPIRED, COMPLETED, REFUNDED)로 min-age-days가 지난 주문을 id 순서로 chunk-size건씩
+ * orders_archive / order_items_archive로 옮기고 같은 트랜잭션에서 원본을 삭제한다.
+ * 원본 테이블은 최근 주문과 진행 중인 주문만 남으므로 스케줄러/사용자 조회 인덱스 크기가 활동량에 비례한다.
+ *
+ * 규칙:
+ * - 복사는 INSERT ... SELECT로 엔티티를 로딩하지 않는다
+ * - 종료 상태는 더 이상 바뀌지 않으므로 조회와 이동 사이에 다른 트랜잭션과 경합하지 않는다
+ * - 시간 예산을 넘기면 남은 주문은 다음 실행으로 넘긴다
+ * - 보관된 주문은 getOrder가 보관 테이블에서 조회, 주문 요약(order_summaries)은 그대로 유지
+ * - 지표: order.archive.archived (보관한 주문 수)
+ */
+@Service
+public class OrderArchiveService {
+
+    private static final List<OrderStatus> TERMINAL_STATUSES = List.of(
+            OrderStatus.CANCELED, OrderStatus.EXPIRED, OrderStatus.COMPLETED, OrderStatus.REFUNDED);
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archivedCounter;
+    private final Duration minAge;
+    private final int chunkSize;
+    private final Duration timeBudget;
+
+    public OrderArchiveService(
+            OrderRepository orderRepository,
+            ArchivedOrderRepository archivedOrderRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${order.archive.min-age-days:90}") long minAgeDays,
+            @Value("${order.archive.chunk-size:500}") int chunkSize,
+            @Value("${order.archive.time-budget-millis:60000}") long timeBudgetMillis) {
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archivedCounter = Counter.builder("order.archive.archived")
+                .register(meterRegistry);
+        this.minAge = Duration.ofDays(minAgeDays);
+        this.chunkSize = chunkSize;
+        this.timeBudget = Duration.ofMillis(timeBudgetMillis);
+    }
+
+    /**
+     * @return 이번 실행에서 보관한 주문 수
+     */
+    public int archive() {
+        Instant before = Instant.now().minus(minAge);
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+
+        int archived = 0;
+        Long afterId = 0L;
+        while (System.nanoTime() < deadline) {
+            Long from = afterId;
+            List<Long> orderIds = transactionTemplate.execute(status -> moveChunk(from, before));
+            if (orderIds.isEmpty()) {
+                break;
+            }
+            archived += orderIds.size();
+            archivedCounter.increment(orderIds.size());
+            afterId = orderIds.get(orderIds.size() - 1);
+        }
+        return archived;
+    }
+
+    private List<Long> moveChunk(Long afterId, Instant before) {
+        List<Long> orderIds = orderRepository.findArchivableIds(afterId, TERMINAL_STATUSES, before,
+                PageRequest.of(0, chunkSize));
+        if (orderIds.isEmpty()) {
+            return orderIds;
+        }
+
+        Instant now = Instant.now();
+        archivedOrderRepository.copyOrders(orderIds, now);
+        archivedOrderRepository.copyItems(orderIds);
+        orderRepository.deleteItemsByOrderIds(orderIds);
+        orderRepository.deleteByIds(orderIds);
+        return orderIds;
+    }
+}
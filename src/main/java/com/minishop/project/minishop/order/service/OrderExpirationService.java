@@ -0,0 +1,155 @@
+package com.minishop.project.minishop.order.service;
+
+import com.minishop.project.minishop.inventory.service.InventoryService;
+import com.minishop.project.minishop.order.event.OrderExpiryDueEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 만료 주문 일괄 처리 (OrderExpirationScheduler 점검, OrderExpiryWheel 만료 이벤트)
+ *
+ * 만료된 예약 내역의 주문 ID를 orderId 순서로 (workers × chunk-size)건씩 읽어 chunk-size 단위로 나누고,
+ * chunk마다 작업 스레드에서 처리한다. 한 번에 메모리에 올리는 주문은 이 범위로 제한된다.
+ *
+ * 규칙:
+ * - 주문마다 자기 트랜잭션으로 만료 (재고 행 락은 주문 하나의 상품만 productId 순서로 잡고 바로 놓는다).
+ *   chunk 전체를 한 트랜잭션으로 묶으면 작업 스레드끼리 재고 행 락 순서가 엇갈려 교착되고 인기 상품 행을 오래 잡는다
+ * - 실패한 주문(락 대기 초과 등)은 건너뛰고 다음 점검에서 재시도
+ * - expired 지표와 반환값은 실제로 만료된 주문만 센다 (그 사이 결제/취소된 주문 제외)
+ * - 타이밍 휠 만료 이벤트는 chunk-size 단위로 나눠 작업 스레드에 넘기고 바로 반환 (tick 스레드를 막지 않음)
+ * - 시간 예산을 넘기면 남은 페이지는 다음 점검으로 넘긴다 (만료된 주문은 예약 내역이 삭제되어 다시 조회되지 않음)
+ * - 지표: order.expiration.backlog (점검 시작/종료 시 만료 대상 주문 수), order.expiration.expired,
+ *   order.expiration.failures, order.expiration.sweep (점검 소요 시간)
+ */
+@Service
+public class OrderExpirationService {
+
+    private final OrderService orderService;
+    private final InventoryService inventoryService;
+    private final ExecutorService workers;
+    private final int workerCount;
+    private final int chunkSize;
+    private final Duration timeBudget;
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter expiredCounter;
+    private final Counter failureCounter;
+    private final Timer sweepTimer;
+
+    public OrderExpirationService(
+            OrderService orderService,
+            InventoryService inventoryService,
+            MeterRegistry meterRegistry,
+            @Value("${order.expiration.workers:4}") int workerCount,
+            @Value("${order.expiration.chunk-size:100}") int chunkSize,
+            @Value("${order.expiration.time-budget-millis:30000}") long timeBudgetMillis) {
+        this.orderService = orderService;
+        this.inventoryService = inventoryService;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "order-expiration-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.workerCount = workerCount;
+        this.chunkSize = chunkSize;
+        this.timeBudget = Duration.ofMillis(timeBudgetMillis);
+        Gauge.builder("order.expiration.backlog", backlog, AtomicLong::get)
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("order.expiration.expired")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("order.expiration.failures")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("order.expiration.sweep")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 이번 점검에서 만료 처리한 주문 수
+     */
+    public int sweep() {
+        return sweepTimer.record(this::doSweep);
+    }
+
+    @EventListener
+    public void onExpiryDue(OrderExpiryDueEvent event) {
+        List<Long> orderIds = event.getOrderIds();
+        for (int from = 0; from < orderIds.size(); from += chunkSize) {
+            List<Long> chunk = orderIds.subList(from, Math.min(from + chunkSize, orderIds.size()));
+            workers.execute(() -> expireChunk(chunk));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private int doSweep() {
+        Instant now = Instant.now();
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+        backlog.set(inventoryService.countOrdersWithExpiredHolds(now));
+
+        int expired = 0;
+        Long afterOrderId = 0L;
+        while (System.nanoTime() < deadline) {
+            List<Long> orderIds = inventoryService.findOrderIdsWithExpiredHolds(now, afterOrderId,
+                    workerCount * chunkSize);
+            if (orderIds.isEmpty()) {
+                break;
+            }
+            afterOrderId = orderIds.get(orderIds.size() - 1);
+
+            List<Callable<Integer>> chunks = new ArrayList<>();
+            for (int from = 0; from < orderIds.size(); from += chunkSize) {
+                List<Long> chunk = orderIds.subList(from, Math.min(from + chunkSize, orderIds.size()));
+                chunks.add(() -> expireChunk(chunk));
+            }
+            try {
+                for (Future<Integer> result : workers.invokeAll(chunks)) {
+                    expired += result.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                failureCounter.increment();
+            }
+        }
+
+        backlog.set(inventoryService.countOrdersWithExpiredHolds(Instant.now()));
+        return expired;
+    }
+
+    private int expireChunk(List<Long> orderIds) {
+        int expired = 0;
+        for (Long orderId : orderIds) {
+            try {
+                if (orderService.expireOrder(orderId)) {
+                    expiredCounter.increment();
+                    expired++;
+                }
+            } catch (RuntimeException e) {
+                failureCounter.increment();
+            }
+        }
+        return expired;
+    }
+}
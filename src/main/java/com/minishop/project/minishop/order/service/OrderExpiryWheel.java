@@ -0,0 +1,167 @@
+package com.minishop.project.minishop.order.service;
+
+import com.minishop.project.minishop.inventory.domain.HoldExpiry;
+import com.minishop.project.minishop.inventory.service.InventoryService;
+import com.minishop.project.minishop.order.event.OrderExpiryDueEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 만료 타이밍 휠
+ *
+ * 결제 대기(CREATED) 주문의 만료 시각을 메모리의 계층형 타이밍 휠에 두고,
+ * 전용 스레드가 tick-millis마다 휠을 진행해 만료 시각이 된 주문으로 OrderExpiryDueEvent를 발행한다.
+ * 만료 대상이 없으면 DB를 조회하지 않는다.
+ *
+ * 규칙:
+ * - 주문 생성/대기 주문 전환 시 등록, 결제/취소/만료 시 제거 (트랜잭션 안이면 커밋 후 반영)
+ * - 기동 시 예약 내역의 만료 시각으로 복원 (복원과 동시에 결제된 주문이 남아도 expireOrder가 무시)
+ * - 만료 시각보다 먼저 발행하지 않고, 늦어도 tick 한 번 안에 발행
+ * - 휠 밖에서 생긴 만료 대상(다른 인스턴스의 주문 등)은 OrderExpirationScheduler 점검이 보정
+ */
+@Service
+public class OrderExpiryWheel {
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int LEVELS = 4;
+    private static final int RESTORE_BATCH_SIZE = 1000;
+
+    private final InventoryService inventoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final long tickMillis;
+    private final TimingWheel wheel;
+    private final ScheduledExecutorService ticker;
+
+    public OrderExpiryWheel(
+            InventoryService inventoryService,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${order.expiration.wheel.enabled:true}") boolean enabled,
+            @Value("${order.expiration.wheel.tick-millis:100}") long tickMillis) {
+        this.inventoryService = inventoryService;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.tickMillis = tickMillis;
+        this.wheel = new TimingWheel(WHEEL_SIZE, LEVELS, Instant.now().toEpochMilli() / tickMillis);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-expiry-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("order.expiration.wheel.size", this, OrderExpiryWheel::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 만료 시각 등록 (이미 있으면 변경)
+     */
+    public void schedule(Long orderId, Instant expiresAt) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            synchronized (wheel) {
+                wheel.add(orderId, deadlineTick(expiresAt));
+            }
+        });
+    }
+
+    public void cancel(Long orderId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            synchronized (wheel) {
+                wheel.remove(orderId);
+            }
+        });
+    }
+
+    public int size() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        restore();
+        ticker.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdown();
+    }
+
+    private void restore() {
+        Long afterOrderId = 0L;
+        List<HoldExpiry> page;
+        do {
+            page = inventoryService.findHoldExpiries(afterOrderId, RESTORE_BATCH_SIZE);
+            synchronized (wheel) {
+                page.forEach(hold -> wheel.add(hold.getOrderId(), deadlineTick(hold.getExpiresAt())));
+            }
+            if (!page.isEmpty()) {
+                afterOrderId = page.get(page.size() - 1).getOrderId();
+            }
+        } while (page.size() == RESTORE_BATCH_SIZE);
+    }
+
+    private void tick() {
+        List<Long> due;
+        synchronized (wheel) {
+            due = wheel.advance(Instant.now().toEpochMilli() / tickMillis);
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(OrderExpiryDueEvent.of(due));
+        } catch (RuntimeException e) {
+            // 예외가 나면 이후 tick이 실행되지 않으므로 삼킨다 (빠진 주문은 만료 점검이 처리)
+        }
+    }
+
+    /**
+     * 만료 시각을 올림한 tick (만료 시각 전에는 발행하지 않음)
+     */
+    private long deadlineTick(Instant expiresAt) {
+        return Math.ceilDiv(expiresAt.toEpochMilli(), tickMillis);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package com.minishop.project.minishop.order.service;
+
+import com.minishop.project.minishop.order.domain.OrderStatus;
+import com.minishop.project.minishop.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 주문 예약 내역 채우기 (order.hold.backfill.enabled=true)
+ *
+ * 해제/확정/만료는 주문별 예약 내역(inventory_reservations) 기준이므로, 예약 내역 도입 전에 만들어진
+ * 결제 대기/결제 완료 주문은 만료 점검에 잡히지 않고 취소/만료 시 예약 수량이 반환되지 않는다.
+ * 기동 시 이런 주문을 id 순서로 chunk-size건씩 주문 항목 수량으로 복원한다.
+ *
+ * 규칙:
+ * - 주문마다 자기 트랜잭션에서 주문 row를 잠근 뒤 다시 확인하고 복원 (OrderService.restoreHold)
+ * - 결제 실패 기록이 있는 결제 대기 주문은 재고가 이미 해제되었으므로 예약 내역 없이 취소
+ * - 결제 대기 주문은 원래 만료 시각(생성 시각 + 예약 유지 시간)을 그대로 쓰므로 지난 주문은 다음 만료 점검에서 만료
+ * - 예외는 backfill()에서 그대로 던지고, 기동 시 실행은 실패 지표만 남기고 기동을 막지 않는다 (남은 주문은 다음 기동에서)
+ * - 지표: order.hold.backfilled (복원/취소한 주문 수), order.hold.backfill.failures (중단된 실행 수)
+ */
+@Service
+public class OrderHoldBackfillService {
+
+    private static final List<OrderStatus> HOLDING_STATUSES = List.of(OrderStatus.CREATED, OrderStatus.PAID);
+
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final Counter backfilledCounter;
+    private final Counter failureCounter;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    public OrderHoldBackfillService(
+            OrderService orderService,
+            OrderRepository orderRepository,
+            MeterRegistry meterRegistry,
+            @Value("${order.hold.backfill.enabled:true}") boolean enabled,
+            @Value("${order.hold.backfill.chunk-size:500}") int chunkSize) {
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.backfilledCounter = Counter.builder("order.hold.backfilled")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("order.hold.backfill.failures")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            backfill();
+        } catch (RuntimeException e) {
+            // 남은 주문은 다음 기동에서 채운다
+            failureCounter.increment();
+        }
+    }
+
+    /**
+     * @return 이번 실행에서 예약 내역을 복원하거나 취소한 주문 수
+     */
+    public int backfill() {
+        int backfilled = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Long> orderIds = orderRepository.findIdsWithoutHold(afterId, HOLDING_STATUSES,
+                    PageRequest.of(0, chunkSize));
+            if (orderIds.isEmpty()) {
+                break;
+            }
+            Set<Long> paymentFailed = new HashSet<>(orderRepository.findIdsWithFailedPayment(orderIds));
+            for (Long orderId : orderIds) {
+                if (orderService.restoreHold(orderId, paymentFailed.contains(orderId))) {
+                    backfilledCounter.increment();
+                    backfilled++;
+                }
+            }
+            afterId = orderIds.get(orderIds.size() - 1);
+        }
+        return backfilled;
+    }
+}
@@ -0,0 +1,306 @@
+package com.minishop.project.minishop.order.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.order.domain.Order;
+import com.minishop.project.minishop.order.domain.OrderIntake;
+import com.minishop.project.minishop.order.domain.OrderIntakeStatus;
+import com.minishop.project.minishop.order.dto.OrderItemRequest;
+import com.minishop.project.minishop.order.repository.OrderIntakeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 비동기 주문 접수 (order.intake.async.enabled=true)
+ *
+ * POST /api/orders 요청을 검증 후 접수 테이블에 저장하고 대기표(202)를 돌려준다.
+ * 전용 스레드가 drain-interval마다 접수 대기열을 drain-batch-size씩 읽어 주문을 생성하므로,
+ * 순간적인 주문 폭주가 일정한 속도의 재고 예약 트랜잭션으로 바뀐다.
+ *
+ * 규칙:
+ * - 처리 대기 건수가 capacity 이상이면 저장하지 않고 거절 (컨트롤러가 429 + Retry-After)
+ * - 처리 대기 건수는 drain이 끝날 때마다 DB의 PENDING 건수로 다시 맞추고, 그 사이에는 이 노드의 접수/처리만 더하고 뺀다.
+ *   여러 노드가 같은 대기열을 처리해도 drain-interval 안에 전체 대기열 기준으로 돌아온다
+ * - 접수는 DB에 저장되므로 재시작 후에도 남은 대기열을 이어서 처리 (기동 시 처리 대기 건수 복원)
+ * - 처리 완료/실패 후 retention-hours가 지난 접수는 purge-chunk-size건씩 삭제 (OrderIntakePurgeScheduler)
+ * - 배치 안의 접수는 주문 상품 조합별로 묶어 한 트랜잭션에서 생성 (같은 재고 row 락을 한 번 잡고 공유)
+ * - 묶음 트랜잭션이 실패하면(재고 부족 등) 그 묶음만 접수 단위 트랜잭션으로 다시 처리, 실패 접수는 FAILED(errorCode)
+ * - 접수 단위 처리에서 BusinessException이 아닌 예외(락 대기 초과, 커넥션 부족, 교착 희생 등)는 일시적 실패로 보고
+ *   attempts만 늘려 PENDING으로 남긴다 (다음 drain에서 재시도, max-attempts번째 실패에서 FAILED(INTERNAL_SERVER_ERROR))
+ * - 한 번의 drain은 대기열을 id 순서로 한 번만 훑으므로 재시도 대기 접수가 같은 drain에서 반복되지 않는다
+ * - 접수 완료 표시는 처리 대기 조건으로 갱신하므로 여러 노드가 같은 접수를 처리해도 주문은 하나만 남는다
+ */
+@Service
+public class OrderIntakeService {
+
+    private final OrderService orderService;
+    private final OrderIntakeRepository intakeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService drainer;
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter createdCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+    private final boolean enabled;
+    private final long capacity;
+    private final int drainBatchSize;
+    private final long drainIntervalMillis;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final int purgeChunkSize;
+
+    public OrderIntakeService(
+            OrderService orderService,
+            OrderIntakeRepository intakeRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${order.intake.async.enabled:false}") boolean enabled,
+            @Value("${order.intake.capacity:10000}") long capacity,
+            @Value("${order.intake.drain-batch-size:50}") int drainBatchSize,
+            @Value("${order.intake.drain-interval-millis:50}") long drainIntervalMillis,
+            @Value("${order.intake.max-attempts:5}") int maxAttempts,
+            @Value("${order.intake.retention-hours:24}") long retentionHours,
+            @Value("${order.intake.purge-chunk-size:500}") int purgeChunkSize) {
+        this.orderService = orderService;
+        this.intakeRepository = intakeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-intake-drain");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.drainBatchSize = drainBatchSize;
+        this.drainIntervalMillis = drainIntervalMillis;
+        this.maxAttempts = maxAttempts;
+        this.retention = Duration.ofHours(retentionHours);
+        this.purgeChunkSize = purgeChunkSize;
+        Gauge.builder("order.intake.pending", pending, AtomicLong::get)
+                .register(meterRegistry);
+        this.acceptedCounter = Counter.builder("order.intake.requests")
+                .tag("outcome", "accepted")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("order.intake.requests")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+        this.createdCounter = Counter.builder("order.intake.processed")
+                .tag("outcome", "created")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("order.intake.processed")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("order.intake.processed")
+                .tag("outcome", "retried")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주문 요청 접수
+     *
+     * @return 저장된 대기표, 접수 대기열이 가득 차면 empty
+     */
+    public Optional<OrderIntake> submit(Long userId, List<OrderItemRequest> itemRequests, boolean allowBackorder) {
+        orderService.validateOrderRequest(itemRequests);
+        Map<Long, Long> quantities = new LinkedHashMap<>();
+        for (OrderItemRequest request : itemRequests) {
+            quantities.merge(request.getProductId(), request.getQuantity(), Long::sum);
+        }
+        OrderIntake intake = OrderIntake.create(userId, quantities, allowBackorder);
+
+        if (pending.incrementAndGet() > capacity) {
+            pending.decrementAndGet();
+            rejectedCounter.increment();
+            return Optional.empty();
+        }
+        try {
+            OrderIntake saved = transactionTemplate.execute(status -> intakeRepository.save(intake));
+            acceptedCounter.increment();
+            return Optional.of(saved);
+        } catch (RuntimeException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+    }
+
+    public OrderIntake getTicket(Long ticketId, Long userId) {
+        return intakeRepository.findByIdAndUserId(ticketId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_INTAKE_NOT_FOUND));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        pending.set(intakeRepository.countByStatus(OrderIntakeStatus.PENDING));
+        drainer.scheduleWithFixedDelay(this::drainQuietly, drainIntervalMillis, drainIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drainer.shutdown();
+    }
+
+    /**
+     * 접수 대기열 끝까지 배치 단위로 주문 생성 (동시에 한 스레드만 실행)
+     *
+     * @return 처리를 시도한 접수 수 (재시도 대기로 남은 접수 포함)
+     */
+    public int drain() {
+        if (!drainLock.tryLock()) {
+            return 0;
+        }
+        try {
+            int processed = 0;
+            long afterId = 0L;
+            List<OrderIntake> batch;
+            do {
+                batch = intakeRepository.findQueue(OrderIntakeStatus.PENDING, afterId,
+                        PageRequest.of(0, drainBatchSize));
+                for (List<OrderIntake> group : groupByProducts(batch)) {
+                    processGroup(group);
+                }
+                processed += batch.size();
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == drainBatchSize);
+            // 다른 노드가 처리한 접수는 이 노드의 건수에서 빠지지 않으므로 DB 기준으로 다시 맞춘다
+            pending.set(intakeRepository.countByStatus(OrderIntakeStatus.PENDING));
+            return processed;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * 처리 완료/실패 후 보관 기간이 지난 접수 삭제 (대기표 조회는 보관 기간 안에만 가능)
+     *
+     * @return 삭제한 접수 수
+     */
+    public int purgeProcessed() {
+        Instant before = Instant.now().minus(retention);
+        List<OrderIntakeStatus> processedStatuses = List.of(OrderIntakeStatus.COMPLETED, OrderIntakeStatus.FAILED);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = intakeRepository.findPurgeableIds(processedStatuses, before,
+                        PageRequest.of(0, purgeChunkSize));
+                return ids.isEmpty() ? 0 : intakeRepository.deleteByIds(ids);
+            });
+            purged += deleted;
+        } while (deleted == purgeChunkSize);
+        return purged;
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            // 예외가 나면 이후 실행이 멈추므로 삼킨다 (처리되지 않은 접수는 다음 실행에서 다시 조회)
+        }
+    }
+
+    /**
+     * 주문 상품 조합이 같은 접수끼리 묶음 (묶음 순서는 첫 접수 순서)
+     */
+    private List<List<OrderIntake>> groupByProducts(List<OrderIntake> batch) {
+        Map<List<Long>, List<OrderIntake>> groups = new LinkedHashMap<>();
+        for (OrderIntake intake : batch) {
+            List<Long> productIds = new ArrayList<>(new TreeSet<>(intake.getQuantities().keySet()));
+            groups.computeIfAbsent(productIds, key -> new ArrayList<>()).add(intake);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private void processGroup(List<OrderIntake> group) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> group.forEach(this::createOrder));
+            group.forEach(intake -> processed(createdCounter));
+        } catch (RuntimeException e) {
+            // 한 접수의 실패로 묶음 전체가 롤백됨: 접수 단위로 다시 처리
+            group.forEach(this::processOne);
+        }
+    }
+
+    private void processOne(OrderIntake intake) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> createOrder(intake));
+            processed(createdCounter);
+        } catch (BusinessException e) {
+            fail(intake, e.getErrorCode(), e.getMessage());
+        } catch (RuntimeException e) {
+            retryLater(intake);
+        }
+    }
+
+    private void createOrder(OrderIntake intake) {
+        List<OrderItemRequest> items = new ArrayList<>();
+        intake.getQuantities().forEach((productId, quantity) -> items.add(new OrderItemRequest(productId, quantity)));
+        Order order = orderService.createOrder(intake.getUserId(), items, intake.isAllowBackorder());
+        if (intakeRepository.markCompleted(intake.getId(), order.getId(), Instant.now()) != 1) {
+            // 다른 노드가 먼저 처리한 접수: 방금 생성한 주문은 롤백
+            throw new BusinessException(ErrorCode.INVALID_ORDER_STATUS, "Order ticket already processed");
+        }
+    }
+
+    private void fail(OrderIntake intake, ErrorCode errorCode, String message) {
+        Integer updated = transactionTemplate.execute(status ->
+                intakeRepository.markFailed(intake.getId(), errorCode.getCode(), message, Instant.now()));
+        if (updated != null && updated == 1) {
+            processed(failedCounter);
+        }
+    }
+
+    /**
+     * 일시적 실패: PENDING으로 남겨 다음 drain에서 재시도, max-attempts번째 실패면 FAILED
+     */
+    private void retryLater(OrderIntake intake) {
+        if (intake.getAttempts() + 1 >= maxAttempts) {
+            fail(intake, ErrorCode.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+            return;
+        }
+        Integer updated = transactionTemplate.execute(status -> intakeRepository.incrementAttempts(intake.getId()));
+        if (updated != null && updated == 1) {
+            retriedCounter.increment();
+        }
+    }
+
+    private void processed(Counter outcome) {
+        pending.decrementAndGet();
+        outcome.increment();
+    }
+}
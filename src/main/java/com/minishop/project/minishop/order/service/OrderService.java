@@ -2,54 +2,155 @@ package com.minishop.project.minishop.order.service;
 
 import com.minishop.project.minishop.common.exception.BusinessException;
 import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.StockAllocation;
+import com.minishop.project.minishop.inventory.event.BackorderFilledEvent;
+import com.minishop.project.minishop.inventory.service.BackorderService;
 import com.minishop.project.minishop.inventory.service.InventoryService;
+import com.minishop.project.minishop.inventory.service.ReservationCombiner;
+import com.minishop.project.minishop.order.domain.ArchivedOrder;
 import com.minishop.project.minishop.order.domain.Order;
+import com.minishop.project.minishop.order.domain.OrderCursor;
 import com.minishop.project.minishop.order.domain.OrderItem;
+import com.minishop.project.minishop.order.domain.OrderPage;
+import com.minishop.project.minishop.order.domain.OrderStatus;
+import com.minishop.project.minishop.order.domain.OrderSummary;
+import com.minishop.project.minishop.order.domain.OrderSummaryPage;
 import com.minishop.project.minishop.order.dto.OrderItemRequest;
+import com.minishop.project.minishop.order.repository.ArchivedOrderRepository;
 import com.minishop.project.minishop.order.repository.OrderRepository;
+import com.minishop.project.minishop.order.repository.OrderSummaryRepository;
 import com.minishop.project.minishop.product.domain.Product;
 import com.minishop.project.minishop.product.service.ProductService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderSummaryRepository summaryRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
     private final ProductService productService;
     private final InventoryService inventoryService;
+    private final BackorderService backorderService;
+    private final OrderExpiryWheel expiryWheel;
+    private final ReservationCombiner reservationCombiner;
+    private final PlatformTransactionManager transactionManager;
+
+    /** 결제 대기 주문의 재고 예약 유지 시간 */
+    private static final Duration RESERVATION_TTL = Duration.ofMinutes(30);
+
+    /** 주문 내역 페이지 크기 기본값/상한 */
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
 
-    @Transactional
     public Order createOrder(Long userId, List<OrderItemRequest> itemRequests) {
-        validateOrderRequest(itemRequests);
+        return createOrder(userId, itemRequests, false);
+    }
 
-        List<OrderItem> orderItems = new ArrayList<>();
+    /**
+     * 트랜잭션 밖에서 호출되고 예약 합치기(inventory.combining.enabled)가 켜져 있으면
+     * 주문 트랜잭션을 열기 전에 합친 예약으로 배정을 받고, 주문 트랜잭션은 주문/예약 내역만 저장한다
+     * (재고 row 락을 주문 트랜잭션 동안 잡지 않음, 주문 저장이 실패하면 배정을 반환).
+     * 다른 트랜잭션 안에서 호출되면 그 트랜잭션에서 직접 예약한다.
+     *
+     * @param allowBackorder 재고가 부족하면 실패 대신 BACKORDERED 주문으로 접수하고 재고 대기열에 등록
+     *                       (inventory.backorder.enabled=false 이면 무시)
+     */
+    public Order createOrder(Long userId, List<OrderItemRequest> itemRequests, boolean allowBackorder) {
+        validateOrderRequest(itemRequests);
 
+        // 1. 중복 상품 라인 합산 (요청 순서 유지)
+        Map<Long, Long> reserveQuantities = new LinkedHashMap<>();
         for (OrderItemRequest request : itemRequests) {
-            // 1. Product 스냅샷 데이터 획득
-            Product product = productService.getProductById(request.getProductId());
+            reserveQuantities.merge(request.getProductId(), request.getQuantity(), Long::sum);
+        }
+
+        boolean backorderable = allowBackorder && backorderService.isEnabled();
+        if (reservationCombiner.isEnabled() && !backorderable
+                && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return createOrderWithCombinedReservation(userId, reserveQuantities);
+        }
+        return new TransactionTemplate(transactionManager).execute(status ->
+                doCreateOrder(userId, reserveQuantities, backorderable));
+    }
 
-            // 2. Inventory 예약 (PESSIMISTIC_WRITE lock)
-            inventoryService.reserve(request.getProductId(), request.getQuantity());
+    private Order doCreateOrder(Long userId, Map<Long, Long> reserveQuantities, boolean backorderable) {
+        // 2. Product 일괄 조회 (존재/판매 상태 검증 포함) 후 OrderItem 생성 (스냅샷)
+        List<OrderItem> orderItems = orderItems(reserveQuantities);
 
-            // 3. OrderItem 생성 (스냅샷)
-            OrderItem orderItem = OrderItem.create(
+        // 재고 부족 라인이 있으면 예약 시도 없이 대기 주문으로 접수 (실패한 예약은 트랜잭션을 롤백 전용으로 만듦)
+        if (backorderable && !isAvailable(reserveQuantities)) {
+            Order order = Order.create(userId, orderItems);
+            order.backorder();
+            Order savedOrder = orderRepository.save(order);
+            summaryRepository.save(OrderSummary.from(savedOrder));
+            backorderService.enqueue(savedOrder.getId(), reserveQuantities);
+            return savedOrder;
+        }
+
+        // 3. Inventory 일괄 예약 (productId 순서로 잠금)
+        List<StockAllocation> allocations = inventoryService.reserveAll(reserveQuantities);
+        return saveReservedOrder(userId, orderItems, allocations);
+    }
+
+    /**
+     * 합친 예약으로 받은 배정으로 주문 저장 (상품 검증은 예약 전에)
+     */
+    private Order createOrderWithCombinedReservation(Long userId, Map<Long, Long> reserveQuantities) {
+        List<OrderItem> orderItems = orderItems(reserveQuantities);
+        List<StockAllocation> allocations = reservationCombiner.reserveAll(reserveQuantities);
+        try {
+            return new TransactionTemplate(transactionManager).execute(status ->
+                    saveReservedOrder(userId, orderItems, allocations));
+        } catch (RuntimeException e) {
+            reservationCombiner.release(allocations, e);
+            throw e;
+        }
+    }
+
+    private List<OrderItem> orderItems(Map<Long, Long> reserveQuantities) {
+        Map<Long, Product> products = productService.getOrderableProducts(reserveQuantities.keySet());
+        List<OrderItem> orderItems = new ArrayList<>();
+        reserveQuantities.forEach((productId, quantity) -> {
+            Product product = products.get(productId);
+            orderItems.add(OrderItem.create(
                     product.getId(),
                     product.getName(),
                     product.getUnitPrice(),
-                    request.getQuantity()
-            );
-            orderItems.add(orderItem);
-        }
+                    quantity
+            ));
+        });
+        return orderItems;
+    }
 
-        // 4. Order 생성 및 저장 (CASCADE로 OrderItems도 저장)
+    private Order saveReservedOrder(Long userId, List<OrderItem> orderItems, List<StockAllocation> allocations) {
+        // 4. Order 생성 및 저장 (CASCADE로 OrderItems도 저장, 주문 요약도 같은 트랜잭션에서 저장)
         Order order = Order.create(userId, orderItems);
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+        summaryRepository.save(OrderSummary.from(savedOrder));
+
+        // 5. 주문별 예약 내역 기록 (만료 시각 기준으로 스케줄러가 조회, 창고별 재고는 배정된 창고 단위)
+        Instant expiresAt = savedOrder.getCreatedAt().plus(RESERVATION_TTL);
+        inventoryService.holdForOrder(savedOrder.getId(), allocations, expiresAt);
+
+        // 6. 만료 타이밍 휠 등록 (커밋 후)
+        expiryWheel.schedule(savedOrder.getId(), expiresAt);
+        return savedOrder;
     }
 
     @Transactional
@@ -57,18 +158,27 @@ public class OrderService {
         Order order = orderRepository.findByIdAndUserId(orderId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
 
-        // 각 OrderItem의 재고 반환
-        for (OrderItem item : order.getOrderItems()) {
-            inventoryService.release(item.getProductId(), item.getQuantity());
+        // 대기 주문은 남은 대기 라인부터 취소 (배정 트랜잭션과 같은 row를 갱신하므로 둘 중 하나만 반영)
+        if (order.getStatus() == OrderStatus.BACKORDERED) {
+            backorderService.cancel(order.getId());
         }
 
+        // 주문의 예약 내역 기준으로 재고 반환
+        inventoryService.releaseByOrder(order.getId());
+        expiryWheel.cancel(order.getId());
+
         order.cancel();
-        return orderRepository.save(order);
+        return saveTransition(order);
     }
 
+    /**
+     * 주문 상세 조회 (보관된 주문은 보관 테이블에서 읽은 조회 전용 사본)
+     */
     @Transactional(readOnly = true)
     public Order getOrder(Long orderId, Long userId) {
-        return orderRepository.findByIdAndUserId(orderId, userId)
+        return orderRepository.findWithItemsByIdAndUserId(orderId, userId)
+                .or(() -> archivedOrderRepository.findWithItemsByIdAndUserId(orderId, userId)
+                        .map(ArchivedOrder::toOrder))
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
     }
 
@@ -77,13 +187,72 @@ public class OrderService {
         return orderRepository.findByUserId(userId);
     }
 
+    /**
+     * 주문 내역 커서 페이지 조회 (최신순)
+     * 한 건 더 조회해서 다음 페이지 존재 여부를 판단하므로 COUNT 쿼리가 없다.
+     *
+     * @param cursor 이전 페이지의 next, null이면 첫 페이지
+     * @param size   페이지 크기, null이면 기본값
+     */
+    @Transactional(readOnly = true)
+    public OrderPage getOrderHistory(Long userId, String cursor, Integer size) {
+        int pageSize = historyPageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Order> orders;
+        if (cursor == null || cursor.isBlank()) {
+            orders = orderRepository.findHistory(userId, limit);
+        } else {
+            OrderCursor position = OrderCursor.decode(cursor);
+            orders = orderRepository.findHistoryBefore(userId, position.getCreatedAt(), position.getId(), limit);
+        }
+
+        if (orders.size() <= pageSize) {
+            return new OrderPage(orders, null);
+        }
+        List<Order> page = orders.subList(0, pageSize);
+        return new OrderPage(page, OrderCursor.after(page.get(pageSize - 1)));
+    }
+
+    /**
+     * 주문 요약 커서 페이지 조회 (최신순, 요약 테이블만 조회하고 OrderItem은 로딩하지 않음)
+     * 커서는 getOrderHistory와 같은 형식이다.
+     */
+    @Transactional(readOnly = true)
+    public OrderSummaryPage getOrderSummaries(Long userId, String cursor, Integer size) {
+        int pageSize = historyPageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<OrderSummary> summaries;
+        if (cursor == null || cursor.isBlank()) {
+            summaries = summaryRepository.findHistory(userId, limit);
+        } else {
+            OrderCursor position = OrderCursor.decode(cursor);
+            summaries = summaryRepository.findHistoryBefore(userId, position.getCreatedAt(), position.getId(), limit);
+        }
+
+        if (summaries.size() <= pageSize) {
+            return new OrderSummaryPage(summaries, null);
+        }
+        List<OrderSummary> page = summaries.subList(0, pageSize);
+        return new OrderSummaryPage(page, OrderCursor.after(page.get(pageSize - 1)));
+    }
+
+    @Transactional(readOnly = true)
+    public OrderSummary getOrderSummary(Long orderId, Long userId) {
+        return summaryRepository.findByOrderIdAndUserId(orderId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+    }
+
     @Transactional
     public Order markAsPaid(Long orderId) {
         Order order = orderRepository.findByIdWithLock(orderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
 
         order.markAsPaid();
-        return orderRepository.save(order);
+
+        // 결제 완료 주문은 만료 대상에서 제외
+        inventoryService.clearHoldExpiry(orderId);
+        expiryWheel.cancel(orderId);
+        return saveTransition(order);
     }
 
     @Transactional
@@ -92,12 +261,64 @@ public class OrderService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
 
         // 결제 완료 시 재고 확정
-        for (OrderItem item : order.getOrderItems()) {
-            inventoryService.confirm(item.getProductId(), item.getQuantity());
-        }
+        inventoryService.confirmByOrder(orderId);
 
         order.complete();
-        return orderRepository.save(order);
+        return saveTransition(order);
+    }
+
+    /**
+     * 결제 실패: 예약 해제 후 취소 (다시 구매하려면 새 주문)
+     * 결제 대기로 남기면 예약 없는 주문이 결제되거나 만료 대상에서 빠지므로 종료 상태로 전환한다.
+     */
+    @Transactional
+    public Order cancelOnPaymentFailure(Long orderId) {
+        Order order = orderRepository.findByIdWithLock(orderId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+
+        inventoryService.releaseByOrder(orderId);
+        expiryWheel.cancel(orderId);
+
+        order.cancel();
+        return saveTransition(order);
+    }
+
+    /**
+     * 예약 내역 도입 전에 생성된 주문의 예약 내역 복원 (OrderHoldBackfillService)
+     * - 결제 대기 주문은 생성 시각 + 예약 유지 시간에 만료되도록, 결제 완료 주문은 만료 없이 주문 항목 수량으로 기록
+     *   (창고 구분 없는 예약이므로 창고별 재고 상품은 창고 구분 없는 해제/확정 경로로 처리)
+     * - 결제 실패로 재고가 이미 해제된 결제 대기 주문은 예약 내역 없이 취소
+     *
+     * @return 복원/취소했는지 (그 사이 상태가 바뀌었거나 예약 내역이 생긴 주문이면 false)
+     */
+    @Transactional
+    public boolean restoreHold(Long orderId, boolean paymentFailed) {
+        Order order = orderRepository.findByIdWithLock(orderId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+
+        if (inventoryService.holdsReservation(orderId)) {
+            return false;
+        }
+        if (order.getStatus() == OrderStatus.CREATED && paymentFailed) {
+            order.cancel();
+            saveTransition(order);
+            return true;
+        }
+        if (order.getStatus() != OrderStatus.CREATED && order.getStatus() != OrderStatus.PAID) {
+            return false;
+        }
+
+        List<StockAllocation> allocations = order.getOrderItems().stream()
+                .map(item -> StockAllocation.of(item.getProductId(), item.getQuantity()))
+                .toList();
+        if (order.getStatus() == OrderStatus.PAID) {
+            inventoryService.holdForOrder(orderId, allocations, null);
+            return true;
+        }
+        Instant expiresAt = order.getCreatedAt().plus(RESERVATION_TTL);
+        inventoryService.holdForOrder(orderId, allocations, expiresAt);
+        expiryWheel.schedule(orderId, expiresAt);
+        return true;
     }
 
     /**
@@ -110,22 +331,46 @@ public class OrderService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
     }
 
+    /**
+     * @return 이번 호출로 만료되었는지 (이미 결제/취소/만료된 주문이면 false)
+     */
     @Transactional
-    public void expireOrder(Long orderId) {
+    public boolean expireOrder(Long orderId) {
         Order order = orderRepository.findByIdWithLock(orderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
 
-        if (order.getStatus() != com.minishop.project.minishop.order.domain.OrderStatus.CREATED) {
-            return; // 이미 처리됨
+        if (order.getStatus() != OrderStatus.CREATED) {
+            return false; // 이미 처리됨
         }
 
-        // 재고 해제
-        for (OrderItem item : order.getOrderItems()) {
-            inventoryService.release(item.getProductId(), item.getQuantity());
-        }
+        // 재고 해제 (만료 점검으로 만료된 경우 타이밍 휠에서도 제거)
+        inventoryService.releaseByOrder(orderId);
+        expiryWheel.cancel(orderId);
 
         order.expire();
-        orderRepository.save(order);
+        saveTransition(order);
+        return true;
+    }
+
+    /**
+     * 대기 주문 배정 완료: 결제 대기(CREATED)로 전환하고 지금부터 예약 유지 시간 적용
+     * 배정 트랜잭션 안에서 호출되므로 전환이 실패하면 배정도 롤백된다.
+     */
+    @EventListener
+    @Transactional
+    public void activateBackorder(BackorderFilledEvent event) {
+        Order order = orderRepository.findByIdWithLock(event.getOrderId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+
+        if (order.getStatus() != OrderStatus.BACKORDERED) {
+            return; // 이미 처리됨
+        }
+
+        order.activate();
+        Instant expiresAt = Instant.now().plus(RESERVATION_TTL);
+        inventoryService.setHoldExpiry(order.getId(), expiresAt);
+        expiryWheel.schedule(order.getId(), expiresAt);
+        saveTransition(order);
     }
 
     @Transactional
@@ -134,7 +379,7 @@ public class OrderService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
 
         order.requestRefund();
-        return orderRepository.save(order);
+        return saveTransition(order);
     }
 
     @Transactional
@@ -143,10 +388,36 @@ public class OrderService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
 
         order.markAsRefunded();
-        return orderRepository.save(order);
+        return saveTransition(order);
+    }
+
+    private boolean isAvailable(Map<Long, Long> quantities) {
+        Map<Long, Long> availability = inventoryService.getAvailability(quantities.keySet());
+        return quantities.entrySet().stream()
+                .allMatch(line -> availability.getOrDefault(line.getKey(), 0L) >= line.getValue());
+    }
+
+    /**
+     * 주문 상태 변경 저장 + 주문 요약 상태 갱신 (같은 트랜잭션)
+     */
+    private Order saveTransition(Order order) {
+        Order saved = orderRepository.save(order);
+        summaryRepository.findById(saved.getId()).ifPresentOrElse(
+                summary -> summary.changeStatus(saved.getStatus(), saved.getUpdatedAt()),
+                () -> summaryRepository.save(OrderSummary.from(saved)));
+        return saved;
+    }
+
+    private int historyPageSize(Integer size) {
+        int pageSize = size != null ? size : DEFAULT_HISTORY_PAGE_SIZE;
+        if (pageSize <= 0 || pageSize > MAX_HISTORY_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Page size must be between 1 and " + MAX_HISTORY_PAGE_SIZE);
+        }
+        return pageSize;
     }
 
-    private void validateOrderRequest(List<OrderItemRequest> itemRequests) {
+    void validateOrderRequest(List<OrderItemRequest> itemRequests) {
         if (itemRequests == null || itemRequests.isEmpty()) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Order must have at least one item");
         }
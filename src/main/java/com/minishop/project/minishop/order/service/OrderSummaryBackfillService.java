@@ -0,0 +1,101 @@
+package com.minishop.project.minishop.order.service;
+
+import com.minishop.project.minishop.order.repository.OrderSummaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 주문 요약 채우기 (order.summary.backfill.enabled=true)
+ *
+ * 주문 요약(order_summaries)은 주문 생성/상태 변경 때만 저장되므로, 요약 테이블 도입 전에 만들어져
+ * 이미 종료 상태인 주문은 요약 목록에 나타나지 않는다. 기동 시 이런 주문을 id 순서로 chunk-size건씩 채운다.
+ *
+ * 규칙:
+ * - 생성은 INSERT ... SELECT로 주문/항목 엔티티를 로딩하지 않는다
+ * - 동시에 상태 변경으로 요약이 생긴 주문은 INSERT 조건에서 건너뛴다 (그래도 키가 겹치면 그 chunk만 다시 조회)
+ * - 키 중복이 아닌 예외는 backfill()에서 그대로 던지고, 기동 시 실행은 실패 지표만 남기고 기동을 막지 않는다
+ * - 요약이 모두 채워진 뒤에는 조회 한 번으로 끝나며, 필요 없으면 enabled=false로 끈다
+ * - 보관 테이블로 옮겨진 주문은 대상이 아니다 (보관 전에 요약이 있어야 함)
+ * - 지표: order.summary.backfilled (채운 요약 수), order.summary.backfill.failures (중단된 실행 수)
+ */
+@Service
+public class OrderSummaryBackfillService {
+
+    private final OrderSummaryRepository summaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter backfilledCounter;
+    private final Counter failureCounter;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    public OrderSummaryBackfillService(
+            OrderSummaryRepository summaryRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${order.summary.backfill.enabled:true}") boolean enabled,
+            @Value("${order.summary.backfill.chunk-size:500}") int chunkSize) {
+        this.summaryRepository = summaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfilledCounter = Counter.builder("order.summary.backfilled")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("order.summary.backfill.failures")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            backfill();
+        } catch (RuntimeException e) {
+            // 남은 주문은 다음 기동에서 채운다
+            failureCounter.increment();
+        }
+    }
+
+    /**
+     * @return 이번 실행에서 채운 요약 수
+     */
+    public int backfill() {
+        int backfilled = 0;
+        Long afterId = 0L;
+        boolean retried = false;
+        while (true) {
+            List<Long> orderIds = summaryRepository.findOrderIdsWithoutSummary(afterId, PageRequest.of(0, chunkSize));
+            if (orderIds.isEmpty()) {
+                break;
+            }
+            try {
+                Integer inserted = transactionTemplate.execute(status -> summaryRepository.insertFromOrders(orderIds));
+                backfilled += inserted;
+                backfilledCounter.increment(inserted);
+            } catch (DataIntegrityViolationException e) {
+                // 조회와 INSERT 사이 상태 변경으로 요약이 먼저 생김: 같은 범위를 한 번만 다시 조회,
+                // 다시 실패하면 중단하고 남은 주문은 다음 기동에서 채운다
+                if (retried) {
+                    failureCounter.increment();
+                    break;
+                }
+                retried = true;
+                continue;
+            }
+            retried = false;
+            afterId = orderIds.get(orderIds.size() - 1);
+        }
+        return backfilled;
+    }
+}
@@ -0,0 +1,184 @@
+package com.minishop.project.minishop.order.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.inventory.service.InventoryService;
+import com.minishop.project.minishop.order.domain.WaitingRoomAdmission;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문 대기열 (출시/품절 상품)
+ *
+ * 대기열이 열린 상품이 포함된 주문은 상품별 대기표가 입장 구간에 들어온 경우에만 주문 생성으로 진행한다.
+ * 그 외 요청은 DB/InventoryService를 거치지 않고 대기표와 재시도 간격만 돌려준다.
+ *
+ * 규칙:
+ * - 입장은 스케줄러가 admitInterval마다 FIFO 구간으로 확장, 구간 크기는 (가용 재고 - 미사용 입장 수)
+ * - 입장 판정 시 가용 재고는 조회 캐시(또는 메모리 엔진) 값을 사용, 최종 판정은 예약 시점의 재고
+ * - 대기표 1장은 주문 1건 (주문 수량과 무관하게 1로 계산하므로 다수량 주문은 과다 입장될 수 있음)
+ * - 대기표는 (사용자, 상품)마다 1장이고 인증된 사용자 기준으로 찾으므로,
+ *   재시도해도 새 대기표가 쌓이지 않고 다른 사용자의 대기표로 줄을 건너뛸 수 없다
+ * - 노드별 메모리 상태이므로 다중 노드에서는 노드마다 대기열이 따로 있다
+ */
+@Component
+public class OrderWaitingRoom {
+
+    private final InventoryService inventoryService;
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, WaitingRoomQueue> queues = new ConcurrentHashMap<>();
+    private final Map<Long, List<Meter>> queueMeters = new ConcurrentHashMap<>();
+    private final Counter admittedCounter;
+    private final Counter queuedCounter;
+    private final long admitIntervalMillis;
+    private final long maxBatchSize;
+    private final Duration admissionWindow;
+
+    public OrderWaitingRoom(
+            InventoryService inventoryService,
+            MeterRegistry meterRegistry,
+            @Value("${order.waiting-room.admit-interval-millis:500}") long admitIntervalMillis,
+            @Value("${order.waiting-room.max-batch-size:500}") long maxBatchSize,
+            @Value("${order.waiting-room.admission-window-millis:30000}") long admissionWindowMillis) {
+        this.inventoryService = inventoryService;
+        this.meterRegistry = meterRegistry;
+        this.admitIntervalMillis = admitIntervalMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.admissionWindow = Duration.ofMillis(admissionWindowMillis);
+        this.admittedCounter = Counter.builder("order.waiting_room.requests")
+                .tag("outcome", "admitted")
+                .register(meterRegistry);
+        this.queuedCounter = Counter.builder("order.waiting_room.requests")
+                .tag("outcome", "queued")
+                .register(meterRegistry);
+    }
+
+    public boolean isOpen(Long productId) {
+        return queues.containsKey(productId);
+    }
+
+    /**
+     * 상품 대기열 열기 (이미 열려 있으면 유지)
+     * 대기열이 열린 상품만 productId 태그 게이지를 등록한다.
+     */
+    public void open(Long productId) {
+        queues.computeIfAbsent(productId, id -> {
+            WaitingRoomQueue queue = new WaitingRoomQueue();
+            String tag = String.valueOf(id);
+            queueMeters.put(id, List.of(
+                    Gauge.builder("order.waiting_room.waiting", queue, WaitingRoomQueue::waiting)
+                            .tag("productId", tag)
+                            .register(meterRegistry),
+                    Gauge.builder("order.waiting_room.outstanding", queue, WaitingRoomQueue::outstanding)
+                            .tag("productId", tag)
+                            .register(meterRegistry)));
+            return queue;
+        });
+    }
+
+    public void close(Long productId) {
+        queues.remove(productId);
+        List<Meter> meters = queueMeters.remove(productId);
+        if (meters != null) {
+            meters.forEach(meterRegistry::remove);
+        }
+    }
+
+    /**
+     * 주문 상품들의 대기표 확인
+     * - 대기열이 열린 상품이 없으면 바로 통과
+     * - 사용자의 대기표가 없거나 기간이 지났으면 새로 발급, 있으면 그 대기표로 판정
+     * - 모든 대기표가 입장 구간이면 사용 처리 후 통과
+     */
+    public WaitingRoomAdmission admit(Long userId, Collection<Long> productIds) {
+        SortedSet<Long> gated = new TreeSet<>();
+        for (Long productId : productIds) {
+            if (productId != null && queues.containsKey(productId)) {
+                gated.add(productId);
+            }
+        }
+        if (gated.isEmpty()) {
+            return WaitingRoomAdmission.notGated();
+        }
+
+        Map<Long, WaitingRoomQueue.Ticket> tickets = new HashMap<>();
+        long maxPosition = 0L;
+        long slowestBatch = maxBatchSize;
+        for (Long productId : gated) {
+            WaitingRoomQueue queue = queues.get(productId);
+            if (queue == null) {
+                continue; // 판정 중 닫힘
+            }
+            WaitingRoomQueue.Ticket ticket = queue.ticketFor(userId);
+            tickets.put(productId, ticket);
+            long position = queue.position(ticket.sequence());
+            if (position > maxPosition) {
+                maxPosition = position;
+                slowestBatch = Math.max(1L, queue.lastBatchSize());
+            }
+        }
+
+        if (maxPosition == 0) {
+            for (Map.Entry<Long, WaitingRoomQueue.Ticket> entry : tickets.entrySet()) {
+                WaitingRoomQueue queue = queues.get(entry.getKey());
+                if (queue != null && !queue.redeem(userId, entry.getValue())) {
+                    // 같은 사용자의 동시 요청이 먼저 사용: 나중 요청은 새 대기표로 다시 줄을 선다
+                    WaitingRoomQueue.Ticket reissued = queue.ticketFor(userId);
+                    entry.setValue(reissued);
+                    maxPosition = Math.max(maxPosition, queue.position(reissued.sequence()));
+                }
+            }
+            if (maxPosition == 0) {
+                admittedCounter.increment();
+                return WaitingRoomAdmission.admitted(formatTickets(tickets));
+            }
+        }
+
+        queuedCounter.increment();
+        long retryAfterMillis = admitIntervalMillis * (1 + (maxPosition - 1) / slowestBatch);
+        return WaitingRoomAdmission.waiting(formatTickets(tickets), maxPosition, retryAfterMillis);
+    }
+
+    /**
+     * 열린 대기열마다 다음 입장 구간 확장 (스케줄러 단일 스레드)
+     */
+    public void admitNextBatches() {
+        Instant now = Instant.now();
+        queues.forEach((productId, queue) -> {
+            if (queue.waiting() == 0 && queue.outstanding() == 0) {
+                return;
+            }
+            queue.admitNextBatch(availableQuantity(productId), maxBatchSize, now, admissionWindow);
+        });
+    }
+
+    private long availableQuantity(Long productId) {
+        try {
+            Long available = inventoryService.getAvailableQuantity(productId);
+            return available != null ? available : 0L;
+        } catch (BusinessException e) {
+            return 0L; // 재고 없는 상품은 입장시키지 않음
+        }
+    }
+
+    private String formatTickets(Map<Long, WaitingRoomQueue.Ticket> tickets) {
+        StringJoiner joiner = new StringJoiner(",");
+        new TreeSet<>(tickets.keySet()).forEach(productId ->
+                joiner.add(productId + ":" + tickets.get(productId).token()));
+        return joiner.toString();
+    }
+}
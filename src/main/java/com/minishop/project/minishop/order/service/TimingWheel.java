@@ -0,0 +1,129 @@
+package com.minishop.project.minishop.order.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 계층형 타이밍 휠 (ID → 만료 tick)
+ *
+ * levels개의 휠이 wheelSize개 슬롯을 갖고, L단계 슬롯 하나는 wheelSize^L tick을 덮는다.
+ * 등록/취소는 O(1)이고, tick 진행 비용은 대기 중인 항목 수가 아니라 지난 tick 수와 만료 항목 수에 비례한다.
+ *
+ * 규칙:
+ * - 만료 tick이 현재 tick과 같은 L+1단계 구간에 있는 가장 낮은 단계 L에 등록
+ * - L단계(L ≥ 1) 슬롯 경계에 도달하면 그 슬롯 항목을 아래 단계로 다시 배치 (cascade)
+ * - 최상위 범위를 넘는 항목은 overflow에 두고 최상위 휠이 한 바퀴 돌 때 다시 배치
+ * - 만료 tick보다 먼저 반환하지 않는다
+ * - 스레드 안전하지 않음: 호출자가 동기화
+ */
+final class TimingWheel {
+
+    private final int wheelSize;
+    private final int levels;
+    /// spans[L] = wheelSize^L (L단계 슬롯 하나가 덮는 tick 수), spans[levels]는 최상위 휠 한 바퀴
+    private final long[] spans;
+    /// levels × wheelSize 슬롯 (L단계 s번 슬롯 = slots[L * wheelSize + s])
+    private final List<Set<Long>> slots;
+    private final Set<Long> overflow = new HashSet<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private long currentTick;
+
+    TimingWheel(int wheelSize, int levels, long startTick) {
+        this.wheelSize = wheelSize;
+        this.levels = levels;
+        this.spans = new long[levels + 1];
+        this.spans[0] = 1L;
+        for (int level = 1; level <= levels; level++) {
+            this.spans[level] = Math.multiplyExact(spans[level - 1], wheelSize);
+        }
+        this.slots = new ArrayList<>(levels * wheelSize);
+        for (int i = 0; i < levels * wheelSize; i++) {
+            slots.add(new HashSet<>());
+        }
+        this.currentTick = startTick;
+    }
+
+    /**
+     * 등록 (이미 있으면 만료 tick 변경), 이미 지난 tick은 다음 tick에 만료
+     */
+    void add(Long id, long deadlineTick) {
+        remove(id);
+        place(id, Math.max(deadlineTick, currentTick + 1));
+    }
+
+    boolean remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        entry.slot().remove(id);
+        return true;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * nowTick까지 진행
+     *
+     * @return 만료 tick이 nowTick 이하가 되어 빠진 ID
+     */
+    List<Long> advance(long nowTick) {
+        List<Long> due = new ArrayList<>();
+        while (currentTick < nowTick) {
+            currentTick++;
+            if (currentTick % spans[levels] == 0) {
+                cascade(overflow);
+            }
+            for (int level = levels - 1; level >= 1; level--) {
+                if (currentTick % spans[level] == 0) {
+                    cascade(slotOf(level, currentTick));
+                }
+            }
+
+            Set<Long> slot = slotOf(0, currentTick);
+            for (Long id : slot) {
+                entries.remove(id);
+                due.add(id);
+            }
+            slot.clear();
+        }
+        return due;
+    }
+
+    private void cascade(Set<Long> slot) {
+        List<Long> ids = new ArrayList<>(slot);
+        slot.clear();
+        for (Long id : ids) {
+            place(id, entries.get(id).deadlineTick());
+        }
+    }
+
+    private void place(Long id, long deadlineTick) {
+        Set<Long> slot = overflow;
+        for (int level = 0; level < levels; level++) {
+            if (deadlineTick / spans[level + 1] == currentTick / spans[level + 1]) {
+                slot = slotOf(level, deadlineTick);
+                break;
+            }
+        }
+        slot.add(id);
+        entries.put(id, new Entry(deadlineTick, slot));
+    }
+
+    private Set<Long> slotOf(int level, long tick) {
+        return slots.get(level * wheelSize + (int) ((tick / spans[level]) % wheelSize));
+    }
+
+    private record Entry(long deadlineTick, Set<Long> slot) {
+    }
+}
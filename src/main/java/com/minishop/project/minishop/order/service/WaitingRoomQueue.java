@@ -0,0 +1,181 @@
+package com.minishop.project.minishop.order.service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품별 대기열 (FIFO 대기표)
+ *
+ * 대기표 순번은 발급 순서대로 1부터 증가하고, admittedUpTo 이하 순번이 입장 허용된다.
+ * 요청 경로(발급/판정/사용)는 CAS와 동시성 컬렉션만 사용하고,
+ * 입장 구간 확장(admitNextBatch)은 스케줄러 단일 스레드만 호출한다.
+ *
+ * 대기표는 사용자당 1장이다. 재시도는 같은 대기표로 판정하고, 밖으로는 순번 대신 추측할 수 없는 토큰만 내보낸다.
+ * 입장 허용된 대기표는 admissionWindow 안에 한 번만 사용할 수 있다.
+ * 기간이 지난 구간은 재고 계산(outstanding)에서 빠지고 해당 사용자는 새로 발급받아야 한다.
+ */
+final class WaitingRoomQueue {
+
+    private static final SecureRandom TOKEN_RANDOM = new SecureRandom();
+
+    private final AtomicLong issued = new AtomicLong();
+    private final AtomicLong admittedUpTo = new AtomicLong();
+    private final ConcurrentLinkedQueue<AdmissionBatch> batches = new ConcurrentLinkedQueue<>();
+    private final Set<Long> redeemed = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<Long, Ticket> ticketsByUser = new ConcurrentHashMap<>();
+    /// 순번 → 사용자 (기간이 지난 구간 정리용)
+    private final ConcurrentHashMap<Long, Long> holders = new ConcurrentHashMap<>();
+    private volatile long lastBatchSize;
+
+    long issue() {
+        return issued.incrementAndGet();
+    }
+
+    /**
+     * 사용자의 대기표 (대기 중이거나 입장 후 미사용이면 그대로, 없거나 기간이 지났으면 새로 발급)
+     */
+    Ticket ticketFor(Long userId) {
+        return ticketsByUser.compute(userId, (id, current) -> {
+            if (current != null && (position(current.sequence()) > 0 || isRedeemable(current.sequence()))) {
+                return current;
+            }
+            if (current != null) {
+                holders.remove(current.sequence(), id);
+            }
+            long sequence = issue();
+            holders.put(sequence, id);
+            return new Ticket(sequence, newToken());
+        });
+    }
+
+    /**
+     * @return 남은 순번, 0이면 입장 구간 안
+     */
+    long position(long ticket) {
+        return Math.max(0L, ticket - admittedUpTo.get());
+    }
+
+    /**
+     * 입장 구간 안이고 기간 내 미사용 대기표인지
+     */
+    boolean isRedeemable(long ticket) {
+        return batchOf(ticket) != null && !redeemed.contains(ticket);
+    }
+
+    /**
+     * 대기표 사용 (한 번만 성공)
+     */
+    boolean redeem(long ticket) {
+        AdmissionBatch batch = batchOf(ticket);
+        if (batch == null || !redeemed.add(ticket)) {
+            return false;
+        }
+        batch.redeemed.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * 사용자의 대기표 사용, 사용한 대기표는 사용자에게서 떼어 다음 주문은 새로 줄을 선다
+     */
+    boolean redeem(Long userId, Ticket ticket) {
+        if (!redeem(ticket.sequence())) {
+            return false;
+        }
+        ticketsByUser.remove(userId, ticket);
+        holders.remove(ticket.sequence(), userId);
+        return true;
+    }
+
+    long waiting() {
+        return issued.get() - admittedUpTo.get();
+    }
+
+    /// 입장 허용 후 아직 사용되지 않은 대기표 수 (기간 내)
+    long outstanding() {
+        long outstanding = 0L;
+        for (AdmissionBatch batch : batches) {
+            outstanding += batch.size() - batch.redeemed.get();
+        }
+        return outstanding;
+    }
+
+    long lastBatchSize() {
+        return lastBatchSize;
+    }
+
+    /**
+     * 기간이 지난 구간을 정리하고, 남은 재고에서 미사용 입장 수를 뺀 만큼 다음 대기표를 입장시킨다
+     *
+     * @return 이번에 입장시킨 대기표 수
+     */
+    long admitNextBatch(long available, long maxBatchSize, Instant now, Duration admissionWindow) {
+        AdmissionBatch head;
+        while ((head = batches.peek()) != null && head.admittedAt.plus(admissionWindow).isBefore(now)) {
+            batches.poll();
+            for (long ticket = head.from; ticket <= head.upTo; ticket++) {
+                long sequence = ticket;
+                redeemed.remove(sequence);
+                Long userId = holders.remove(sequence);
+                if (userId != null) {
+                    ticketsByUser.computeIfPresent(userId,
+                            (id, current) -> current.sequence() == sequence ? null : current);
+                }
+            }
+        }
+
+        long from = admittedUpTo.get() + 1;
+        long size = Math.min(Math.min(available - outstanding(), waiting()), maxBatchSize);
+        if (size <= 0) {
+            return 0L;
+        }
+        batches.add(new AdmissionBatch(from, from + size - 1, now));
+        admittedUpTo.set(from + size - 1);
+        lastBatchSize = size;
+        return size;
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[16];
+        TOKEN_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private AdmissionBatch batchOf(long ticket) {
+        for (AdmissionBatch batch : batches) {
+            if (ticket >= batch.from && ticket <= batch.upTo) {
+                return batch;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param sequence 대기 순번 (내부용)
+     * @param token 응답으로 내보내는 대기표
+     */
+    record Ticket(long sequence, String token) {
+    }
+
+    private static final class AdmissionBatch {
+        private final long from;
+        private final long upTo;
+        private final Instant admittedAt;
+        private final AtomicLong redeemed = new AtomicLong();
+
+        private AdmissionBatch(long from, long upTo, Instant admittedAt) {
+            this.from = from;
+            this.upTo = upTo;
+            this.admittedAt = admittedAt;
+        }
+
+        private long size() {
+            return upTo - from + 1;
+        }
+    }
+}
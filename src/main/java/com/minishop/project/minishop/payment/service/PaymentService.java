@@ -4,7 +4,6 @@ import com.minishop.project.minishop.common.exception.BusinessException;
 import com.minishop.project.minishop.common.exception.ErrorCode;
 import com.minishop.project.minishop.inventory.service.InventoryService;
 import com.minishop.project.minishop.order.domain.Order;
-import com.minishop.project.minishop.order.domain.OrderItem;
 import com.minishop.project.minishop.order.domain.OrderStatus;
 import com.minishop.project.minishop.order.service.OrderService;
 import com.minishop.project.minishop.payment.domain.Payment;
@@ -63,7 +62,7 @@ public class PaymentService {
 
             } catch (Exception e) {
                 payment.markAsFailed();
-                // 결제 실패 시 재고 보상 (추후 이벤트로 전환 가능)
+                // 결제 실패 시 재고 보상 + 주문 취소 (추후 이벤트로 전환 가능)
                 onPaymentFailed(payment, orderId);
             }
 
@@ -113,12 +112,9 @@ public class PaymentService {
     }
 
     // 추후 이벤트 발행으로 전환 가능한 메서드
-    // 결제 실패 시 예약된 재고 해제
+    // 결제 실패 시 예약된 재고 해제 후 주문 취소 (CREATED → CANCELED, 재결제 대신 새 주문)
     private void onPaymentFailed(Payment payment, Long orderId) {
-        Order order = orderService.getOrderById(orderId);
-        for (OrderItem item : order.getOrderItems()) {
-            inventoryService.release(item.getProductId(), item.getQuantity());
-        }
+        orderService.cancelOnPaymentFailure(orderId);
     }
 
     private void validateOrderForPayment(Order order) {
@@ -126,5 +122,10 @@ public class PaymentService {
             throw new BusinessException(ErrorCode.INVALID_ORDER_STATUS,
                     "Order must be in CREATED status to process payment");
         }
+        // 예약 내역이 없는 결제 대기 주문(예약 내역 복원 전의 이전 주문)은 확정할 예약이 없으므로 결제 불가
+        if (!inventoryService.holdsReservation(order.getId())) {
+            throw new BusinessException(ErrorCode.INVALID_ORDER_STATUS,
+                    "Order no longer holds reserved inventory");
+        }
     }
 }
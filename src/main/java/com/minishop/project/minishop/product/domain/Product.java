@@ -61,6 +61,10 @@ public class Product {
                 .build();
     }
 
+    public boolean isActive() {
+        return this.status == ProductStatus.ACTIVE;
+    }
+
     public void deactivate() {
         this.status = ProductStatus.INACTIVE;
         this.updatedAt = Instant.now();
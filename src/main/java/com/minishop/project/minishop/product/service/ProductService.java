@@ -10,7 +10,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -37,6 +40,30 @@ public class ProductService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
     }
 
+    /**
+     * 주문 대상 상품 일괄 조회 (SELECT 1회)
+     * 하나라도 없으면 PRODUCT_NOT_FOUND, 판매 중(ACTIVE)이 아니면 PRODUCT_NOT_ACTIVE
+     *
+     * @return productId → Product
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Product> getOrderableProducts(Collection<Long> ids) {
+        Map<Long, Product> products = new HashMap<>();
+        for (Product product : productRepository.findAllById(ids)) {
+            products.put(product.getId(), product);
+        }
+        for (Long id : ids) {
+            Product product = products.get(id);
+            if (product == null) {
+                throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+            }
+            if (!product.isActive()) {
+                throw new BusinessException(ErrorCode.PRODUCT_NOT_ACTIVE);
+            }
+        }
+        return products;
+    }
+
     @Transactional(readOnly = true)
     public List<Product> getActiveProducts() {
         return productRepository.findByStatus(ProductStatus.ACTIVE);
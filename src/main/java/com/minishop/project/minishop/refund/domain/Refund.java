@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -42,7 +43,9 @@ public class Refund {
 
     private String adminComment;  // 관리자 코멘트 (승인/거절 시)
 
+    /// 항목을 함께 조회하지 않은 경로에서도 여러 환불의 항목을 IN 쿼리 한 번으로 로딩
     @OneToMany(mappedBy = "refund", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<RefundItem> refundItems = new ArrayList<>();
 
     @Column(nullable = false, updatable = false)
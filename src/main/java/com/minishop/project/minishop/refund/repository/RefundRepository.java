@@ -2,6 +2,7 @@ package com.minishop.project.minishop.refund.repository;
 
 import com.minishop.project.minishop.refund.domain.Refund;
 import com.minishop.project.minishop.refund.domain.RefundStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,14 +13,15 @@ import java.util.Optional;
 public interface RefundRepository extends JpaRepository<Refund, Long> {
 
     /**
-     * 사용자의 환불 내역 조회
+     * 사용자의 환불 내역 조회 (항목 fetch join)
      */
+    @EntityGraph(attributePaths = "refundItems")
     List<Refund> findByUserId(Long userId);
 
     /**
-     * 환불 상세 조회 (소유권 확인용)
+     * 환불 상세 조회 (소유권 확인용, 항목 fetch join)
      */
-    @Query("SELECT r FROM Refund r WHERE r.id = :refundId AND r.userId = :userId")
+    @Query("SELECT r FROM Refund r LEFT JOIN FETCH r.refundItems WHERE r.id = :refundId AND r.userId = :userId")
     Optional<Refund> findByIdAndUserId(@Param("refundId") Long refundId,
                                        @Param("userId") Long userId);
 
@@ -37,10 +39,17 @@ public interface RefundRepository extends JpaRepository<Refund, Long> {
                                             @Param("statuses") List<RefundStatus> statuses);
 
     /**
-     * 상태별 환불 조회 (관리자용)
+     * 상태별 환불 조회 (관리자용, 항목 fetch join)
      */
+    @EntityGraph(attributePaths = "refundItems")
     List<Refund> findByStatus(RefundStatus status);
 
+    /**
+     * 환불 상세 조회 (관리자용, 항목 fetch join)
+     */
+    @EntityGraph(attributePaths = "refundItems")
+    Optional<Refund> findWithItemsById(Long id);
+
     /**
      * Payment 기준 완료된 환불 금액 합계
      */
@@ -108,7 +108,7 @@ public class RefundService {
 
     @Transactional(readOnly = true)
     public Refund getRefundById(Long refundId) {
-        return refundRepository.findById(refundId)
+        return refundRepository.findWithItemsById(refundId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.REFUND_NOT_FOUND));
     }
 
@@ -0,0 +1,50 @@
+package com.minishop.project.minishop.common;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 테스트용 SQL 실행 횟수 측정 (Hibernate StatementInspector)
+ *
+ * 사용: @SpringBootTest(properties = QueryCounter.ENABLED) 후 assertQueryCountAtMost(n, () -> ...)
+ * 현재 스레드에서 Hibernate가 준비한 SQL만 센다 (스케줄러 등 다른 스레드의 쿼리는 제외).
+ * 지연 로딩까지 세려면 호출자가 응답 변환까지 한 트랜잭션(open-in-view와 같은 범위)으로 감싼다.
+ */
+public class QueryCounter implements StatementInspector {
+
+    public static final String ENABLED = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.minishop.project.minishop.common.QueryCounter";
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    /**
+     * action 실행 중 준비된 SQL 목록
+     */
+    public static List<String> statements(Runnable action) {
+        List<String> statements = STATEMENTS.get();
+        int before = statements.size();
+        action.run();
+        List<String> executed = new ArrayList<>(statements.subList(before, statements.size()));
+        statements.clear();
+        return executed;
+    }
+
+    public static long count(Runnable action) {
+        return statements(action).size();
+    }
+
+    public static void assertQueryCountAtMost(long max, Runnable action) {
+        List<String> executed = statements(action);
+        assertThat(executed).as("executed SQL statements").hasSizeLessThanOrEqualTo((int) max);
+    }
+}
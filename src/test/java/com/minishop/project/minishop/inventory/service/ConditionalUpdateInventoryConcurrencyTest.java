@@ -0,0 +1,11 @@
+package com.minishop.project.minishop.inventory.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 조건부 UPDATE 모드 동시성 테스트
+ * - InventoryConcurrencyTest의 모든 시나리오를 CONDITIONAL 모드로 재실행
+ */
+@SpringBootTest(properties = "inventory.reservation.mode=CONDITIONAL")
+class ConditionalUpdateInventoryConcurrencyTest extends InventoryConcurrencyTest {
+}
@@ -0,0 +1,156 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 플래시 세일 입장 카운터 테스트
+ * - 카운터 소진 후 DB 없이 즉시 거절
+ * - 해제/재고 추가 후 DB 값으로 카운터 보정
+ * - 커밋 순서가 뒤바뀐 재설정 값으로 카운터를 낮추지 않음
+ */
+@SpringBootTest
+class FlashSaleGateTest {
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private FlashSaleGate flashSaleGate;
+
+    private Long testProductId;
+
+    @BeforeEach
+    void setUp() {
+        testProductId = 333L;
+        inventoryRepository.save(Inventory.create(testProductId, 10L));
+        inventoryService.configureFlashSale(testProductId, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        flashSaleGate.close(testProductId);
+        inventoryRepository.deleteAll();
+    }
+
+    @Test
+    void 동시_플래시세일예약_초과판매없음() throws InterruptedException {
+        // Given: 재고 10개, 50개 스레드가 1개씩 요청
+        int threadCount = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    inventoryService.reserve(testProductId, 1L);
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.INSUFFICIENT_INVENTORY) {
+                        failCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(failCount.get()).isEqualTo(40);
+        assertThat(flashSaleGate.remaining(testProductId)).isEqualTo(0L);
+        assertThat(inventoryService.getByProductId(testProductId).getQuantityReserved()).isEqualTo(10L);
+    }
+
+    @Test
+    void 해제와_재고추가후_카운터보정() {
+        // Given: 전량 예약 → 카운터 0
+        inventoryService.reserve(testProductId, 10L);
+        assertThatThrownBy(() -> inventoryService.reserve(testProductId, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_INVENTORY);
+
+        // When: 3개 해제, 5개 추가
+        inventoryService.release(testProductId, 3L);
+        assertThat(flashSaleGate.remaining(testProductId)).isEqualTo(3L);
+        inventoryService.addStock(testProductId, 5L);
+
+        // Then
+        assertThat(flashSaleGate.remaining(testProductId)).isEqualTo(8L);
+    }
+
+    @Test
+    void 재설정중_다른커밋이_반영되면_읽은값은_버림() throws InterruptedException {
+        // Given: 첫 재설정이 오래된 DB 값(3)을 읽는 도중 멈춰 있음
+        Long productId = 334L;
+        flashSaleGate.open(productId, 0L);
+        CountDownLatch firstReading = new CountDownLatch(1);
+        CountDownLatch firstProceed = new CountDownLatch(1);
+        CountDownLatch secondReading = new CountDownLatch(1);
+        CountDownLatch secondProceed = new CountDownLatch(1);
+        try {
+            flashSaleGate.addCommitted(productId, 3L, () -> {
+                firstReading.countDown();
+                awaitQuietly(firstProceed);
+                return 3L;
+            });
+            assertThat(firstReading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When: 그 사이 재고 추가(5) 커밋이 반영된 뒤 첫 재설정이 끝남
+            flashSaleGate.addCommitted(productId, 5L, () -> {
+                secondReading.countDown();
+                awaitQuietly(secondProceed);
+                return 8L;
+            });
+            firstProceed.countDown();
+            assertThat(secondReading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Then: 첫 재설정 값(3)은 버려지고 커밋 시 더한 값(8) 유지
+            assertThat(flashSaleGate.remaining(productId)).isEqualTo(8L);
+        } finally {
+            secondProceed.countDown();
+            flashSaleGate.close(productId);
+        }
+    }
+
+    @Test
+    void 플래시세일해제시_카운터닫힘() {
+        // When
+        inventoryService.configureFlashSale(testProductId, false);
+
+        // Then
+        assertThat(flashSaleGate.isActive(testProductId)).isFalse();
+        assertThat(inventoryService.getByProductId(testProductId).getFlashSale()).isFalse();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
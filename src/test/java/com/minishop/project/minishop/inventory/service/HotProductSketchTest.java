@@ -0,0 +1,38 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.inventory.domain.LockContention;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 잠금 대기 상위 상품 추적 테스트
+ * - 추적 개수 제한 안에서 대기가 큰 상품이 상위에 남음
+ */
+class HotProductSketchTest {
+
+    @Test
+    void 추적개수_초과시에도_대기큰상품_상위유지() {
+        // Given: 4개만 추적
+        HotProductSketch sketch = new HotProductSketch(4);
+
+        // When: 상품 1은 긴 대기, 나머지 100개 상품은 짧은 대기
+        for (int round = 0; round < 50; round++) {
+            sketch.recordWait(1L, 1_000);
+            for (long productId = 100; productId < 200; productId++) {
+                sketch.recordWait(productId, 1);
+            }
+        }
+        sketch.recordHold(1L, 5_000);
+
+        // Then
+        List<LockContention> top = sketch.top(4);
+        assertThat(top).hasSizeLessThanOrEqualTo(4);
+        assertThat(top.get(0).getProductId()).isEqualTo(1L);
+        assertThat(top.get(0).getSamples()).isEqualTo(50);
+        assertThat(top.get(0).getWaitP99Micros()).isGreaterThanOrEqualTo(1_000);
+        assertThat(top.get(0).getHoldP50Micros()).isGreaterThanOrEqualTo(5_000);
+    }
+}
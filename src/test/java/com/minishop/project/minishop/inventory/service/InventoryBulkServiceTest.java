@@ -0,0 +1,149 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.BulkStockResult;
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 대량 재고 추가 테스트
+ * - chunk 단위 배치 반영
+ * - 행 단위 오류 보고 (나머지 행은 계속 반영)
+ */
+@SpringBootTest(properties = "inventory.bulk.chunk-size=2")
+class InventoryBulkServiceTest {
+
+    @Autowired
+    private InventoryBulkService inventoryBulkService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        inventoryRepository.save(Inventory.create(501L, 10L));
+        inventoryRepository.save(Inventory.create(502L, 0L));
+        inventoryRepository.save(Inventory.create(503L, 5L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // @Transactional 사용 안 하므로 수동 정리 (chunk마다 커밋)
+        inventoryRepository.deleteAll();
+    }
+
+    @Test
+    void CSV_대량추가_정상행반영_오류행보고() {
+        // Given: 헤더, 중복 상품, 수량 오류, 형식 오류, 재고 없는 상품
+        String csv = """
+                productId,quantity
+                503,5
+                501,10
+                502,-1
+                not-a-row
+                999,3
+                501,5
+                502,7
+                """;
+
+        // When
+        BulkStockResult result = inventoryBulkService.addStock(stream(csv), BulkStockFormat.CSV);
+
+        // Then
+        assertThat(result.getTotalRows()).isEqualTo(7);
+        assertThat(result.getAppliedRows()).isEqualTo(4);
+        assertThat(result.getFailedRows()).isEqualTo(3);
+        assertThat(result.getErrors())
+                .extracting(BulkStockResult.RowError::getLineNumber, BulkStockResult.RowError::getCode)
+                .containsExactlyInAnyOrder(
+                        tuple(4L, ErrorCode.INVALID_INPUT_VALUE.getCode()),
+                        tuple(5L, ErrorCode.INVALID_INPUT_VALUE.getCode()),
+                        tuple(6L, ErrorCode.INVENTORY_NOT_FOUND.getCode()));
+
+        assertThat(inventoryService.getByProductId(501L).getQuantityAvailable()).isEqualTo(25L);
+        assertThat(inventoryService.getByProductId(502L).getQuantityAvailable()).isEqualTo(7L);
+        assertThat(inventoryService.getByProductId(503L).getQuantityAvailable()).isEqualTo(10L);
+    }
+
+    @Test
+    void NDJSON_대량추가_반영() {
+        // Given
+        String ndjson = """
+                {"productId":502,"quantity":4}
+                {"quantity":6,"productId":501}
+
+                {"productId":503}
+                """;
+
+        // When
+        BulkStockResult result = inventoryBulkService.addStock(stream(ndjson), BulkStockFormat.NDJSON);
+
+        // Then
+        assertThat(result.getAppliedRows()).isEqualTo(2);
+        assertThat(result.getFailedRows()).isEqualTo(1);
+        assertThat(result.getErrors().get(0).getLineNumber()).isEqualTo(4L);
+
+        assertThat(inventoryService.getByProductId(501L).getQuantityAvailable()).isEqualTo(16L);
+        assertThat(inventoryService.getByProductId(502L).getQuantityAvailable()).isEqualTo(4L);
+    }
+
+    @Test
+    void NDJSON_정수가아닌값_중첩키_중복키_거절() {
+        // Given
+        String ndjson = """
+                {"productId":501,"quantity":1.5}
+                {"productId":501,"quantity":"5"}
+                {"item":{"productId":501},"quantity":5}
+                {"productId":502,"productId":501,"quantity":5}
+                {"productId":501,"quantity":2}
+                """;
+
+        // When
+        BulkStockResult result = inventoryBulkService.addStock(stream(ndjson), BulkStockFormat.NDJSON);
+
+        // Then: 마지막 행만 반영
+        assertThat(result.getAppliedRows()).isEqualTo(1);
+        assertThat(result.getErrors())
+                .extracting(BulkStockResult.RowError::getLineNumber)
+                .containsExactly(1L, 2L, 3L, 4L);
+        assertThat(inventoryService.getByProductId(501L).getQuantityAvailable()).isEqualTo(12L);
+        assertThat(inventoryService.getByProductId(502L).getQuantityAvailable()).isEqualTo(0L);
+    }
+
+    @Test
+    void CSV_헤더가아닌_첫줄은_데이터행으로_검증() {
+        // Given: 헤더 없이 잘못된 행으로 시작
+        String csv = """
+                -5,3
+                501,2
+                """;
+
+        // When
+        BulkStockResult result = inventoryBulkService.addStock(stream(csv), BulkStockFormat.CSV);
+
+        // Then: 첫 줄은 건너뛰지 않고 오류로 보고
+        assertThat(result.getTotalRows()).isEqualTo(2);
+        assertThat(result.getAppliedRows()).isEqualTo(1);
+        assertThat(result.getErrors())
+                .extracting(BulkStockResult.RowError::getLineNumber)
+                .containsExactly(1L);
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
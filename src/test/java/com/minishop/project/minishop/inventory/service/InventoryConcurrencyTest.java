@@ -10,18 +10,21 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Inventory 동시성 테스트
  * - PESSIMISTIC_WRITE 락 동작 검증
  * - 초과 판매 방지 검증
  * - @Transactional 제거 (실제 DB 락 테스트 위해)
+ * - 하위 클래스에서 inventory.reservation.mode를 바꿔 같은 시나리오 재실행
  */
 @SpringBootTest
 class InventoryConcurrencyTest {
@@ -266,4 +269,100 @@ class InventoryConcurrencyTest {
         assertThat(inventory.getQuantityAvailable()).isEqualTo(60L);
         assertThat(inventory.getQuantityReserved()).isEqualTo(0L);
     }
+
+    @Test
+    void 단일상품_동시반복예약_정합성() throws InterruptedException {
+        // Given: 하나의 인기 상품에 충분한 재고
+        Long productId = 777L;
+        int threadCount = 16;
+        int reservesPerThread = 50;
+        int totalReserves = threadCount * reservesPerThread;
+        inventoryRepository.save(Inventory.create(productId, (long) totalReserves));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startGate = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // When: 모든 스레드가 동시에 1개씩 반복 예약
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    startGate.await();
+                    for (int j = 0; j < reservesPerThread; j++) {
+                        inventoryService.reserve(productId, 1L);
+                        successCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    // 재고 충분하므로 실패 없어야 함
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        startGate.countDown();
+        latch.await();
+        executor.shutdown();
+
+        // Then: 전부 성공, 초과 판매 없음
+        assertThat(successCount.get()).isEqualTo(totalReserves);
+        Inventory inventory = inventoryService.getByProductId(productId);
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(0L);
+        assertThat(inventory.getQuantityReserved()).isEqualTo((long) totalReserves);
+    }
+
+    @Test
+    void 동시_다상품일괄예약_역순장바구니_정합성() throws InterruptedException {
+        // Given: 두 상품 각각 재고 100개
+        Long productA = 901L;
+        Long productB = 902L;
+        inventoryRepository.save(Inventory.create(productA, 100L));
+        inventoryRepository.save(Inventory.create(productB, 100L));
+
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // When: 절반은 A→B, 절반은 B→A 순서의 장바구니로 동시에 일괄 예약
+        for (int i = 0; i < threadCount; i++) {
+            Map<Long, Long> cart = (i % 2 == 0)
+                    ? Map.of(productA, 2L, productB, 3L)
+                    : Map.of(productB, 3L, productA, 2L);
+            executor.submit(() -> {
+                try {
+                    inventoryService.reserveAll(cart);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 데드락 없이 모두 성공해야 함
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // Then: 모두 성공, 각 상품 재고 정확히 차감
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        assertThat(inventoryService.getByProductId(productA).getQuantityReserved()).isEqualTo(20L);
+        assertThat(inventoryService.getByProductId(productB).getQuantityReserved()).isEqualTo(30L);
+    }
+
+    @Test
+    void 다상품일괄예약_한상품부족시_전체실패() {
+        // Given: 999번 재고 10개, 903번 재고 1개
+        Long scarceProduct = 903L;
+        inventoryRepository.save(Inventory.create(scarceProduct, 1L));
+
+        // When & Then
+        assertThatThrownBy(() -> inventoryService.reserveAll(
+                        Map.of(testProductId, 5L, scarceProduct, 2L)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_INVENTORY);
+
+        // Then: 어떤 상품도 예약되지 않음
+        assertThat(inventoryService.getByProductId(testProductId).getQuantityReserved()).isEqualTo(0L);
+        assertThat(inventoryService.getByProductId(scarceProduct).getQuantityReserved()).isEqualTo(0L);
+    }
 }
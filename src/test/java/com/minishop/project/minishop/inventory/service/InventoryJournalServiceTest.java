@@ -0,0 +1,123 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.inventory.domain.InventoryJournalCheck;
+import com.minishop.project.minishop.inventory.domain.InventoryMovement;
+import com.minishop.project.minishop.inventory.domain.InventorySnapshot;
+import com.minishop.project.minishop.inventory.domain.MovementType;
+import com.minishop.project.minishop.inventory.repository.InventoryMovementRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import com.minishop.project.minishop.inventory.repository.InventorySnapshotRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 재고 변동 기록 테스트
+ * - 커밋된 변경만 기록 (롤백 시 기록 없음)
+ * - 압축 후에도 스냅샷 + 남은 기록으로 같은 수량 재구성
+ * - 압축은 읽어서 합산한 기록만 삭제 (ID 순서가 아닌 기록 시각 기준)
+ */
+@SpringBootTest
+class InventoryJournalServiceTest {
+
+    @Autowired
+    private InventoryJournalService journalService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryMovementRepository movementRepository;
+
+    @Autowired
+    private InventorySnapshotRepository snapshotRepository;
+
+    private Long testProductId;
+
+    @BeforeEach
+    void setUp() {
+        testProductId = 601L;
+        inventoryService.initializeInventory(testProductId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 커밋 시점 기록을 검증하므로 @Transactional 사용 안 함, 수동 정리
+        movementRepository.deleteAll();
+        snapshotRepository.deleteAll();
+        inventoryRepository.deleteAll();
+    }
+
+    @Test
+    void 재고변경_커밋시_기록되고_롤백시_기록안됨() {
+        // Given
+        inventoryService.addStock(testProductId, 10L);
+        inventoryService.reserve(testProductId, 3L);
+        inventoryService.release(testProductId, 1L);
+        inventoryService.confirm(testProductId, 1L);
+
+        // When: 재고 부족으로 롤백
+        assertThatThrownBy(() -> inventoryService.reserve(testProductId, 100L))
+                .isInstanceOf(BusinessException.class);
+
+        // Then
+        assertThat(movementRepository.countByProductId(testProductId)).isEqualTo(4);
+        InventoryJournalCheck check = journalService.check(testProductId);
+        assertThat(check.getJournalAvailable()).isEqualTo(check.getCurrentAvailable()).isEqualTo(8L);
+        assertThat(check.getJournalReserved()).isEqualTo(check.getCurrentReserved()).isEqualTo(1L);
+    }
+
+    @Test
+    void 압축후_스냅샷과_남은기록으로_재구성() {
+        // Given
+        inventoryService.addStock(testProductId, 10L);
+        inventoryService.reserve(testProductId, 4L);
+        journalService.compact(Instant.now().plusSeconds(1));
+        inventoryService.release(testProductId, 2L);
+
+        // When
+        InventoryJournalCheck check = journalService.check(testProductId);
+
+        // Then: 압축된 2건은 스냅샷, 이후 1건은 남은 기록
+        assertThat(movementRepository.countByProductId(testProductId)).isEqualTo(1);
+        assertThat(snapshotRepository.findByProductId(testProductId)).isPresent();
+        assertThat(check.getJournalAvailable()).isEqualTo(check.getCurrentAvailable()).isEqualTo(8L);
+        assertThat(check.getJournalReserved()).isEqualTo(check.getCurrentReserved()).isEqualTo(2L);
+    }
+
+    @Test
+    void 압축은_기록시각이_지난_기록만_접고_삭제() {
+        // Given: 최근 기록보다 ID가 큰 오래된 기록 (ID 순서와 기록 순서가 다른 경우)
+        Long otherProductId = 602L;
+        inventoryService.addStock(testProductId, 10L);
+        Instant now = Instant.now();
+        movementRepository.save(InventoryMovement.builder()
+                .productId(otherProductId)
+                .type(MovementType.ADD_STOCK)
+                .availableDelta(7L)
+                .createdAt(now.minus(Duration.ofHours(2)))
+                .build());
+
+        // When
+        int compacted = journalService.compact(now.minus(Duration.ofHours(1)));
+
+        // Then: 오래된 기록만 스냅샷으로 접히고, ID가 더 작은 최근 기록은 남음
+        assertThat(compacted).isEqualTo(1);
+        assertThat(movementRepository.countByProductId(otherProductId)).isZero();
+        assertThat(movementRepository.countByProductId(testProductId)).isEqualTo(1);
+        InventorySnapshot snapshot = snapshotRepository.findByProductId(otherProductId).orElseThrow();
+        assertThat(snapshot.getQuantityAvailable()).isEqualTo(7L);
+        assertThat(snapshotRepository.findByProductId(testProductId)).isEmpty();
+    }
+}
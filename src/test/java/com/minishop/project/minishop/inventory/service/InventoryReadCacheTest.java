@@ -0,0 +1,108 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 재고 조회 캐시 테스트
+ * - 서비스 경유 변경은 커밋 후 즉시 반영
+ * - 서비스를 거치지 않은 변경(다른 노드 가정)은 TTL 동안 캐시 값 유지
+ */
+@SpringBootTest(properties = "inventory.read-cache.ttl-millis=60000")
+class InventoryReadCacheTest {
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryReadCache readCache;
+
+    private Long testProductId;
+
+    @BeforeEach
+    void setUp() {
+        testProductId = 444L;
+        inventoryRepository.save(Inventory.create(testProductId, 10L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 동시성 테스트와 같이 @Transactional 사용 안 하므로 수동 정리
+        readCache.invalidate(testProductId);
+        readCache.invalidate(testProductId + 1);
+        inventoryRepository.deleteAll();
+    }
+
+    @Test
+    void 예약_해제_재고추가_커밋후_캐시조회에_반영() {
+        // Given: 캐시 적재
+        assertThat(inventoryService.getAvailableQuantity(testProductId)).isEqualTo(10L);
+
+        // When & Then
+        inventoryService.reserve(testProductId, 3L);
+        assertThat(inventoryService.getAvailableQuantity(testProductId)).isEqualTo(7L);
+
+        inventoryService.release(testProductId, 1L);
+        assertThat(inventoryService.getAvailableQuantity(testProductId)).isEqualTo(8L);
+
+        inventoryService.addStock(testProductId, 5L);
+        assertThat(inventoryService.getAvailableQuantity(testProductId)).isEqualTo(13L);
+
+        inventoryService.confirm(testProductId, 2L);
+        Inventory cached = inventoryService.getCachedByProductId(testProductId);
+        assertThat(cached.getQuantityAvailable()).isEqualTo(13L);
+        assertThat(cached.getQuantityReserved()).isEqualTo(0L);
+    }
+
+    @Test
+    void 서비스밖_변경은_TTL동안_캐시값_유지() {
+        // Given: 캐시 적재
+        assertThat(inventoryService.getAvailableQuantity(testProductId)).isEqualTo(10L);
+
+        // When: 다른 노드가 변경한 상황 (이 노드의 버전은 그대로)
+        Inventory inventory = inventoryRepository.findByProductId(testProductId).orElseThrow();
+        inventory.addStock(5L);
+        inventoryRepository.save(inventory);
+
+        // Then: 캐시 값 유지, 무효화 후에는 DB 값
+        assertThat(inventoryService.getAvailableQuantity(testProductId)).isEqualTo(10L);
+        readCache.invalidate(testProductId);
+        assertThat(inventoryService.getAvailableQuantity(testProductId)).isEqualTo(15L);
+    }
+
+    @Test
+    void 일괄조회_캐시적중과_DB조회_합쳐서_반환() {
+        // Given: 첫 상품만 캐시 적재, 두 번째 상품은 미적재, 세 번째 상품은 재고 없음
+        Long uncachedProductId = testProductId + 1;
+        Long missingProductId = testProductId + 2;
+        assertThat(inventoryService.getAvailableQuantity(testProductId)).isEqualTo(10L);
+        inventoryRepository.save(Inventory.create(uncachedProductId, 4L));
+
+        // 다른 노드 변경 가정 (캐시 적중이면 이전 값)
+        Inventory inventory = inventoryRepository.findByProductId(testProductId).orElseThrow();
+        inventory.addStock(5L);
+        inventoryRepository.save(inventory);
+
+        // When
+        Map<Long, Long> availability = inventoryService.getAvailability(
+                List.of(missingProductId, uncachedProductId, testProductId));
+
+        // Then: 요청 순서 유지, 재고 없는 상품 제외
+        assertThat(availability).containsExactly(
+                entry(uncachedProductId, 4L),
+                entry(testProductId, 10L));
+    }
+}
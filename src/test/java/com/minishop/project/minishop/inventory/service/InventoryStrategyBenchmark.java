@@ -0,0 +1,227 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 재고 동시성 전략 벤치마크 (기본 빌드에서는 실행 안 함)
+ *
+ * 실행: ./gradlew test --tests '*InventoryStrategyBenchmark' -Dinventory.benchmark=true
+ *
+ * 전략별로 스레드 수 × 인기 상품 쏠림 × 장바구니 크기를 조합해 reserveAll을 반복하고
+ * 처리량, p50/p99 지연, 실패 유형(재고 부족/충돌), 초과 판매 검증 결과를 출력한다.
+ * - 인기 상품은 실행 도중 품절되도록 재고를 적게 두어 부족 경합까지 측정
+ * - 검증: 가용 수량 >= 0, 가용 + 예약 = 초기 재고, 예약 합계 = 성공한 라인 수량 합계
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "inventory.benchmark", matches = "true")
+class InventoryStrategyBenchmark {
+
+    private static final int[] THREADS = {1, 8, 32};
+    private static final double[] HOT_FRACTIONS = {0.0, 0.5, 0.9};
+    private static final int[] CART_SIZES = {1, 3};
+
+    private static final long FIRST_PRODUCT_ID = 70_000L;
+    private static final int PRODUCT_COUNT = 64;
+    private static final long HOT_STOCK = 2_000L;
+    private static final long COLD_STOCK = 1_000_000L;
+    private static final long RUN_MILLIS = Long.getLong("inventory.benchmark.run-millis", 2_000L);
+
+    @Autowired
+    private List<InventoryConcurrencyStrategy> strategies;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        inventoryRepository.deleteAll();
+    }
+
+    @Test
+    void 전략별_경합_조합_측정() throws InterruptedException {
+        System.out.printf("%-12s %7s %5s %4s %10s %9s %9s %8s %8s %8s %s%n",
+                "strategy", "threads", "hot", "cart", "ops/s", "p50(us)", "p99(us)",
+                "ok", "short", "conflict", "oversell-check");
+
+        for (InventoryConcurrencyStrategy strategy : strategies) {
+            for (int threads : THREADS) {
+                for (double hotFraction : HOT_FRACTIONS) {
+                    for (int cartSize : CART_SIZES) {
+                        RunResult result = run(strategy, threads, hotFraction, cartSize);
+                        System.out.printf("%-12s %7d %5.1f %4d %10.1f %9d %9d %8d %8d %8d %s%n",
+                                strategy.mode(), threads, hotFraction, cartSize, result.opsPerSecond(),
+                                result.p50Micros(), result.p99Micros(), result.succeeded(),
+                                result.insufficient(), result.conflicts(), result.verified() ? "OK" : "FAILED");
+                        assertThat(result.verified()).as("oversell check").isTrue();
+                    }
+                }
+            }
+        }
+    }
+
+    private RunResult run(InventoryConcurrencyStrategy strategy, int threadCount, double hotFraction, int cartSize)
+            throws InterruptedException {
+        resetInventories();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicLongArray reservedByProduct = new AtomicLongArray(PRODUCT_COUNT);
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong insufficient = new AtomicLong();
+        AtomicLong conflicts = new AtomicLong();
+        List<LatencySamples> latencies = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startGate = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RUN_MILLIS);
+
+        for (int i = 0; i < threadCount; i++) {
+            LatencySamples samples = new LatencySamples();
+            latencies.add(samples);
+            executor.submit(() -> {
+                try {
+                    startGate.await();
+                    while (System.nanoTime() < deadline) {
+                        SortedMap<Long, Long> cart = randomCart(hotFraction, cartSize);
+                        long startedAt = System.nanoTime();
+                        try {
+                            transactionTemplate.executeWithoutResult(status -> strategy.reserveAll(cart));
+                            succeeded.incrementAndGet();
+                            cart.forEach((productId, quantity) ->
+                                    reservedByProduct.addAndGet((int) (productId - FIRST_PRODUCT_ID), quantity));
+                        } catch (BusinessException e) {
+                            if (e.getErrorCode() == ErrorCode.INVENTORY_CONFLICT) {
+                                conflicts.incrementAndGet();
+                            } else {
+                                insufficient.incrementAndGet();
+                            }
+                        }
+                        samples.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        long startedAt = System.nanoTime();
+        startGate.countDown();
+        latch.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        long[] sorted = merge(latencies);
+        long operations = succeeded.get() + insufficient.get() + conflicts.get();
+        return new RunResult(
+                operations / (elapsedNanos / 1_000_000_000.0),
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.99),
+                succeeded.get(),
+                insufficient.get(),
+                conflicts.get(),
+                verify(reservedByProduct));
+    }
+
+    /**
+     * 장바구니: hotFraction 확률로 인기 상품(첫 상품) 포함, 나머지는 비인기 상품에서 중복 없이 선택
+     */
+    private SortedMap<Long, Long> randomCart(double hotFraction, int cartSize) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SortedMap<Long, Long> cart = new TreeMap<>();
+        if (random.nextDouble() < hotFraction) {
+            cart.put(FIRST_PRODUCT_ID, 1L);
+        }
+        while (cart.size() < cartSize) {
+            cart.put(FIRST_PRODUCT_ID + 1 + random.nextInt(PRODUCT_COUNT - 1), 1L);
+        }
+        return cart;
+    }
+
+    private boolean verify(AtomicLongArray reservedByProduct) {
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Inventory inventory = inventoryRepository.findByProductId(FIRST_PRODUCT_ID + i).orElseThrow();
+            long initial = i == 0 ? HOT_STOCK : COLD_STOCK;
+            if (inventory.getQuantityAvailable() < 0
+                    || inventory.getTotalQuantity() != initial
+                    || inventory.getQuantityReserved() != reservedByProduct.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void resetInventories() {
+        inventoryRepository.deleteAll();
+        List<Inventory> inventories = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            inventories.add(Inventory.create(FIRST_PRODUCT_ID + i, i == 0 ? HOT_STOCK : COLD_STOCK));
+        }
+        inventoryRepository.saveAll(inventories);
+    }
+
+    private long[] merge(List<LatencySamples> latencies) {
+        long[] merged = new long[latencies.stream().mapToInt(samples -> samples.count).sum()];
+        int offset = 0;
+        for (LatencySamples samples : latencies) {
+            System.arraycopy(samples.values, 0, merged, offset, samples.count);
+            offset += samples.count;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    private long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    /**
+     * 스레드별 지연 기록 (스레드 종료 후 latch로 가시성 확보)
+     */
+    private static final class LatencySamples {
+        private long[] values = new long[4096];
+        private int count;
+
+        void add(long micros) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = micros;
+        }
+    }
+
+    private record RunResult(double opsPerSecond, long p50Micros, long p99Micros, long succeeded,
+                             long insufficient, long conflicts, boolean verified) {
+    }
+}
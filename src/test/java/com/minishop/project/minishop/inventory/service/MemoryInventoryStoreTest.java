@@ -0,0 +1,110 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 메모리 재고 저장소 테스트
+ * - 일괄 예약 all-or-nothing
+ * - 재기동 시 체크포인트 + WAL 꼬리로 복원
+ * - 기록 중 중단된 마지막 레코드는 재생하지 않음
+ */
+class MemoryInventoryStoreTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 일괄예약_하나라도_부족하면_전체실패() {
+        // Given
+        try (MemoryInventoryStore store = open()) {
+            store.register(1L);
+            store.register(2L);
+            store.addStock(1L, 10L);
+            store.addStock(2L, 1L);
+
+            TreeMap<Long, Long> quantities = new TreeMap<>();
+            quantities.put(1L, 5L);
+            quantities.put(2L, 2L);
+
+            // When & Then
+            assertThatThrownBy(() -> store.reserveAll(quantities))
+                    .isInstanceOf(BusinessException.class);
+            assertThat(store.find(1L)).hasValue(new MemoryInventoryStore.Totals(1L, 10L, 0L));
+            assertThat(store.find(2L)).hasValue(new MemoryInventoryStore.Totals(2L, 1L, 0L));
+        }
+    }
+
+    @Test
+    void 재기동시_체크포인트와_WAL꼬리로_복원() {
+        // Given: 체크포인트 이후 변경은 WAL에만 있음
+        try (MemoryInventoryStore store = open()) {
+            store.register(1L);
+            store.addStock(1L, 10L);
+            store.reserve(1L, 4L);
+            store.checkpoint();
+            store.confirm(1L, 1L);
+            store.release(1L, 100L); // 예약 수량(3)만큼만 해제
+        }
+
+        // When
+        try (MemoryInventoryStore reopened = open()) {
+            // Then
+            assertThat(reopened.find(1L)).hasValue(new MemoryInventoryStore.Totals(1L, 9L, 0L));
+            assertThat(reopened.drainDirty()).extracting(MemoryInventoryStore.Totals::productId)
+                    .containsExactly(1L);
+        }
+    }
+
+    @Test
+    void 중단된_마지막레코드는_재생안함() throws IOException {
+        // Given
+        try (MemoryInventoryStore store = open()) {
+            store.register(1L);
+            store.addStock(1L, 10L);
+            store.reserve(1L, 3L);
+        }
+
+        // When: 세 번째 레코드 손상
+        Path segment = firstSegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), 2L * InventoryWriteAheadLog.RECORD_SIZE + 12);
+        }
+
+        // Then: 재기동 후에도 이어서 기록/재생 가능
+        try (MemoryInventoryStore reopened = open()) {
+            assertThat(reopened.find(1L)).hasValue(new MemoryInventoryStore.Totals(1L, 10L, 0L));
+            reopened.reserve(1L, 2L);
+        }
+        try (MemoryInventoryStore reopened = open()) {
+            assertThat(reopened.find(1L)).hasValue(new MemoryInventoryStore.Totals(1L, 8L, 2L));
+        }
+    }
+
+    private MemoryInventoryStore open() {
+        return MemoryInventoryStore.open(directory, SEGMENT_SIZE, 100);
+    }
+
+    private Path firstSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("wal-"))
+                    .sorted()
+                    .findFirst()
+                    .orElseThrow();
+        }
+    }
+}
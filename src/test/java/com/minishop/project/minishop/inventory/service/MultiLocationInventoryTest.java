@@ -0,0 +1,202 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.domain.InventoryLocation;
+import com.minishop.project.minishop.inventory.domain.StockAllocation;
+import com.minishop.project.minishop.inventory.repository.InventoryLocationRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 창고별 재고 테스트
+ * - 상품 재고는 창고 합계
+ * - 한 창고로 부족한 라인은 여러 창고로 나눠 배정, 주문 해제 시 배정된 창고로 반환
+ * - 동시 예약에서도 창고별/전체 초과 판매 없음 (여러 창고로 나눠 배정하는 경우 포함)
+ */
+@SpringBootTest(properties = "inventory.locations.enabled=true")
+class MultiLocationInventoryTest {
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryLocationRepository locationRepository;
+
+    @Autowired
+    private InventoryReservationRepository reservationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long testProductId;
+
+    @BeforeEach
+    void setUp() {
+        testProductId = 701L;
+        inventoryRepository.save(Inventory.create(testProductId, 10L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        locationRepository.deleteAll();
+        inventoryRepository.deleteAll();
+    }
+
+    @Test
+    void 첫창고추가시_기존재고이동_합계유지() {
+        // When
+        inventoryService.addStockAtLocation(testProductId, 1L, 5L);
+        Inventory inventory = inventoryService.addStockAtLocation(testProductId, 2L, 20L);
+
+        // Then: 기존 10개는 첫 창고로 이동, 상품 재고는 창고 합계
+        assertThat(inventory.getLocationCount()).isEqualTo(2);
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(35L);
+        assertThat(inventoryService.getLocations(testProductId))
+                .extracting(InventoryLocation::getLocationId, InventoryLocation::getQuantityAvailable)
+                .containsExactly(tuple(1L, 15L), tuple(2L, 20L));
+
+        // Then: 창고 지정 없는 재고 추가는 거절
+        assertThatThrownBy(() -> inventoryService.addStock(testProductId, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    @Test
+    void 한창고로_부족하면_나눠배정_주문해제시_배정창고로_반환() {
+        // Given: 창고1 11개(기존 재고 10 + 1), 창고2 4개
+        inventoryService.addStockAtLocation(testProductId, 1L, 1L);
+        inventoryService.addStockAtLocation(testProductId, 2L, 4L);
+        Long orderId = 9001L;
+
+        // When: 13개 예약 → 창고1 11개 + 창고2 2개
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<StockAllocation> allocations = inventoryService.reserveAll(Map.of(testProductId, 13L));
+            inventoryService.holdForOrder(orderId, allocations, Instant.now().plusSeconds(600));
+        });
+
+        // Then
+        assertThat(locationRepository.findByProductIdOrderByLocationId(testProductId))
+                .extracting(InventoryLocation::getQuantityAvailable, InventoryLocation::getQuantityReserved)
+                .containsExactly(tuple(0L, 11L), tuple(2L, 2L));
+        assertThat(reservationRepository.findByOrderId(orderId)).hasSize(2);
+
+        // When: 주문 해제
+        inventoryService.releaseByOrder(orderId);
+
+        // Then: 배정된 창고로 그대로 반환
+        assertThat(locationRepository.findByProductIdOrderByLocationId(testProductId))
+                .extracting(InventoryLocation::getQuantityAvailable, InventoryLocation::getQuantityReserved)
+                .containsExactly(tuple(11L, 0L), tuple(4L, 0L));
+        assertThat(inventoryService.getByProductId(testProductId).getQuantityAvailable()).isEqualTo(15L);
+    }
+
+    @Test
+    void 동시_창고예약_초과판매없음() throws InterruptedException {
+        // Given: 창고 3곳 합계 90개 (기존 10 + 20, 30, 30)
+        inventoryService.addStockAtLocation(testProductId, 1L, 20L);
+        inventoryService.addStockAtLocation(testProductId, 2L, 30L);
+        inventoryService.addStockAtLocation(testProductId, 3L, 30L);
+
+        int threadCount = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // When: 20개 스레드가 7개씩 예약 (총 140개 요청)
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    inventoryService.reserve(testProductId, 7L);
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.INSUFFICIENT_INVENTORY) {
+                        failCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // Then: 90 / 7 = 12건 성공, 창고별 음수 없음, 합계 보존
+        assertThat(successCount.get()).isEqualTo(12);
+        assertThat(failCount.get()).isEqualTo(8);
+        List<InventoryLocation> locations = locationRepository.findByProductIdOrderByLocationId(testProductId);
+        assertThat(locations).allSatisfy(location -> assertThat(location.getQuantityAvailable()).isNotNegative());
+        Inventory inventory = inventoryService.getByProductId(testProductId);
+        assertThat(inventory.getQuantityReserved()).isEqualTo(84L);
+        assertThat(inventory.getTotalQuantity()).isEqualTo(90L);
+    }
+
+    @Test
+    void 동시_분할예약_초과판매없음() throws InterruptedException {
+        // Given: 창고 3곳 각 11개 (기존 10 + 1, 11, 11), 어느 창고도 한 번에 채울 수 없는 12개씩 예약
+        inventoryService.addStockAtLocation(testProductId, 1L, 1L);
+        inventoryService.addStockAtLocation(testProductId, 2L, 11L);
+        inventoryService.addStockAtLocation(testProductId, 3L, 11L);
+
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // When: 10개 스레드가 동시에 12개씩 예약 (모두 전체 잠금 후 분할 배정 경로)
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    inventoryService.reserve(testProductId, 12L);
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.INSUFFICIENT_INVENTORY) {
+                        failCount.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        start.countDown();
+        latch.await();
+        executor.shutdown();
+
+        // Then: 33 / 12 = 2건 성공, 앞선 예약을 덮어쓰지 않음 (예약 합계 = 성공 건수 × 12)
+        assertThat(successCount.get()).isEqualTo(2);
+        assertThat(failCount.get()).isEqualTo(8);
+        List<InventoryLocation> locations = locationRepository.findByProductIdOrderByLocationId(testProductId);
+        assertThat(locations).allSatisfy(location -> assertThat(location.getQuantityAvailable()).isNotNegative());
+        Inventory inventory = inventoryService.getByProductId(testProductId);
+        assertThat(inventory.getQuantityReserved()).isEqualTo(24L);
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(9L);
+    }
+}
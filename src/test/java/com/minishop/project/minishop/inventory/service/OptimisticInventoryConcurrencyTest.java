@@ -0,0 +1,15 @@
+package com.minishop.project.minishop.inventory.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 낙관적 락 모드 동시성 테스트
+ * - InventoryConcurrencyTest의 모든 시나리오를 OPTIMISTIC 모드로 재실행
+ * - 시나리오는 충돌로 실패하면 안 되므로 재시도 횟수를 넉넉히 설정
+ */
+@SpringBootTest(properties = {
+        "inventory.reservation.mode=OPTIMISTIC",
+        "inventory.optimistic.max-attempts=50"
+})
+class OptimisticInventoryConcurrencyTest extends InventoryConcurrencyTest {
+}
@@ -0,0 +1,138 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.domain.StockAllocation;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 예약 합치기 테스트
+ * - 요청 단위 전부 또는 전무 배정 (커넥션 풀(기본 10)보다 많은 요청 스레드로 실행)
+ * - 다상품 요청은 한 상품이라도 부족하면 앞서 받은 배정 반환
+ * - 주문에 기록하지 못한 배정 반환
+ * - 트랜잭션 안에서는 호출 불가
+ */
+@SpringBootTest(properties = "inventory.combining.enabled=true")
+class ReservationCombinerTest {
+
+    @Autowired
+    private ReservationCombiner combiner;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Long testProductId = 444L;
+    private final Long otherProductId = 445L;
+
+    @BeforeEach
+    void setUp() {
+        inventoryRepository.save(Inventory.create(testProductId, 10L));
+        inventoryRepository.save(Inventory.create(otherProductId, 1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        inventoryRepository.deleteAll();
+    }
+
+    @Test
+    void 동시_합친예약_요청단위_배정() throws InterruptedException {
+        // Given: 재고 10개, 20개 스레드가 동시에 3개씩 요청 (총 60개)
+        int threadCount = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    List<StockAllocation> allocations = combiner.reserveAll(Map.of(testProductId, 3L));
+                    assertThat(allocations).extracting(StockAllocation::getQuantity).containsExactly(3L);
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.INSUFFICIENT_INVENTORY) {
+                        failCount.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        start.countDown();
+        latch.await();
+        executor.shutdown();
+
+        // Then: 3건 성공(9개), 17건 실패, 부분 배정 없음
+        assertThat(successCount.get()).isEqualTo(3);
+        assertThat(failCount.get()).isEqualTo(17);
+        Inventory inventory = inventoryService.getByProductId(testProductId);
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(1L);
+        assertThat(inventory.getQuantityReserved()).isEqualTo(9L);
+    }
+
+    @Test
+    void 다상품_한상품이라도_부족하면_앞선배정_반환() {
+        // When & Then
+        assertThatThrownBy(() -> combiner.reserveAll(Map.of(testProductId, 3L, otherProductId, 2L)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_INVENTORY);
+
+        // Then: 재고 원복
+        Inventory inventory = inventoryService.getByProductId(testProductId);
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(10L);
+        assertThat(inventory.getQuantityReserved()).isEqualTo(0L);
+    }
+
+    @Test
+    void 주문에_기록하지못한_배정_반환() {
+        // Given
+        List<StockAllocation> allocations = combiner.reserveAll(Map.of(testProductId, 4L));
+        assertThat(inventoryService.getByProductId(testProductId).getQuantityReserved()).isEqualTo(4L);
+
+        // When: 주문 트랜잭션 실패 후 반환
+        combiner.release(allocations, new IllegalStateException("order creation failed"));
+
+        // Then
+        Inventory inventory = inventoryService.getByProductId(testProductId);
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(10L);
+        assertThat(inventory.getQuantityReserved()).isEqualTo(0L);
+    }
+
+    @Test
+    void 트랜잭션_안에서는_호출불가() {
+        // When & Then
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                combiner.reserveAll(Map.of(testProductId, 1L))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(inventoryService.getByProductId(testProductId).getQuantityReserved()).isEqualTo(0L);
+    }
+}
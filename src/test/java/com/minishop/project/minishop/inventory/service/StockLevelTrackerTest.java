@@ -0,0 +1,112 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.domain.StockLevel;
+import com.minishop.project.minishop.inventory.event.StockLevelChangedEvent;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 재고 부족 구간 변경 이벤트 테스트
+ * - 기준/품절을 넘나들 때만 발행, 같은 구간 안의 변경은 발행 안 함
+ * - 재고 추가/예약 해제로 회복 시 발행
+ */
+@SpringBootTest
+class StockLevelTrackerTest {
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private StockLevelTracker stockLevelTracker;
+
+    @Autowired
+    private BlockingQueue<StockLevelChangedEvent> receivedEvents;
+
+    private Long testProductId;
+
+    @TestConfiguration
+    static class EventCollectorConfig {
+        private final BlockingQueue<StockLevelChangedEvent> events = new LinkedBlockingQueue<>();
+
+        @Bean
+        BlockingQueue<StockLevelChangedEvent> receivedEvents() {
+            return events;
+        }
+
+        @EventListener
+        void on(StockLevelChangedEvent event) {
+            events.add(event);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        testProductId = 701L;
+        inventoryRepository.save(Inventory.create(testProductId, 10L));
+        inventoryService.configureLowStockThreshold(testProductId, 3L);
+        receivedEvents.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockLevelTracker.updateThreshold(testProductId, 0L);
+        inventoryRepository.deleteAll();
+    }
+
+    @Test
+    void 기준을_넘나들때만_이벤트_발행() throws InterruptedException {
+        // When & Then: 10 → 3 (LOW_STOCK)
+        inventoryService.reserve(testProductId, 7L);
+        StockLevelChangedEvent low = receivedEvents.poll(2, TimeUnit.SECONDS);
+        assertThat(low).isNotNull();
+        assertThat(low.getPreviousLevel()).isEqualTo(StockLevel.IN_STOCK);
+        assertThat(low.getCurrentLevel()).isEqualTo(StockLevel.LOW_STOCK);
+        assertThat(low.getQuantityAvailable()).isEqualTo(3L);
+
+        // 3 → 2: 같은 구간, 2 → 0: OUT_OF_STOCK
+        inventoryService.reserve(testProductId, 1L);
+        inventoryService.reserve(testProductId, 2L);
+        StockLevelChangedEvent out = receivedEvents.poll(2, TimeUnit.SECONDS);
+        assertThat(out).isNotNull();
+        assertThat(out.getPreviousLevel()).isEqualTo(StockLevel.LOW_STOCK);
+        assertThat(out.getCurrentLevel()).isEqualTo(StockLevel.OUT_OF_STOCK);
+        assertThat(out.isRecovery()).isFalse();
+
+        // 0 → 5: 회복
+        inventoryService.release(testProductId, 5L);
+        StockLevelChangedEvent recovered = receivedEvents.poll(2, TimeUnit.SECONDS);
+        assertThat(recovered).isNotNull();
+        assertThat(recovered.getCurrentLevel()).isEqualTo(StockLevel.IN_STOCK);
+        assertThat(recovered.isRecovery()).isTrue();
+        assertThat(receivedEvents.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void 기준없는_상품은_이벤트없음() throws InterruptedException {
+        // Given
+        inventoryService.configureLowStockThreshold(testProductId, 0L);
+
+        // When
+        inventoryService.reserve(testProductId, 10L);
+
+        // Then
+        assertThat(receivedEvents.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+}
@@ -0,0 +1,131 @@
+package com.minishop.project.minishop.inventory.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryStripeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 분할(striped) 재고 동시성 테스트
+ * - 버킷 합계 정합성 검증
+ * - 버킷 경계를 넘는 예약에서도 초과 판매 방지 검증
+ */
+@SpringBootTest(properties = "inventory.striping.enabled=true")
+class StripedInventoryConcurrencyTest {
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryStripeRepository inventoryStripeRepository;
+
+    private Long testProductId;
+
+    @BeforeEach
+    void setUp() {
+        testProductId = 555L;
+        inventoryRepository.save(Inventory.create(testProductId, 100L));
+        inventoryService.configureStripes(testProductId, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inventoryStripeRepository.deleteAll();
+        inventoryRepository.deleteAll();
+    }
+
+    @Test
+    void 분할설정시_합계유지() {
+        // When
+        Inventory inventory = inventoryService.getByProductId(testProductId);
+
+        // Then
+        assertThat(inventory.getStripeCount()).isEqualTo(4);
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(100L);
+        assertThat(inventoryStripeRepository.findByProductIdOrderByStripeIndex(testProductId)).hasSize(4);
+    }
+
+    @Test
+    void 동시_분할재고예약_초과판매없음() throws InterruptedException {
+        // Given: 재고 100개, 4개 버킷
+        int threadCount = 30;
+        int reserveQuantity = 4; // 총 120개 요청 → 25건만 성공해야 함
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    inventoryService.reserve(testProductId, (long) reserveQuantity);
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.INSUFFICIENT_INVENTORY) {
+                        failCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // Then: 정확히 100개 소진
+        assertThat(successCount.get()).isEqualTo(25);
+        assertThat(failCount.get()).isEqualTo(5);
+        Inventory inventory = inventoryService.getByProductId(testProductId);
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(0L);
+        assertThat(inventory.getQuantityReserved()).isEqualTo(100L);
+    }
+
+    @Test
+    void 버킷경계_예약_해제_확정_정합성() {
+        // Given: 버킷당 25개 → 단일 버킷으로 부족한 60개 예약
+        inventoryService.reserve(testProductId, 60L);
+
+        // When
+        inventoryService.release(testProductId, 30L);
+        inventoryService.confirm(testProductId, 30L);
+
+        // Then
+        Inventory inventory = inventoryService.getByProductId(testProductId);
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(70L);
+        assertThat(inventory.getQuantityReserved()).isEqualTo(0L);
+        assertThat(inventory.getTotalQuantity()).isEqualTo(70L);
+    }
+
+    @Test
+    void 재고추가시_버킷재분배_후_분할해제() {
+        // Given
+        inventoryService.reserve(testProductId, 10L);
+
+        // When: 재고 추가 후 분할 해제
+        inventoryService.addStock(testProductId, 20L);
+        Inventory merged = inventoryService.configureStripes(testProductId, 0);
+
+        // Then
+        assertThat(merged.getStripeCount()).isEqualTo(0);
+        assertThat(merged.getQuantityAvailable()).isEqualTo(110L);
+        assertThat(merged.getQuantityReserved()).isEqualTo(10L);
+        assertThat(inventoryStripeRepository.findByProductIdOrderByStripeIndex(testProductId)).isEmpty();
+    }
+}
@@ -0,0 +1,177 @@
+package com.minishop.project.minishop.order.service;
+
+import com.minishop.project.minishop.inventory.domain.Backorder;
+import com.minishop.project.minishop.inventory.domain.BackorderStatus;
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.repository.BackorderRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryReservationRepository;
+import com.minishop.project.minishop.inventory.service.InventoryService;
+import com.minishop.project.minishop.order.domain.Order;
+import com.minishop.project.minishop.order.domain.OrderStatus;
+import com.minishop.project.minishop.order.dto.OrderItemRequest;
+import com.minishop.project.minishop.order.repository.OrderRepository;
+import com.minishop.project.minishop.product.domain.Product;
+import com.minishop.project.minishop.product.domain.ProductStatus;
+import com.minishop.project.minishop.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 재고 대기 주문 테스트
+ * - 재고 부족 시 BACKORDERED로 접수, 재고 예약 없음
+ * - 입고 시 대기열 앞에서부터 FIFO 배정 (앞 라인을 채울 수 없으면 뒤 라인도 대기)
+ * - 모든 라인이 배정되면 CREATED로 전환되고 예약 만료 시각 설정
+ * - 대기 주문 취소 시 남은 대기 라인 취소 + 배정된 라인 해제
+ */
+@SpringBootTest(properties = "inventory.backorder.enabled=true")
+class BackorderTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryReservationRepository reservationRepository;
+
+    @Autowired
+    private BackorderRepository backorderRepository;
+
+    private final Long testUserId = 999L;
+
+    @AfterEach
+    void tearDown() {
+        backorderRepository.deleteAll();
+        reservationRepository.deleteAll();
+        orderRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void 입고시_대기열순서대로_배정_앞라인부족하면_뒤라인대기() {
+        // Given: 재고 0, 대기 주문 3건 (3개, 5개, 1개)
+        Product product = createProduct("Backorder Product", 1000L);
+        Order first = backorder(product, 3L);
+        Order second = backorder(product, 5L);
+        Order third = backorder(product, 1L);
+
+        assertThat(first.getStatus()).isEqualTo(OrderStatus.BACKORDERED);
+        assertThat(inventoryService.getByProductId(product.getId()).getQuantityReserved()).isZero();
+
+        // When: 4개 입고 → 첫 주문(3개)만 배정, 두 번째(5개)를 채울 수 없으므로 세 번째(1개)도 대기
+        inventoryService.addStock(product.getId(), 4L);
+
+        // Then
+        awaitStatus(first.getId(), OrderStatus.CREATED);
+        assertThat(statusOf(second.getId())).isEqualTo(OrderStatus.BACKORDERED);
+        assertThat(statusOf(third.getId())).isEqualTo(OrderStatus.BACKORDERED);
+        assertThat(reservationRepository.findByOrderId(first.getId()))
+                .singleElement()
+                .satisfies(hold -> assertThat(hold.getExpiresAt()).isNotNull());
+        Inventory inventory = inventoryService.getByProductId(product.getId());
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(1L);
+        assertThat(inventory.getQuantityReserved()).isEqualTo(3L);
+
+        // When: 5개 추가 입고 → 남은 두 주문 배정
+        inventoryService.addStock(product.getId(), 5L);
+
+        // Then
+        awaitStatus(second.getId(), OrderStatus.CREATED);
+        awaitStatus(third.getId(), OrderStatus.CREATED);
+        inventory = inventoryService.getByProductId(product.getId());
+        assertThat(inventory.getQuantityAvailable()).isZero();
+        assertThat(inventory.getQuantityReserved()).isEqualTo(9L);
+    }
+
+    @Test
+    void 대기주문_취소시_대기라인취소_배정된라인해제() {
+        // Given: A는 재고 있음, B는 재고 없음 → 주문 전체가 대기, A 라인은 바로 배정
+        Product inStock = createProduct("In Stock", 1000L);
+        Product outOfStock = createProduct("Out Of Stock", 2000L);
+        inventoryService.addStock(inStock.getId(), 2L);
+
+        Order order = orderService.createOrder(testUserId, List.of(
+                new OrderItemRequest(inStock.getId(), 2L),
+                new OrderItemRequest(outOfStock.getId(), 1L)
+        ), true);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.BACKORDERED);
+        await(() -> !reservationRepository.findByOrderId(order.getId()).isEmpty());
+        assertThat(inventoryService.getByProductId(inStock.getId()).getQuantityReserved()).isEqualTo(2L);
+
+        // When
+        Order canceled = orderService.cancelOrder(order.getId(), testUserId);
+
+        // Then
+        assertThat(canceled.getStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(reservationRepository.findByOrderId(order.getId())).isEmpty();
+        assertThat(backorderRepository.findAll())
+                .extracting(Backorder::getProductId, Backorder::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(inStock.getId(), BackorderStatus.ALLOCATED),
+                        tuple(outOfStock.getId(), BackorderStatus.CANCELED));
+        Inventory inventory = inventoryService.getByProductId(inStock.getId());
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(2L);
+        assertThat(inventory.getQuantityReserved()).isZero();
+    }
+
+    private Order backorder(Product product, Long quantity) {
+        return orderService.createOrder(testUserId, List.of(new OrderItemRequest(product.getId(), quantity)), true);
+    }
+
+    private OrderStatus statusOf(Long orderId) {
+        return orderRepository.findById(orderId).orElseThrow().getStatus();
+    }
+
+    private void awaitStatus(Long orderId, OrderStatus status) {
+        await(() -> statusOf(orderId) == status);
+    }
+
+    /**
+     * 배정은 별도 스레드에서 실행되므로 최대 5초 대기
+     */
+    private void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted");
+            }
+        }
+    }
+
+    private Product createProduct(String name, Long price) {
+        Product product = Product.builder()
+                .name(name)
+                .description("Test Description")
+                .unitPrice(price)
+                .status(ProductStatus.ACTIVE)
+                .build();
+        Product saved = productRepository.save(product);
+        inventoryService.initializeInventory(saved.getId());
+        return saved;
+    }
+}
@@ -0,0 +1,125 @@
+package com.minishop.project.minishop.order.service;
+
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryReservationRepository;
+import com.minishop.project.minishop.inventory.service.InventoryService;
+import com.minishop.project.minishop.order.domain.Order;
+import com.minishop.project.minishop.order.domain.OrderItem;
+import com.minishop.project.minishop.order.domain.OrderStatus;
+import com.minishop.project.minishop.order.dto.OrderItemRequest;
+import com.minishop.project.minishop.order.repository.ArchivedOrderRepository;
+import com.minishop.project.minishop.order.repository.OrderRepository;
+import com.minishop.project.minishop.order.repository.OrderSummaryRepository;
+import com.minishop.project.minishop.product.domain.Product;
+import com.minishop.project.minishop.product.domain.ProductStatus;
+import com.minishop.project.minishop.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 종료 주문 보관 테스트
+ * - 종료 상태 주문만 chunk 단위로 보관 테이블로 이동, 원본 주문/항목 삭제
+ * - 진행 중인 주문은 그대로
+ * - 보관된 주문도 getOrder로 항목까지 조회
+ */
+@SpringBootTest(properties = {
+        "order.archive.min-age-days=0",
+        "order.archive.chunk-size=2"
+})
+class OrderArchiveServiceTest {
+
+    @Autowired
+    private OrderArchiveService archiveService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private OrderSummaryRepository summaryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryReservationRepository reservationRepository;
+
+    private final Long testUserId = 999L;
+
+    @AfterEach
+    void tearDown() {
+        archivedOrderRepository.deleteAll();
+        summaryRepository.deleteAll();
+        reservationRepository.deleteAll();
+        orderRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void 종료주문만_보관테이블로이동_getOrder는_보관본조회() {
+        // Given: 취소 3건 (chunk 2건씩 두 번), 결제 대기 1건
+        Product first = createProduct("First Product", 1000L);
+        Product second = createProduct("Second Product", 2000L);
+        inventoryService.addStock(first.getId(), 10L);
+        inventoryService.addStock(second.getId(), 10L);
+        List<Long> canceledIds = List.of(createOrder(first, second), createOrder(first, second), createOrder(first, second));
+        canceledIds.forEach(orderId -> orderService.cancelOrder(orderId, testUserId));
+        Long pendingId = createOrder(first, second);
+
+        // When
+        int archived = archiveService.archive();
+
+        // Then: 취소 주문만 이동
+        assertThat(archived).isEqualTo(3);
+        assertThat(orderRepository.findAll()).extracting(Order::getId).containsExactly(pendingId);
+        assertThat(archivedOrderRepository.count()).isEqualTo(3L);
+
+        // Then: 보관된 주문도 항목까지 같은 값으로 조회
+        Order archivedOrder = orderService.getOrder(canceledIds.get(0), testUserId);
+        assertThat(archivedOrder.getStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(archivedOrder.getTotalAmount()).isEqualTo(3000L);
+        assertThat(archivedOrder.getOrderItems())
+                .extracting(OrderItem::getProductName, OrderItem::getQuantity)
+                .containsExactly(tuple("First Product", 1L), tuple("Second Product", 1L));
+        assertThat(orderService.getOrder(pendingId, testUserId).getStatus()).isEqualTo(OrderStatus.CREATED);
+
+        // Then: 다시 실행해도 이동할 주문 없음
+        assertThat(archiveService.archive()).isZero();
+    }
+
+    private Long createOrder(Product first, Product second) {
+        return orderService.createOrder(testUserId, List.of(
+                new OrderItemRequest(first.getId(), 1L),
+                new OrderItemRequest(second.getId(), 1L))).getId();
+    }
+
+    private Product createProduct(String name, Long price) {
+        Product product = Product.builder()
+                .name(name)
+                .description("Test Description")
+                .unitPrice(price)
+                .status(ProductStatus.ACTIVE)
+                .build();
+        Product saved = productRepository.save(product);
+        inventoryService.initializeInventory(saved.getId());
+        return saved;
+    }
+}
@@ -0,0 +1,163 @@
+package com.minishop.project.minishop.order.service;
+
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryReservationRepository;
+import com.minishop.project.minishop.inventory.service.InventoryService;
+import com.minishop.project.minishop.order.domain.Order;
+import com.minishop.project.minishop.order.domain.OrderStatus;
+import com.minishop.project.minishop.order.dto.OrderItemRequest;
+import com.minishop.project.minishop.order.repository.OrderRepository;
+import com.minishop.project.minishop.product.domain.Product;
+import com.minishop.project.minishop.product.domain.ProductStatus;
+import com.minishop.project.minishop.product.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 만료 점검 테스트
+ * - chunk 단위로 나눠 처리해도 만료 대상 주문은 모두 EXPIRED, 재고 반환
+ * - 만료 시각이 지나지 않은 주문은 그대로
+ * - 처리 건수/적체 지표 기록
+ * - 타이밍 휠은 만료 시각이 되면 점검 없이 만료 처리
+ */
+@SpringBootTest(properties = {
+        "order.expiration.workers=2",
+        "order.expiration.chunk-size=3",
+        "order.expiration.wheel.tick-millis=20"
+})
+class OrderExpirationServiceTest {
+
+    @Autowired
+    private OrderExpirationService expirationService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderExpiryWheel expiryWheel;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryReservationRepository reservationRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Long testUserId = 999L;
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        orderRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void 만료대상_여러chunk로_나눠_모두만료_재고반환() {
+        // Given: 만료 대상 13건 (workers 2 × chunk 3 = 한 번에 6건씩 세 번), 아직 유효한 주문 1건
+        Product product = createProduct("Expiring Product", 1000L);
+        inventoryService.addStock(product.getId(), 20L);
+        Instant past = Instant.now().minusSeconds(60);
+
+        List<Order> expiring = new ArrayList<>();
+        for (int i = 0; i < 13; i++) {
+            Order order = orderService.createOrder(testUserId, List.of(new OrderItemRequest(product.getId(), 1L)));
+            inventoryService.setHoldExpiry(order.getId(), past);
+            expiring.add(order);
+        }
+        Order pending = orderService.createOrder(testUserId, List.of(new OrderItemRequest(product.getId(), 1L)));
+        double expiredBefore = meterRegistry.counter("order.expiration.expired").count();
+
+        // When
+        int expired = expirationService.sweep();
+
+        // Then
+        assertThat(expired).isEqualTo(13);
+        assertThat(expiring).allSatisfy(order ->
+                assertThat(statusOf(order.getId())).isEqualTo(OrderStatus.EXPIRED));
+        assertThat(statusOf(pending.getId())).isEqualTo(OrderStatus.CREATED);
+        Inventory inventory = inventoryService.getByProductId(product.getId());
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(19L);
+        assertThat(inventory.getQuantityReserved()).isEqualTo(1L);
+        assertThat(meterRegistry.counter("order.expiration.expired").count() - expiredBefore).isEqualTo(13.0);
+        assertThat(meterRegistry.get("order.expiration.backlog").gauge().value()).isZero();
+
+        // When: 남은 대상 없음
+        assertThat(expirationService.sweep()).isZero();
+    }
+
+    @Test
+    void 만료시각_도달시_타이밍휠이_만료처리_재고반환() {
+        // Given
+        Product product = createProduct("Wheel Product", 1000L);
+        inventoryService.addStock(product.getId(), 5L);
+        Order order = orderService.createOrder(testUserId, List.of(new OrderItemRequest(product.getId(), 2L)));
+
+        // When: 만료 시각을 300ms 뒤로 앞당김
+        expiryWheel.schedule(order.getId(), Instant.now().plusMillis(300));
+
+        // Then: 만료 시각 전에는 그대로, 이후 점검 없이 만료
+        assertThat(statusOf(order.getId())).isEqualTo(OrderStatus.CREATED);
+        await(() -> statusOf(order.getId()) == OrderStatus.EXPIRED);
+        Inventory inventory = inventoryService.getByProductId(product.getId());
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(5L);
+        assertThat(inventory.getQuantityReserved()).isZero();
+    }
+
+    /**
+     * 만료는 작업 스레드에서 실행되므로 최대 5초 대기
+     */
+    private void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted");
+            }
+        }
+    }
+
+    private OrderStatus statusOf(Long orderId) {
+        return orderRepository.findById(orderId).orElseThrow().getStatus();
+    }
+
+    private Product createProduct(String name, Long price) {
+        Product product = Product.builder()
+                .name(name)
+                .description("Test Description")
+                .unitPrice(price)
+                .status(ProductStatus.ACTIVE)
+                .build();
+        Product saved = productRepository.save(product);
+        inventoryService.initializeInventory(saved.getId());
+        return saved;
+    }
+}
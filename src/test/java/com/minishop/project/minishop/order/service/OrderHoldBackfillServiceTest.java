@@ -0,0 +1,128 @@
+package com.minishop.project.minishop.order.service;
+
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryReservationRepository;
+import com.minishop.project.minishop.inventory.service.InventoryService;
+import com.minishop.project.minishop.order.domain.Order;
+import com.minishop.project.minishop.order.domain.OrderStatus;
+import com.minishop.project.minishop.order.dto.OrderItemRequest;
+import com.minishop.project.minishop.order.repository.OrderRepository;
+import com.minishop.project.minishop.order.repository.OrderSummaryRepository;
+import com.minishop.project.minishop.payment.domain.Payment;
+import com.minishop.project.minishop.payment.repository.PaymentRepository;
+import com.minishop.project.minishop.product.domain.Product;
+import com.minishop.project.minishop.product.domain.ProductStatus;
+import com.minishop.project.minishop.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 예약 내역 채우기 테스트
+ * - 예약 내역 없는 결제 대기/결제 완료 주문은 주문 항목으로 복원 (이후 취소/확정이 재고에 반영)
+ * - 결제 실패 기록이 있는 결제 대기 주문은 재고를 다시 건드리지 않고 취소
+ */
+@SpringBootTest(properties = {
+        "order.hold.backfill.chunk-size=2"
+})
+class OrderHoldBackfillServiceTest {
+
+    @Autowired
+    private OrderHoldBackfillService backfillService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSummaryRepository summaryRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryReservationRepository reservationRepository;
+
+    private final Long testUserId = 999L;
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.deleteAll();
+        summaryRepository.deleteAll();
+        reservationRepository.deleteAll();
+        orderRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void 예약내역없는_주문은_복원_결제실패주문은_취소() {
+        // Given: 재고 10개, 예약 내역 도입 전 주문처럼 예약 내역만 없는 결제 대기(2개)/결제 완료(3개) 주문
+        Product product = createProduct("Hold Product", 1000L);
+        inventoryService.addStock(product.getId(), 10L);
+        Order created = orderService.createOrder(testUserId, List.of(new OrderItemRequest(product.getId(), 2L)));
+        Order paid = orderService.createOrder(testUserId, List.of(new OrderItemRequest(product.getId(), 3L)));
+        orderService.markAsPaid(paid.getId());
+        reservationRepository.deleteAll(reservationRepository.findByOrderId(created.getId()));
+        reservationRepository.deleteAll(reservationRepository.findByOrderId(paid.getId()));
+
+        // Given: 결제 실패로 재고는 해제됐지만 결제 대기로 남은 주문
+        Order failed = orderService.createOrder(testUserId, List.of(new OrderItemRequest(product.getId(), 1L)));
+        inventoryService.releaseByOrder(failed.getId());
+        Payment payment = Payment.create(testUserId, failed.getId(), "failed-key", failed.getTotalAmount());
+        payment.markAsFailed();
+        paymentRepository.save(payment);
+
+        // When
+        int backfilled = backfillService.backfill();
+
+        // Then: 예약 수량은 그대로, 결제 실패 주문은 취소
+        assertThat(backfilled).isEqualTo(3);
+        assertThat(inventoryService.holdsReservation(created.getId())).isTrue();
+        assertThat(inventoryService.holdsReservation(paid.getId())).isTrue();
+        assertThat(inventoryService.holdsReservation(failed.getId())).isFalse();
+        assertThat(orderService.getOrderById(failed.getId()).getStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(inventoryService.getByProductId(product.getId()).getQuantityReserved()).isEqualTo(5L);
+
+        // When: 복원된 예약 내역으로 취소/확정
+        orderService.cancelOrder(created.getId(), testUserId);
+        orderService.completeOrder(paid.getId());
+
+        // Then
+        Inventory inventory = inventoryService.getByProductId(product.getId());
+        assertThat(inventory.getQuantityReserved()).isZero();
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(7L);
+
+        // When: 남은 대상 없음
+        assertThat(backfillService.backfill()).isZero();
+    }
+
+    private Product createProduct(String name, Long price) {
+        Product product = Product.builder()
+                .name(name)
+                .description("Test Description")
+                .unitPrice(price)
+                .status(ProductStatus.ACTIVE)
+                .build();
+        Product saved = productRepository.save(product);
+        inventoryService.initializeInventory(saved.getId());
+        return saved;
+    }
+}
@@ -0,0 +1,259 @@
+package com.minishop.project.minishop.order.service;
+
+import com.minishop.project.minishop.common.exception.BusinessException;
+import com.minishop.project.minishop.common.exception.ErrorCode;
+import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryReservationRepository;
+import com.minishop.project.minishop.inventory.service.InventoryService;
+import com.minishop.project.minishop.order.domain.OrderIntake;
+import com.minishop.project.minishop.order.domain.OrderIntakeStatus;
+import com.minishop.project.minishop.order.domain.OrderStatus;
+import com.minishop.project.minishop.order.dto.OrderItemRequest;
+import com.minishop.project.minishop.order.repository.OrderIntakeRepository;
+import com.minishop.project.minishop.order.repository.OrderRepository;
+import com.minishop.project.minishop.product.domain.Product;
+import com.minishop.project.minishop.product.domain.ProductStatus;
+import com.minishop.project.minishop.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 비동기 주문 접수 테스트
+ * - 처리 대기 건수가 capacity에 도달하면 저장하지 않고 거절
+ * - drain 시 접수 순서대로 주문 생성, 재고 부족 접수는 FAILED(errorCode)
+ * - 대기표는 접수한 사용자만 조회
+ * - 다른 노드가 처리한 접수도 drain 후 처리 대기 건수에서 빠짐
+ * - 일시적 실패(락 대기 초과) 접수는 PENDING으로 남아 다음 drain에서 처리
+ * - 보관 기간이 지난 처리 완료/실패 접수만 삭제
+ * (drain-interval을 길게 두고 drain을 직접 호출)
+ */
+@SpringBootTest(properties = {
+        "order.intake.async.enabled=true",
+        "order.intake.capacity=3",
+        "order.intake.drain-interval-millis=600000"
+})
+class OrderIntakeServiceTest {
+
+    @Autowired
+    private OrderIntakeService intakeService;
+
+    @Autowired
+    private OrderIntakeRepository intakeRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryReservationRepository reservationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Long testUserId = 999L;
+    private final Long otherUserId = 888L;
+
+    @AfterEach
+    void tearDown() {
+        intakeRepository.deleteAll();
+        reservationRepository.deleteAll();
+        orderRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void 가득차면_거절_drain시_접수순서대로_생성_재고부족은_FAILED() {
+        // Given: 재고 2개, 1개씩 3건 접수
+        Product product = createProduct("Intake Product", 1000L);
+        inventoryService.addStock(product.getId(), 2L);
+        List<OrderIntake> tickets = List.of(submit(product), submit(product), submit(product));
+
+        // When & Then: 처리 대기 3건 = capacity → 거절
+        assertThat(intakeService.submit(testUserId, items(product), false)).isEmpty();
+        assertThat(intakeRepository.count()).isEqualTo(3L);
+
+        // When
+        int processed = intakeService.drain();
+
+        // Then: 앞의 2건 주문 생성, 마지막 1건 재고 부족
+        assertThat(processed).isEqualTo(3);
+        OrderIntake first = intakeService.getTicket(tickets.get(0).getId(), testUserId);
+        OrderIntake second = intakeService.getTicket(tickets.get(1).getId(), testUserId);
+        OrderIntake third = intakeService.getTicket(tickets.get(2).getId(), testUserId);
+        assertThat(first.getStatus()).isEqualTo(OrderIntakeStatus.COMPLETED);
+        assertThat(second.getStatus()).isEqualTo(OrderIntakeStatus.COMPLETED);
+        assertThat(orderRepository.findById(first.getOrderId()).orElseThrow().getStatus())
+                .isEqualTo(OrderStatus.CREATED);
+        assertThat(third.getStatus()).isEqualTo(OrderIntakeStatus.FAILED);
+        assertThat(third.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_INVENTORY.getCode());
+        assertThat(orderRepository.count()).isEqualTo(2L);
+        Inventory inventory = inventoryService.getByProductId(product.getId());
+        assertThat(inventory.getQuantityReserved()).isEqualTo(2L);
+
+        // Then: 처리된 만큼 다시 접수 가능
+        assertThat(intakeService.submit(testUserId, items(product), false)).isPresent();
+        intakeService.drain();
+    }
+
+    @Test
+    void 대기표는_접수한_사용자만_조회() {
+        // Given
+        Product product = createProduct("Intake Product", 1000L);
+        OrderIntake ticket = submit(product);
+
+        // When & Then
+        assertThat(intakeService.getTicket(ticket.getId(), testUserId).getStatus())
+                .isEqualTo(OrderIntakeStatus.PENDING);
+        assertThatThrownBy(() -> intakeService.getTicket(ticket.getId(), otherUserId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_INTAKE_NOT_FOUND);
+        intakeService.drain();
+    }
+
+    @Test
+    void 다른노드가_처리한_접수는_drain후_처리대기건수에서_빠짐() {
+        // Given: 처리 대기 3건 = capacity
+        Product product = createProduct("Intake Product", 1000L);
+        List<OrderIntake> tickets = List.of(submit(product), submit(product), submit(product));
+
+        // When: 다른 노드가 모두 처리 (이 노드의 건수는 그대로)
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> tickets.forEach(ticket ->
+                intakeRepository.markFailed(ticket.getId(), ErrorCode.INTERNAL_SERVER_ERROR.getCode(),
+                        "processed elsewhere", Instant.now())));
+
+        // Then: drain 전에는 거절, drain이 DB 기준으로 다시 맞춘 뒤 접수 가능
+        assertThat(intakeService.submit(testUserId, items(product), false)).isEmpty();
+        assertThat(intakeService.drain()).isZero();
+        assertThat(intakeService.submit(testUserId, items(product), false)).isPresent();
+        intakeService.drain();
+    }
+
+    @Test
+    void 락대기초과_접수는_PENDING으로_남고_다음drain에서_처리() throws Exception {
+        // Given: 다른 트랜잭션이 재고 row 락을 잡고 있는 동안 접수 1건
+        Product product = createProduct("Intake Product", 1000L);
+        inventoryService.addStock(product.getId(), 1L);
+        OrderIntake ticket = submit(product);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch drained = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> {
+                    inventoryRepository.findByProductIdWithLock(product.getId());
+                    locked.countDown();
+                    try {
+                        drained.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        locked.await();
+
+        // When: 락 대기 초과로 주문 생성 실패
+        try {
+            intakeService.drain();
+        } finally {
+            drained.countDown();
+            holder.get();
+            executor.shutdown();
+        }
+
+        // Then: 실패로 확정하지 않고 시도 횟수만 기록
+        OrderIntake retried = intakeService.getTicket(ticket.getId(), testUserId);
+        assertThat(retried.getStatus()).isEqualTo(OrderIntakeStatus.PENDING);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(orderRepository.count()).isZero();
+
+        // When: 락이 풀린 뒤 다음 drain
+        intakeService.drain();
+
+        // Then
+        OrderIntake completed = intakeService.getTicket(ticket.getId(), testUserId);
+        assertThat(completed.getStatus()).isEqualTo(OrderIntakeStatus.COMPLETED);
+        assertThat(orderRepository.count()).isEqualTo(1L);
+    }
+
+    @Test
+    void 보관기간_지난_처리완료_접수만_삭제() {
+        // Given: 오래전 처리된 접수 2건, 최근 처리된 접수 1건, 처리 대기 1건
+        Instant old = Instant.now().minus(Duration.ofDays(2));
+        OrderIntake oldCompleted = intakeRepository.save(processed(OrderIntakeStatus.COMPLETED, old));
+        OrderIntake oldFailed = intakeRepository.save(processed(OrderIntakeStatus.FAILED, old));
+        OrderIntake recent = intakeRepository.save(processed(OrderIntakeStatus.COMPLETED, Instant.now()));
+        OrderIntake pending = intakeRepository.save(OrderIntake.builder()
+                .userId(testUserId)
+                .items("1:1")
+                .status(OrderIntakeStatus.PENDING)
+                .createdAt(old)
+                .build());
+
+        // When
+        int purged = intakeService.purgeProcessed();
+
+        // Then
+        assertThat(purged).isEqualTo(2);
+        assertThat(intakeRepository.existsById(oldCompleted.getId())).isFalse();
+        assertThat(intakeRepository.existsById(oldFailed.getId())).isFalse();
+        assertThat(intakeRepository.existsById(recent.getId())).isTrue();
+        assertThat(intakeRepository.existsById(pending.getId())).isTrue();
+        intakeRepository.deleteById(pending.getId());
+    }
+
+    private OrderIntake processed(OrderIntakeStatus status, Instant processedAt) {
+        return OrderIntake.builder()
+                .userId(testUserId)
+                .items("1:1")
+                .status(status)
+                .createdAt(processedAt)
+                .processedAt(processedAt)
+                .build();
+    }
+
+    private OrderIntake submit(Product product) {
+        Optional<OrderIntake> ticket = intakeService.submit(testUserId, items(product), false);
+        assertThat(ticket).isPresent();
+        return ticket.get();
+    }
+
+    private List<OrderItemRequest> items(Product product) {
+        return List.of(new OrderItemRequest(product.getId(), 1L));
+    }
+
+    private Product createProduct(String name, Long price) {
+        Product product = Product.builder()
+                .name(name)
+                .description("Test Description")
+                .unitPrice(price)
+                .status(ProductStatus.ACTIVE)
+                .build();
+        Product saved = productRepository.save(product);
+        inventoryService.initializeInventory(saved.getId());
+        return saved;
+    }
+}
@@ -0,0 +1,163 @@
+package com.minishop.project.minishop.order.service;
+
+import com.minishop.project.minishop.common.QueryCounter;
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryReservationRepository;
+import com.minishop.project.minishop.inventory.service.InventoryService;
+import com.minishop.project.minishop.order.domain.Order;
+import com.minishop.project.minishop.order.dto.OrderItemRequest;
+import com.minishop.project.minishop.order.dto.OrderPageResponse;
+import com.minishop.project.minishop.order.dto.OrderResponse;
+import com.minishop.project.minishop.order.dto.OrderSummaryPageResponse;
+import com.minishop.project.minishop.order.repository.OrderRepository;
+import com.minishop.project.minishop.order.repository.OrderSummaryRepository;
+import com.minishop.project.minishop.product.domain.Product;
+import com.minishop.project.minishop.product.domain.ProductStatus;
+import com.minishop.project.minishop.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 조회 쿼리 수 테스트
+ * - 응답 변환(항목 접근)까지 포함해 페이지 크기와 무관하게 쿼리 수가 고정
+ * - 주문 요약 목록은 요약 테이블 조회 1회 (주문 항목 조회 없음)
+ * - 주문 생성 시 상품 조회는 라인 수와 무관하게 1회
+ */
+@SpringBootTest(properties = QueryCounter.ENABLED)
+class OrderQueryCountTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSummaryRepository summaryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryReservationRepository reservationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Long testUserId = 999L;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Product first = createProduct("First", 1000L);
+        Product second = createProduct("Second", 2000L);
+        inventoryService.addStock(first.getId(), 100L);
+        inventoryService.addStock(second.getId(), 100L);
+        for (int i = 0; i < 30; i++) {
+            orderService.createOrder(testUserId, List.of(
+                    new OrderItemRequest(first.getId(), 1L),
+                    new OrderItemRequest(second.getId(), 1L)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        summaryRepository.deleteAll();
+        orderRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void 주문내역_페이지크기와_무관하게_쿼리2회() {
+        // When & Then: 주문 조회 1 + 항목 일괄 조회 1
+        for (int size : new int[]{5, 30}) {
+            long queries = QueryCounter.count(() -> readOnly.executeWithoutResult(status -> {
+                OrderPageResponse page = OrderPageResponse.from(orderService.getOrderHistory(testUserId, null, size));
+                assertThat(page.getOrders()).hasSize(size)
+                        .allSatisfy(order -> assertThat(order.getItems()).hasSize(2));
+            }));
+            assertThat(queries).as("page size %d", size).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    void 주문목록_상세_항목함께조회() {
+        // When & Then: 전체 목록과 상세 모두 쿼리 1회
+        QueryCounter.assertQueryCountAtMost(1, () -> readOnly.executeWithoutResult(status ->
+                assertThat(orderService.getOrdersByUser(testUserId).stream().map(OrderResponse::from))
+                        .hasSize(30)));
+
+        Long orderId = orderRepository.findByUserId(testUserId).get(0).getId();
+        QueryCounter.assertQueryCountAtMost(1, () -> readOnly.executeWithoutResult(status ->
+                assertThat(OrderResponse.from(orderService.getOrder(orderId, testUserId)).getItems())
+                        .hasSize(2)));
+    }
+
+    @Test
+    void 주문요약_목록_항목조회없이_쿼리1회() {
+        // When
+        List<String> statements = QueryCounter.statements(() -> readOnly.executeWithoutResult(status ->
+                assertThat(OrderSummaryPageResponse.from(orderService.getOrderSummaries(testUserId, null, 30))
+                        .getOrders())
+                        .hasSize(30)
+                        .allSatisfy(summary -> assertThat(summary.getItemCount()).isEqualTo(2))));
+
+        // Then
+        assertThat(statements).hasSize(1);
+        assertThat(statements).noneMatch(sql -> sql.contains("order_items"));
+    }
+
+    @Test
+    void 주문생성_상품조회_라인수와_무관하게_1회() {
+        // Given: 상품 20개, 중복 라인 포함 21줄
+        List<OrderItemRequest> lines = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Product product = createProduct("Cart " + i, 100L);
+            inventoryService.addStock(product.getId(), 10L);
+            lines.add(new OrderItemRequest(product.getId(), 1L));
+        }
+        lines.add(new OrderItemRequest(lines.get(0).getProductId(), 2L));
+
+        // When
+        List<String> statements = QueryCounter.statements(() -> {
+            Order order = orderService.createOrder(testUserId, lines);
+            assertThat(order.getOrderItems()).hasSize(20);
+        });
+
+        // Then
+        assertThat(statements).filteredOn(sql -> sql.contains("from products")).hasSize(1);
+    }
+
+    private Product createProduct(String name, Long price) {
+        Product product = Product.builder()
+                .name(name)
+                .description("Test Description")
+                .unitPrice(price)
+                .status(ProductStatus.ACTIVE)
+                .build();
+        Product saved = productRepository.save(product);
+        inventoryService.initializeInventory(saved.getId());
+        return saved;
+    }
+}
@@ -3,10 +3,15 @@ package com.minishop.project.minishop.order.service;
 import com.minishop.project.minishop.common.exception.BusinessException;
 import com.minishop.project.minishop.common.exception.ErrorCode;
 import com.minishop.project.minishop.inventory.domain.Inventory;
+import com.minishop.project.minishop.inventory.domain.InventoryReservation;
 import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryReservationRepository;
 import com.minishop.project.minishop.inventory.service.InventoryService;
 import com.minishop.project.minishop.order.domain.Order;
+import com.minishop.project.minishop.order.domain.OrderPage;
 import com.minishop.project.minishop.order.domain.OrderStatus;
+import com.minishop.project.minishop.order.domain.OrderSummary;
+import com.minishop.project.minishop.order.domain.OrderSummaryPage;
 import com.minishop.project.minishop.order.dto.OrderItemRequest;
 import com.minishop.project.minishop.order.repository.OrderRepository;
 import com.minishop.project.minishop.product.domain.Product;
@@ -18,7 +23,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -47,6 +56,9 @@ class OrderServiceTest {
     @Autowired
     private InventoryRepository inventoryRepository;
 
+    @Autowired
+    private InventoryReservationRepository reservationRepository;
+
     private Long testUserId = 999L;
     private Long otherUserId = 888L;
 
@@ -136,6 +148,40 @@ class OrderServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_NOT_FOUND);
     }
 
+    @Test
+    void createOrder_판매중지상품_예외발생() {
+        // Given
+        Product product = createProduct("Inactive Product", 10000L);
+        inventoryService.addStock(product.getId(), 10L);
+        product.deactivate();
+        productRepository.save(product);
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.createOrder(testUserId, List.of(
+                new OrderItemRequest(product.getId(), 1L)
+        )))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PRODUCT_NOT_ACTIVE);
+    }
+
+    @Test
+    void createOrder_중복상품라인_하나의항목으로합산() {
+        // Given
+        Product product = createProduct("Test Product", 1000L);
+        inventoryService.addStock(product.getId(), 10L);
+
+        // When
+        Order order = orderService.createOrder(testUserId, List.of(
+                new OrderItemRequest(product.getId(), 2L),
+                new OrderItemRequest(product.getId(), 3L)
+        ));
+
+        // Then
+        assertThat(order.getOrderItems()).singleElement()
+                .satisfies(item -> assertThat(item.getQuantity()).isEqualTo(5L));
+        assertThat(order.getTotalAmount()).isEqualTo(5000L);
+    }
+
     @Test
     void createOrder_아이템없음_예외발생() {
         // When & Then
@@ -336,6 +382,78 @@ class OrderServiceTest {
         assertThat(unchangedOrder.getStatus()).isEqualTo(OrderStatus.PAID);
     }
 
+    // ============================================
+    // 재고 예약 내역 테스트
+    // ============================================
+
+    @Test
+    void createOrder_주문별_예약내역_기록됨() {
+        // Given
+        Product product1 = createProduct("Product A", 1000L);
+        Product product2 = createProduct("Product B", 2000L);
+        inventoryService.addStock(product1.getId(), 100L);
+        inventoryService.addStock(product2.getId(), 50L);
+
+        // When: 중복 상품 라인은 하나의 예약 내역으로 합산
+        Order order = orderService.createOrder(testUserId, List.of(
+                new OrderItemRequest(product1.getId(), 3L),
+                new OrderItemRequest(product2.getId(), 2L),
+                new OrderItemRequest(product1.getId(), 1L)
+        ));
+
+        // Then
+        List<InventoryReservation> holds = reservationRepository.findByOrderId(order.getId());
+        assertThat(holds).hasSize(2);
+        assertThat(holds).extracting(InventoryReservation::getProductId, InventoryReservation::getQuantity)
+                .containsExactlyInAnyOrder(
+                        tuple(product1.getId(), 4L),
+                        tuple(product2.getId(), 2L));
+        assertThat(holds).allMatch(hold ->
+                hold.getExpiresAt().equals(order.getCreatedAt().plus(Duration.ofMinutes(30))));
+    }
+
+    @Test
+    void cancelOrder_예약내역_삭제되고_중복해제안됨() {
+        // Given
+        Product product = createProduct("Test Product", 10000L);
+        inventoryService.addStock(product.getId(), 10L);
+        Order order = orderService.createOrder(testUserId, List.of(
+                new OrderItemRequest(product.getId(), 5L)
+        ));
+
+        // When: 취소 후 동일 주문 해제 재요청
+        orderService.cancelOrder(order.getId(), testUserId);
+        inventoryService.releaseByOrder(order.getId());
+
+        // Then: 한 번만 해제됨
+        assertThat(reservationRepository.findByOrderId(order.getId())).isEmpty();
+        Inventory inventory = inventoryService.getByProductId(product.getId());
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(10L);
+        assertThat(inventory.getQuantityReserved()).isEqualTo(0L);
+    }
+
+    @Test
+    void markAsPaid_예약내역_만료대상에서_제외됨() {
+        // Given
+        Product product = createProduct("Test Product", 10000L);
+        inventoryService.addStock(product.getId(), 10L);
+        Order paidOrder = orderService.createOrder(testUserId, List.of(
+                new OrderItemRequest(product.getId(), 2L)
+        ));
+        Order pendingOrder = orderService.createOrder(testUserId, List.of(
+                new OrderItemRequest(product.getId(), 3L)
+        ));
+
+        // When
+        orderService.markAsPaid(paidOrder.getId());
+
+        // Then: 만료 시각 이후 조회 시 결제 대기 주문만 대상
+        List<Long> expiredOrderIds = inventoryService.findOrderIdsWithExpiredHolds(
+                Instant.now().plus(Duration.ofHours(1)), 100);
+        assertThat(expiredOrderIds).contains(pendingOrder.getId());
+        assertThat(expiredOrderIds).doesNotContain(paidOrder.getId());
+    }
+
     // ============================================
     // OrderItem 스냅샷 통합 테스트
     // ============================================
@@ -384,6 +502,78 @@ class OrderServiceTest {
         assertThat(userOrders).allMatch(order -> order.getUserId().equals(testUserId));
     }
 
+    @Test
+    void getOrderHistory_커서로_최신순_이어서조회() {
+        // Given: 본인 주문 5건, 다른 사용자 주문 1건
+        Product product = createProduct("Test Product", 10000L);
+        inventoryService.addStock(product.getId(), 100L);
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            orderIds.add(orderService.createOrder(testUserId,
+                    List.of(new OrderItemRequest(product.getId(), 1L))).getId());
+        }
+        orderService.createOrder(otherUserId, List.of(new OrderItemRequest(product.getId(), 1L)));
+
+        // When: 2건씩 조회
+        OrderPage first = orderService.getOrderHistory(testUserId, null, 2);
+        OrderPage second = orderService.getOrderHistory(testUserId, first.getNext().encode(), 2);
+        OrderPage last = orderService.getOrderHistory(testUserId, second.getNext().encode(), 2);
+
+        // Then: 최신순으로 빠짐/중복 없이 이어짐, 마지막 페이지는 next 없음
+        List<Long> pagedIds = Stream.of(first, second, last)
+                .flatMap(page -> page.getOrders().stream())
+                .map(Order::getId)
+                .toList();
+        assertThat(pagedIds).containsExactlyElementsOf(orderIds.reversed());
+        assertThat(last.getOrders()).hasSize(1);
+        assertThat(last.getNext()).isNull();
+    }
+
+    @Test
+    void getOrderHistory_잘못된커서_페이지크기초과_예외발생() {
+        assertThatThrownBy(() -> orderService.getOrderHistory(testUserId, "not-a-cursor", 10))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> orderService.getOrderHistory(testUserId, null, 101))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    @Test
+    void 주문요약_생성시_저장_상태변경시_갱신() {
+        // Given
+        Product first = createProduct("First Product", 1000L);
+        Product second = createProduct("Second Product", 2000L);
+        inventoryService.addStock(first.getId(), 10L);
+        inventoryService.addStock(second.getId(), 10L);
+        Order older = orderService.createOrder(testUserId, List.of(new OrderItemRequest(second.getId(), 1L)));
+        Order order = orderService.createOrder(testUserId, List.of(
+                new OrderItemRequest(first.getId(), 2L),
+                new OrderItemRequest(second.getId(), 1L)));
+
+        // When
+        orderService.cancelOrder(order.getId(), testUserId);
+
+        // Then: 요약에 생성 시 값 + 변경된 상태
+        OrderSummary summary = orderService.getOrderSummary(order.getId(), testUserId);
+        assertThat(summary.getStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(summary.getTotalAmount()).isEqualTo(4000L);
+        assertThat(summary.getItemCount()).isEqualTo(2);
+        assertThat(summary.getFirstItemName()).isEqualTo("First Product");
+
+        // Then: 요약 목록은 주문 내역과 같은 커서로 최신순 페이지
+        OrderSummaryPage page = orderService.getOrderSummaries(testUserId, null, 1);
+        assertThat(page.getSummaries()).extracting(OrderSummary::getOrderId).containsExactly(order.getId());
+        OrderSummaryPage next = orderService.getOrderSummaries(testUserId, page.getNext().encode(), 1);
+        assertThat(next.getSummaries()).extracting(OrderSummary::getOrderId).containsExactly(older.getId());
+        assertThat(next.getNext()).isNull();
+
+        // Then: 다른 사용자 요약은 조회 불가
+        assertThatThrownBy(() -> orderService.getOrderSummary(order.getId(), otherUserId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_NOT_FOUND);
+    }
+
     // ============================================
     // Helper Methods
     // ============================================
@@ -0,0 +1,118 @@
+package com.minishop.project.minishop.order.service;
+
+import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryReservationRepository;
+import com.minishop.project.minishop.inventory.service.InventoryService;
+import com.minishop.project.minishop.order.domain.Order;
+import com.minishop.project.minishop.order.domain.OrderStatus;
+import com.minishop.project.minishop.order.domain.OrderSummary;
+import com.minishop.project.minishop.order.dto.OrderItemRequest;
+import com.minishop.project.minishop.order.repository.OrderRepository;
+import com.minishop.project.minishop.order.repository.OrderSummaryRepository;
+import com.minishop.project.minishop.product.domain.Product;
+import com.minishop.project.minishop.product.domain.ProductStatus;
+import com.minishop.project.minishop.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 요약 채우기 테스트
+ * - 요약이 없는 주문만 chunk 단위로 주문/항목에서 생성 (종료 상태 주문 포함)
+ * - 이미 요약이 있는 주문은 그대로
+ */
+@SpringBootTest(properties = {
+        "order.summary.backfill.chunk-size=2"
+})
+class OrderSummaryBackfillServiceTest {
+
+    @Autowired
+    private OrderSummaryBackfillService backfillService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSummaryRepository summaryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryReservationRepository reservationRepository;
+
+    private final Long testUserId = 999L;
+
+    @AfterEach
+    void tearDown() {
+        summaryRepository.deleteAll();
+        reservationRepository.deleteAll();
+        orderRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void 요약없는_주문만_주문테이블에서_채움() {
+        // Given: 요약 없는 주문 3건 (chunk 2건씩 두 번, 1건은 취소), 요약 있는 주문 1건
+        Product first = createProduct("First Product", 1000L);
+        Product second = createProduct("Second Product", 2000L);
+        inventoryService.addStock(first.getId(), 10L);
+        inventoryService.addStock(second.getId(), 10L);
+
+        List<Order> missing = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            missing.add(orderService.createOrder(testUserId, List.of(
+                    new OrderItemRequest(first.getId(), 1L),
+                    new OrderItemRequest(second.getId(), 2L))));
+        }
+        orderService.cancelOrder(missing.get(0).getId(), testUserId);
+        Order kept = orderService.createOrder(testUserId, List.of(new OrderItemRequest(second.getId(), 1L)));
+        missing.forEach(order -> summaryRepository.deleteById(order.getId()));
+
+        // When
+        int backfilled = backfillService.backfill();
+
+        // Then
+        assertThat(backfilled).isEqualTo(3);
+        OrderSummary canceled = summaryRepository.findById(missing.get(0).getId()).orElseThrow();
+        assertThat(canceled.getStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(canceled.getUserId()).isEqualTo(testUserId);
+        assertThat(canceled.getTotalAmount()).isEqualTo(5000L);
+        assertThat(canceled.getItemCount()).isEqualTo(2);
+        assertThat(canceled.getFirstItemName()).isEqualTo("First Product");
+        assertThat(summaryRepository.findById(kept.getId()).orElseThrow().getFirstItemName())
+                .isEqualTo("Second Product");
+        assertThat(summaryRepository.count()).isEqualTo(4L);
+
+        // When: 남은 대상 없음
+        assertThat(backfillService.backfill()).isZero();
+    }
+
+    private Product createProduct(String name, Long price) {
+        Product product = Product.builder()
+                .name(name)
+                .description("Test Description")
+                .unitPrice(price)
+                .status(ProductStatus.ACTIVE)
+                .build();
+        Product saved = productRepository.save(product);
+        inventoryService.initializeInventory(saved.getId());
+        return saved;
+    }
+}
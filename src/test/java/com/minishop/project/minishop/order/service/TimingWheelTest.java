@@ -0,0 +1,83 @@
+package com.minishop.project.minishop.order.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 계층형 타이밍 휠 테스트
+ * - 단계(슬롯 4개 × 3단계 = 64 tick)와 overflow에 걸친 항목이 정확히 만료 tick에 반환
+ * - 취소된 항목은 반환되지 않고, 다시 등록하면 새 만료 tick 적용
+ * - 이미 지난 만료 tick은 다음 tick에 반환
+ */
+class TimingWheelTest {
+
+    @Test
+    void 단계와_overflow에_걸친_항목_정확히_만료tick에_반환() {
+        // Given: 시작 tick 5 기준 1단계(8), 2단계(22, 45), overflow(68, 155)
+        TimingWheel wheel = new TimingWheel(4, 3, 5L);
+        Map<Long, Long> deadlines = Map.of(1L, 8L, 2L, 22L, 3L, 45L, 4L, 68L, 5L, 155L);
+        deadlines.forEach((id, tick) -> wheel.add(id, tick));
+
+        // When: 한 tick씩 진행
+        Map<Long, Long> firedAt = new HashMap<>();
+        for (long tick = 6L; tick <= 200L; tick++) {
+            for (Long id : wheel.advance(tick)) {
+                firedAt.put(id, tick);
+            }
+        }
+
+        // Then
+        assertThat(firedAt).isEqualTo(deadlines);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void 여러tick_한번에_진행해도_지난항목_모두반환() {
+        // Given
+        TimingWheel wheel = new TimingWheel(4, 3, 0L);
+        wheel.add(1L, 10L);
+        wheel.add(2L, 30L);
+        wheel.add(3L, 31L);
+
+        // When & Then
+        assertThat(wheel.advance(30L)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(wheel.advance(31L)).containsExactly(3L);
+    }
+
+    @Test
+    void 취소된항목_반환안됨_재등록시_새만료tick() {
+        // Given
+        TimingWheel wheel = new TimingWheel(4, 3, 0L);
+        wheel.add(1L, 10L);
+        wheel.add(2L, 10L);
+        wheel.add(3L, 10L);
+
+        // When
+        assertThat(wheel.remove(1L)).isTrue();
+        assertThat(wheel.remove(1L)).isFalse();
+        wheel.add(2L, 20L);
+
+        // Then
+        assertThat(wheel.advance(10L)).containsExactly(3L);
+        assertThat(wheel.advance(20L)).containsExactly(2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void 지난만료tick_등록시_다음tick에_반환() {
+        // Given
+        TimingWheel wheel = new TimingWheel(4, 3, 100L);
+
+        // When
+        wheel.add(1L, 50L);
+
+        // Then
+        assertThat(wheel.advance(100L)).isEmpty();
+        assertThat(wheel.advance(101L)).isEqualTo(List.of(1L));
+    }
+}
@@ -0,0 +1,127 @@
+package com.minishop.project.minishop.order.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주문 대기열 테스트
+ * - 남은 재고에서 미사용 입장 수를 뺀 만큼 FIFO 입장
+ * - 대기표는 한 번만 사용
+ * - 입장 기간이 지나면 재고 계산에서 빠지고 대기표 무효
+ * - 사용자당 대기표 1장 (재시도는 같은 대기표, 토큰은 순번과 무관)
+ */
+class WaitingRoomQueueTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(30);
+
+    @Test
+    void 남은재고만큼_발급순서대로_입장() {
+        // Given: 대기표 5장, 재고 3개
+        WaitingRoomQueue queue = new WaitingRoomQueue();
+        for (int i = 0; i < 5; i++) {
+            queue.issue();
+        }
+        Instant now = Instant.now();
+
+        // When
+        long admitted = queue.admitNextBatch(3L, 100L, now, WINDOW);
+
+        // Then: 1~3번 입장, 4번은 1순번 대기
+        assertThat(admitted).isEqualTo(3L);
+        assertThat(queue.position(3L)).isZero();
+        assertThat(queue.position(4L)).isEqualTo(1L);
+        assertThat(queue.waiting()).isEqualTo(2L);
+
+        // 미사용 입장 3장이 재고 3개를 차지하므로 추가 입장 없음
+        assertThat(queue.admitNextBatch(3L, 100L, now, WINDOW)).isZero();
+    }
+
+    @Test
+    void 대기표는_한번만_사용() {
+        // Given
+        WaitingRoomQueue queue = new WaitingRoomQueue();
+        long ticket = queue.issue();
+        queue.admitNextBatch(10L, 100L, Instant.now(), WINDOW);
+
+        // When & Then
+        assertThat(queue.redeem(ticket)).isTrue();
+        assertThat(queue.redeem(ticket)).isFalse();
+        assertThat(queue.isRedeemable(ticket)).isFalse();
+        assertThat(queue.outstanding()).isZero();
+    }
+
+    @Test
+    void 입장기간_지나면_대기표무효_다음대기표_입장() {
+        // Given: 재고 1개, 대기표 2장
+        WaitingRoomQueue queue = new WaitingRoomQueue();
+        long first = queue.issue();
+        long second = queue.issue();
+        Instant start = Instant.now();
+        queue.admitNextBatch(1L, 100L, start, WINDOW);
+
+        // When: 첫 번째 대기표가 기간 내 사용되지 않음
+        long admitted = queue.admitNextBatch(1L, 100L, start.plus(WINDOW).plusSeconds(1), WINDOW);
+
+        // Then
+        assertThat(admitted).isEqualTo(1L);
+        assertThat(queue.isRedeemable(first)).isFalse();
+        assertThat(queue.redeem(second)).isTrue();
+    }
+
+    @Test
+    void 같은사용자_재시도는_같은대기표() {
+        // Given
+        WaitingRoomQueue queue = new WaitingRoomQueue();
+        WaitingRoomQueue.Ticket first = queue.ticketFor(1L);
+
+        // When
+        WaitingRoomQueue.Ticket retried = queue.ticketFor(1L);
+        WaitingRoomQueue.Ticket other = queue.ticketFor(2L);
+
+        // Then: 재시도는 대기표를 늘리지 않고, 토큰은 순번을 드러내지 않음
+        assertThat(retried).isEqualTo(first);
+        assertThat(other.sequence()).isEqualTo(first.sequence() + 1);
+        assertThat(other.token()).isNotEqualTo(first.token());
+        assertThat(first.token()).isNotEqualTo(String.valueOf(first.sequence()));
+        assertThat(queue.waiting()).isEqualTo(2L);
+    }
+
+    @Test
+    void 사용한_대기표는_사용자에게서_떨어지고_다음주문은_새로_줄섬() {
+        // Given
+        WaitingRoomQueue queue = new WaitingRoomQueue();
+        WaitingRoomQueue.Ticket ticket = queue.ticketFor(1L);
+        queue.admitNextBatch(10L, 100L, Instant.now(), WINDOW);
+
+        // When
+        boolean redeemed = queue.redeem(1L, ticket);
+
+        // Then: 같은 대기표 재사용 불가, 다음 요청은 새 대기표
+        assertThat(redeemed).isTrue();
+        assertThat(queue.redeem(1L, ticket)).isFalse();
+        WaitingRoomQueue.Ticket next = queue.ticketFor(1L);
+        assertThat(next.sequence()).isGreaterThan(ticket.sequence());
+        assertThat(queue.position(next.sequence())).isEqualTo(1L);
+    }
+
+    @Test
+    void 입장기간_지난_사용자는_새대기표() {
+        // Given
+        WaitingRoomQueue queue = new WaitingRoomQueue();
+        WaitingRoomQueue.Ticket ticket = queue.ticketFor(1L);
+        Instant start = Instant.now();
+        queue.admitNextBatch(1L, 100L, start, WINDOW);
+
+        // When: 기간 내 사용하지 않음
+        queue.admitNextBatch(1L, 100L, start.plus(WINDOW).plusSeconds(1), WINDOW);
+        WaitingRoomQueue.Ticket reissued = queue.ticketFor(1L);
+
+        // Then
+        assertThat(reissued.sequence()).isGreaterThan(ticket.sequence());
+        assertThat(queue.redeem(1L, ticket)).isFalse();
+    }
+}
@@ -3,6 +3,7 @@ package com.minishop.project.minishop.payment.service;
 import com.minishop.project.minishop.common.exception.BusinessException;
 import com.minishop.project.minishop.common.exception.ErrorCode;
 import com.minishop.project.minishop.inventory.repository.InventoryRepository;
+import com.minishop.project.minishop.inventory.repository.InventoryReservationRepository;
 import com.minishop.project.minishop.inventory.service.InventoryService;
 import com.minishop.project.minishop.order.domain.Order;
 import com.minishop.project.minishop.order.dto.OrderItemRequest;
@@ -56,6 +57,9 @@ class PaymentIdempotencyTest {
     @Autowired
     private InventoryRepository inventoryRepository;
 
+    @Autowired
+    private InventoryReservationRepository reservationRepository;
+
     @Autowired
     private ProductRepository productRepository;
 
@@ -88,6 +92,7 @@ class PaymentIdempotencyTest {
         // 동시성 테스트는 @Transactional 사용 안 하므로 수동 정리
         paymentRepository.deleteAll();
         orderRepository.deleteAll();
+        reservationRepository.deleteAll();
         inventoryRepository.deleteAll();
         productRepository.deleteAll();
     }
@@ -316,6 +316,32 @@ class PaymentServiceTest {
         assertThat(inventory2.getQuantityReserved()).isEqualTo(0L);
     }
 
+    @Test
+    void processPayment_결제실패후_재결제_거절() {
+        // Given: 결제 실패로 예약이 해제되고 취소된 주문
+        Product product = createProduct("Test Product", 10000L);
+        inventoryService.addStock(product.getId(), 10L);
+        Order order = orderService.createOrder(testUserId, List.of(
+                new OrderItemRequest(product.getId(), 5L)
+        ));
+        testGateway.setShouldFail(true);
+        paymentService.processPayment(testUserId, order.getId(), "key-1");
+
+        // When & Then: 다른 키로 재결제 시도
+        testGateway.setShouldFail(false);
+        assertThatThrownBy(() ->
+                paymentService.processPayment(testUserId, order.getId(), "key-2"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_ORDER_STATUS)
+                .hasMessageContaining("Order must be in CREATED status");
+
+        // Then: 주문은 취소 상태로 남고 재고도 그대로
+        assertThat(orderService.getOrderById(order.getId()).getStatus()).isEqualTo(OrderStatus.CANCELED);
+        Inventory inventory = inventoryService.getByProductId(product.getId());
+        assertThat(inventory.getQuantityAvailable()).isEqualTo(10L);
+        assertThat(inventory.getQuantityReserved()).isEqualTo(0L);
+    }
+
     // ============================================
     // 소유권 테스트
     // ============================================
@@ -476,7 +502,7 @@ class PaymentServiceTest {
     }
 
     @Test
-    void processPayment_실패시_Order상태_CREATED유지() {
+    void processPayment_실패시_Order취소() {
         // Given
         Product product = createProduct("Test Product", 10000L);
         inventoryService.addStock(product.getId(), 10L);
@@ -490,9 +516,10 @@ class PaymentServiceTest {
         // When: 결제 실패
         paymentService.processPayment(testUserId, order.getId(), "key");
 
-        // Then: Order 상태는 CREATED 유지 (PAID로 전이 안 됨)
-        Order unchangedOrder = orderService.getOrderById(order.getId());
-        assertThat(unchangedOrder.getStatus()).isEqualTo(OrderStatus.CREATED);
+        // Then: Order는 PAID로 전이되지 않고 취소됨 (만료 대상에 남지 않음)
+        Order canceledOrder = orderService.getOrderById(order.getId());
+        assertThat(canceledOrder.getStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(inventoryService.holdsReservation(order.getId())).isFalse();
     }
 
     // ============================================
@@ -0,0 +1,80 @@
+package com.minishop.project.minishop.refund.service;
+
+import com.minishop.project.minishop.common.QueryCounter;
+import com.minishop.project.minishop.refund.domain.Refund;
+import com.minishop.project.minishop.refund.domain.RefundItem;
+import com.minishop.project.minishop.refund.domain.RefundStatus;
+import com.minishop.project.minishop.refund.dto.RefundResponse;
+import com.minishop.project.minishop.refund.repository.RefundRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 환불 조회 쿼리 수 테스트
+ * - 목록/상세 모두 항목을 함께 조회해 건수와 무관하게 쿼리 1회
+ */
+@SpringBootTest(properties = QueryCounter.ENABLED)
+class RefundQueryCountTest {
+
+    @Autowired
+    private RefundService refundService;
+
+    @Autowired
+    private RefundRepository refundRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Long testUserId = 999L;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        for (long i = 1; i <= 20; i++) {
+            refundRepository.save(Refund.create(testUserId, i, i, List.of(
+                    RefundItem.create(i * 10, 1L, "First", 1000L, 1L),
+                    RefundItem.create(i * 10 + 1, 2L, "Second", 2000L, 1L)), "reason"));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        refundRepository.deleteAll();
+    }
+
+    @Test
+    void 환불목록_건수와_무관하게_쿼리1회() {
+        QueryCounter.assertQueryCountAtMost(1, () -> readOnly.executeWithoutResult(status ->
+                assertThat(refundService.getRefundsByUser(testUserId).stream().map(RefundResponse::from))
+                        .hasSize(20)
+                        .allSatisfy(refund -> assertThat(refund.getItems()).hasSize(2))));
+
+        QueryCounter.assertQueryCountAtMost(1, () -> readOnly.executeWithoutResult(status ->
+                assertThat(refundService.getRefundsByStatus(RefundStatus.REQUESTED).stream().map(RefundResponse::from))
+                        .hasSize(20)));
+    }
+
+    @Test
+    void 환불상세_항목함께조회() {
+        Long refundId = refundRepository.findByUserId(testUserId).get(0).getId();
+
+        QueryCounter.assertQueryCountAtMost(1, () -> readOnly.executeWithoutResult(status ->
+                assertThat(RefundResponse.from(refundService.getRefund(refundId, testUserId)).getItems())
+                        .hasSize(2)));
+        QueryCounter.assertQueryCountAtMost(1, () -> readOnly.executeWithoutResult(status ->
+                assertThat(RefundResponse.from(refundService.getRefundById(refundId)).getItems())
+                        .hasSize(2)));
+    }
+}